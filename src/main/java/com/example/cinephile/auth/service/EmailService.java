@@ -14,7 +14,9 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -96,6 +98,30 @@ public class EmailService {
         }
     }
 
+    // one message for a whole batch of watchers, addressed in bcc so they do not see each other
+    public void sendShowtimeAnnouncementEmail(List<String> recipients, String movieTitle, String cinemaName,
+                                              LocalDateTime startTime) {
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(from);
+            message.setTo(from);
+            message.setBcc(recipients.toArray(String[]::new));
+            message.setSubject("Now showing: " + movieTitle);
+            message.setText(String.format(
+                    "A movie on your watchlist is coming to a cinema near you!\n\n" +
+                    "%s is now scheduled at %s, starting %s.\n\n" +
+                    "Book your seats in the Cinephile app.\n\n" +
+                    "Cinephile Team",
+                    movieTitle, cinemaName, startTime.format(DATE_TIME_FORMATTER)
+            ));
+
+            mailSender.send(message);
+            log.info("Sent showtime announcement for {} to {} watchers", movieTitle, recipients.size());
+        } catch (MailException e) {
+            log.error("Failed to send showtime announcement for {} to {} watchers", movieTitle, recipients.size(), e);
+        }
+    }
+
     private String bookingEmailContent(BookingConfirmResponse booking) {
         StringBuilder content = new StringBuilder();
         content.append("BOOKING CONFIRMATION\n");
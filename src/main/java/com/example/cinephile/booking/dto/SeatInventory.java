@@ -0,0 +1,8 @@
+package com.example.cinephile.booking.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record SeatInventory(UUID showtimeId, List<UUID> seatIds, BigDecimal price) {
+}
@@ -0,0 +1,9 @@
+package com.example.cinephile.booking.dto;
+
+import com.example.cinephile.booking.entity.SeatStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record SeatStatusView(UUID bookingSeatId, UUID seatId, BigDecimal price, SeatStatus status) {
+}
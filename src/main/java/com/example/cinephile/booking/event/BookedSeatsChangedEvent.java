@@ -0,0 +1,9 @@
+package com.example.cinephile.booking.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// seats is positive for a confirmation and negative for the cancellation of a confirmed booking;
+// confirmedAt is the time of the original confirmation in both cases
+public record BookedSeatsChangedEvent(UUID movieId, int seats, LocalDateTime confirmedAt) {
+}
@@ -18,4 +18,10 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     List<Booking> findByStatusAndExpiresAtBefore(BookingStatus bookingStatus, LocalDateTime now);
 
     Page<Booking> findAllByUser(User user, Pageable pageable);
+
+    boolean existsByShowtimeId(UUID showtimeId);
+
+    boolean existsByShowtimeScreenId(UUID screenId);
+
+    boolean existsByShowtimeCinemaId(UUID cinemaId);
 }
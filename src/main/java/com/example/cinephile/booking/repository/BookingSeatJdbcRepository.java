@@ -0,0 +1,44 @@
+package com.example.cinephile.booking.repository;
+
+import com.example.cinephile.booking.dto.SeatInventory;
+import com.fasterxml.uuid.Generators;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class BookingSeatJdbcRepository {
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_AVAILABLE_SEAT = """
+            INSERT INTO booking_seats (id, seat_id, showtime_id, status, price, created_at, updated_at)
+            VALUES (?, ?, ?, 'AVAILABLE', ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertAvailableSeats(List<SeatInventory> inventories) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (SeatInventory inventory : inventories) {
+            String showtimeId = inventory.showtimeId().toString();
+            for (UUID seatId : inventory.seatIds()) {
+                rows.add(new Object[]{
+                        Generators.timeBasedEpochGenerator().generate().toString(),
+                        seatId.toString(), showtimeId, inventory.price(), now, now
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_AVAILABLE_SEAT, rows, BATCH_SIZE, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+        return rows.size();
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.cinephile.booking.repository;
 
+import com.example.cinephile.booking.dto.SeatStatusView;
 import com.example.cinephile.booking.entity.BookingSeat;
 import com.example.cinephile.booking.entity.SeatStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import jakarta.persistence.LockModeType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,10 +35,19 @@ public interface BookingSeatRepository extends JpaRepository<BookingSeat, UUID>
     @Query("SELECT COUNT(bs) FROM BookingSeat bs WHERE bs.showtime.id = :showtimeId AND bs.status = 'AVAILABLE'")
     long countAvailableSeats(UUID showtimeId);
 
-    void deleteByShowtimeId(UUID showtimeId);
+    @Modifying
+    @Query("DELETE FROM BookingSeat bs WHERE bs.showtime.id IN :showtimeIds")
+    int deleteAllByShowtimeIdIn(Collection<UUID> showtimeIds);
 
     List<BookingSeat> findByShowtimeId(UUID showtimeId);
 
+    @Query("""
+            SELECT new com.example.cinephile.booking.dto.SeatStatusView(bs.id, bs.seat.id, bs.price, bs.status)
+            FROM BookingSeat bs
+            WHERE bs.showtime.id = :showtimeId
+            """)
+    List<SeatStatusView> findSeatStatusesByShowtimeId(UUID showtimeId);
+
     @Query("SELECT COUNT(bs) FROM BookingSeat bs WHERE bs.booking.id = :id AND bs.status = 'HELD'")
     int countHeldSeatsByBookingId(UUID id);
 }
@@ -4,6 +4,7 @@ import com.example.cinephile.auth.service.EmailService;
 import com.example.cinephile.cinema.entity.Seat;
 import com.example.cinephile.booking.dto.*;
 import com.example.cinephile.booking.entity.*;
+import com.example.cinephile.booking.event.BookedSeatsChangedEvent;
 import com.example.cinephile.booking.repository.BookingSeatRepository;
 import com.example.cinephile.booking.repository.BookingRepository;
 import com.example.cinephile.common.exception.CinephileException;
@@ -11,6 +12,7 @@ import com.example.cinephile.showtime.entity.Showtime;
 import com.example.cinephile.showtime.repository.ShowtimeRepository;
 import com.example.cinephile.user.entity.User;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -35,11 +37,13 @@ public class BookingService {
     private final BookingSeatRepository bookingSeatRepository;
     private final ShowtimeRepository showtimeRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BookingInfoResponse createBooking(UUID showtimeId, User user) {
         log.info("Creating new booking for user {} in showtime {}", user.getId(), showtimeId);
-        Showtime showtime = showtimeRepository.findById(showtimeId)
+        Showtime showtime = showtimeRepository.findByIdForShare(showtimeId)
                 .orElseThrow(() -> new CinephileException("Showtime not found", HttpStatus.NOT_FOUND));
+        requireBookable(showtime);
 
         Booking booking = new Booking();
         booking.setUser(user);
@@ -74,6 +78,7 @@ public class BookingService {
             throw new CinephileException("Booking has expired", HttpStatus.BAD_REQUEST);
         }
 
+        requireBookable(bookingSeat.getShowtime());
         if (bookingSeat.getStatus() != SeatStatus.AVAILABLE) {
             throw new CinephileException("Seat is not available", HttpStatus.CONFLICT);
         }
@@ -167,6 +172,8 @@ public class BookingService {
         booking.setStatus(BookingStatus.CONFIRMED);
         booking.setConfirmedAt(LocalDateTime.now());
         bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookedSeatsChangedEvent(
+                booking.getShowtime().getMovie().getId(), heldSeats.size(), booking.getConfirmedAt()));
         log.info("Successfully confirmed booking {} with {} seats", bookingId, heldSeats.size());
 
         List<BookedSeatDTO> bookedSeatDTOs = heldSeats.stream()
@@ -212,6 +219,11 @@ public class BookingService {
         }
 
         List<BookingSeat> bookingSeats = bookingSeatRepository.findByBookingId(bookingId);
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            int bookedSeats = (int) bookingSeats.stream().filter(seat -> seat.getStatus() == SeatStatus.BOOKED).count();
+            eventPublisher.publishEvent(new BookedSeatsChangedEvent(
+                    booking.getShowtime().getMovie().getId(), -bookedSeats, booking.getConfirmedAt()));
+        }
         bookingSeats.forEach(seat -> {
             seat.setStatus(SeatStatus.AVAILABLE);
             seat.setUser(null);
@@ -287,7 +299,11 @@ public class BookingService {
                 bookedSeats
         );
     }
-}
-
-
 
+    // deletes withdraw the showtime, screen or cinema first and remove the rows later, none can be booked meanwhile
+    private static void requireBookable(Showtime showtime) {
+        if (!showtime.isActive() || !showtime.getScreen().isActive() || !showtime.getCinema().isActive()) {
+            throw new CinephileException("Showtime is no longer available", HttpStatus.CONFLICT);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.example.cinephile.cinema.controller;
 import com.example.cinephile.cinema.dto.*;
 import com.example.cinephile.cinema.service.CinemaService;
 import com.example.cinephile.cinema.service.ScreenService;
+import com.example.cinephile.cinema.service.SeatService;
+import com.example.cinephile.common.dto.JobResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,6 +21,7 @@ import java.util.UUID;
 public class CinemaController {
     private final CinemaService cinemaService;
     private final ScreenService screenService;
+    private final SeatService seatService;
 
     // cinemas controllers
     @GetMapping
@@ -37,6 +40,12 @@ public class CinemaController {
         return ResponseEntity.ok(cinemaService.getCinemasManagedByManager());
     }
 
+    // sold, held and available seats with revenue, per showtime and per cinema, for today and tomorrow
+    @GetMapping("/managed/dashboard")
+    public ResponseEntity<ManagerDashboard> getManagerDashboard() {
+        return ResponseEntity.ok(cinemaService.getManagerDashboard());
+    }
+
     @GetMapping("/{cinemaId}")
     public ResponseEntity<CinemaResponse> getCinemaById(@PathVariable UUID cinemaId) {
         return ResponseEntity.ok(cinemaService.getCinemaById(cinemaId));
@@ -53,9 +62,8 @@ public class CinemaController {
     }
 
     @DeleteMapping("/{cinemaId}")
-    public ResponseEntity<?> deleteCinema(@PathVariable UUID cinemaId) {
-        cinemaService.deleteCinema(cinemaId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<JobResponse> deleteCinema(@PathVariable UUID cinemaId) {
+        return ResponseEntity.accepted().body(cinemaService.deleteCinema(cinemaId));
     }
 
     // screens controllers
@@ -81,9 +89,15 @@ public class CinemaController {
         return ResponseEntity.ok().build();
     }
 
+    // bulk seat types by row and column ranges, e.g. rows A-C premium and row M columns 1-4 wheelchair
+    @PatchMapping("/screens/{screenId}/seats")
+    public ResponseEntity<SeatTypesUpdated> updateSeatTypes(@PathVariable UUID screenId,
+                                                            @Valid @RequestBody UpdateSeatTypesRequest request) {
+        return ResponseEntity.ok(seatService.updateSeatTypes(screenId, request));
+    }
+
     @DeleteMapping("/screens/{screenId}")
-    public ResponseEntity<?> deleteScreen(@PathVariable UUID screenId) {
-        screenService.deleteScreen(screenId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<JobResponse> deleteScreen(@PathVariable UUID screenId) {
+        return ResponseEntity.accepted().body(screenService.deleteScreen(screenId));
     }
 }
@@ -0,0 +1,16 @@
+package com.example.cinephile.cinema.dto;
+
+import com.example.cinephile.showtime.dto.ShowtimeOccupancy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record CinemaDashboard(UUID cinemaId,
+                              String name,
+                              long sold,
+                              long held,
+                              long available,
+                              BigDecimal revenue,
+                              List<ShowtimeOccupancy> showtimes) {
+}
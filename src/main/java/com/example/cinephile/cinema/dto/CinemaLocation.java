@@ -0,0 +1,6 @@
+package com.example.cinephile.cinema.dto;
+
+import java.util.UUID;
+
+public record CinemaLocation(UUID cinemaId, String name, String address, double latitude, double longitude) {
+}
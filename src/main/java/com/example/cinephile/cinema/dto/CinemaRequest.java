@@ -1,8 +1,16 @@
 package com.example.cinephile.cinema.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 
 public record CinemaRequest(@NotBlank(message = "Name is required") String name,
                             @NotBlank(message = "Address is required") String address,
-                            @NotBlank(message = "Phone is required") String phone) {
+                            @NotBlank(message = "Phone is required") String phone,
+                            @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+                            @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+                            Double latitude,
+                            @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+                            @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+                            Double longitude) {
 }
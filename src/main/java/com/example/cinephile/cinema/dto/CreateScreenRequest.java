@@ -1,12 +1,15 @@
 package com.example.cinephile.cinema.dto;
 
+import com.example.cinephile.cinema.util.SeatLayoutGenerator;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 
+// either a full numRows x numCols rectangle of standard seats, or a layout. capacity is optional with a layout
 public record CreateScreenRequest(@NotBlank(message = "Name is required") String name,
-                                  @NotNull(message = "Capacity is required") @Min(0) Integer capacity,
-                                  @NotNull(message = "Number of rows is required") @Min(0) @Max(26) Integer numRows,
-                                  @NotNull(message = "Number of columns is required") @Min(0) @Max(40) Integer numCols) {
+                                  @Min(0) Integer capacity,
+                                  @Min(0) @Max(SeatLayoutGenerator.MAX_ROWS) Integer numRows,
+                                  @Min(0) @Max(40) Integer numCols,
+                                  @Valid ScreenLayout layout) {
 }
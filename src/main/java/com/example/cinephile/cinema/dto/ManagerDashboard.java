@@ -0,0 +1,10 @@
+package com.example.cinephile.cinema.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// occupancy of every cinema the manager owns, over the days from and to inclusive
+public record ManagerDashboard(LocalDate from,
+                               LocalDate to,
+                               List<CinemaDashboard> cinemas) {
+}
@@ -0,0 +1,11 @@
+package com.example.cinephile.cinema.dto;
+
+import java.util.UUID;
+
+public record NearbyCinemaCard(UUID cinemaId,
+                               String name,
+                               String address,
+                               double latitude,
+                               double longitude,
+                               double distanceKm) {
+}
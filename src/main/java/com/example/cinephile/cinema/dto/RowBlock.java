@@ -0,0 +1,18 @@
+package com.example.cinephile.cinema.dto;
+
+import com.example.cinephile.cinema.entity.SeatType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// `count` consecutive rows of `seats` seats, centered in the hall. curve adds that many seats to each
+// following row so the block fans out like a curved auditorium. type applies to every seat not covered
+// by a range, a range without a type is a gap with no seats
+public record RowBlock(@NotNull(message = "Row count is required") @Min(1) Integer count,
+                       @NotNull(message = "Seats per row is required") @Min(1) Integer seats,
+                       @Min(0) Integer curve,
+                       SeatType type,
+                       List<@Valid SeatRange> ranges) {
+}
@@ -0,0 +1,12 @@
+package com.example.cinephile.cinema.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+// blocks of rows from the front to the back of the hall. aisles are empty columns placed after the given seat
+// columns of the widest row, counted from the left
+public record ScreenLayout(@NotEmpty(message = "At least one row block is required") List<@Valid RowBlock> rows,
+                           List<Integer> aisles) {
+}
@@ -4,5 +4,5 @@ import com.example.cinephile.cinema.entity.SeatType;
 
 import java.util.UUID;
 
-public record SeatDTO(UUID id, String seatNumber, Character rowNumber, Integer colNumber, SeatType type) {
+public record SeatDTO(UUID id, String seatNumber, String rowNumber, Integer colNumber, SeatType type) {
 }
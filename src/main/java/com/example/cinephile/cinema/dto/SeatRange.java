@@ -0,0 +1,9 @@
+package com.example.cinephile.cinema.dto;
+
+import com.example.cinephile.cinema.entity.SeatType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+// seat positions from..to within a row, both inclusive and counted from 1 on the left
+public record SeatRange(@NotNull @Min(1) Integer from, @NotNull @Min(1) Integer to, SeatType type) {
+}
@@ -0,0 +1,178 @@
+package com.example.cinephile.cinema.dto;
+
+import com.example.cinephile.cinema.entity.SeatType;
+
+import java.util.*;
+
+// immutable layout of the active seats of a screen, shared by every showtime running on it. a seat is an
+// ordinal into parallel primitive arrays, in row then column order, so a template of thousands of seats is a
+// handful of objects. version grows with every build, a newer template always wins over an older one
+public final class SeatTemplate {
+    private static final SeatType[] TYPES = SeatType.values();
+
+    private final UUID screenId;
+    private final long version;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final int[] rowIndexes;
+    private final int[] colNumbers;
+    private final byte[] types;
+    private final String[] rowNumbers; // one shared instance per row
+    private final String[] seatNumbers;
+    private final int[] ordinalsById; // ordinals sorted by seat id, for ordinalOf
+
+    private SeatTemplate(Builder builder) {
+        int size = builder.size;
+        this.screenId = builder.screenId;
+        this.version = builder.version;
+        this.idHigh = Arrays.copyOf(builder.idHigh, size);
+        this.idLow = Arrays.copyOf(builder.idLow, size);
+        this.rowIndexes = Arrays.copyOf(builder.rowIndexes, size);
+        this.colNumbers = Arrays.copyOf(builder.colNumbers, size);
+        this.types = Arrays.copyOf(builder.types, size);
+        this.rowNumbers = Arrays.copyOf(builder.rowNumbers, size);
+        this.seatNumbers = Arrays.copyOf(builder.seatNumbers, size);
+        this.ordinalsById = sortById();
+    }
+
+    public static Builder builder(UUID screenId, long version) {
+        return new Builder(screenId, version);
+    }
+
+    public UUID screenId() {
+        return screenId;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return idHigh.length;
+    }
+
+    public UUID seatId(int ordinal) {
+        return new UUID(idHigh[ordinal], idLow[ordinal]);
+    }
+
+    public int rowIndex(int ordinal) {
+        return rowIndexes[ordinal];
+    }
+
+    public String rowNumber(int ordinal) {
+        return rowNumbers[ordinal];
+    }
+
+    public int colNumber(int ordinal) {
+        return colNumbers[ordinal];
+    }
+
+    public String seatNumber(int ordinal) {
+        return seatNumbers[ordinal];
+    }
+
+    public SeatType type(int ordinal) {
+        return TYPES[types[ordinal]];
+    }
+
+    // -1 when the seat is not part of this template
+    public int ordinalOf(UUID seatId) {
+        long high = seatId.getMostSignificantBits();
+        long low = seatId.getLeastSignificantBits();
+        int from = 0;
+        int to = ordinalsById.length - 1;
+        while (from <= to) {
+            int middle = (from + to) >>> 1;
+            int ordinal = ordinalsById[middle];
+            int order = compareId(idHigh[ordinal], idLow[ordinal], high, low);
+            if (order < 0) {
+                from = middle + 1;
+            } else if (order > 0) {
+                to = middle - 1;
+            } else {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    public List<UUID> seatIds() {
+        List<UUID> ids = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            ids.add(seatId(i));
+        }
+        return ids;
+    }
+
+    public List<SeatDTO> seats() {
+        List<SeatDTO> seats = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            seats.add(new SeatDTO(seatId(i), seatNumbers[i], rowNumbers[i], colNumbers[i], type(i)));
+        }
+        return seats;
+    }
+
+    private int[] sortById() {
+        Integer[] boxed = new Integer[size()];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> compareId(idHigh[a], idLow[a], idHigh[b], idLow[b]));
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int compareId(long highA, long lowA, long highB, long lowB) {
+        int order = Long.compare(highA, highB);
+        return order != 0 ? order : Long.compare(lowA, lowB);
+    }
+
+    // seats are expected in row then column order
+    public static final class Builder {
+        private final UUID screenId;
+        private final long version;
+        private final Map<String, String> rows = new HashMap<>();
+        private long[] idHigh = new long[64];
+        private long[] idLow = new long[64];
+        private int[] rowIndexes = new int[64];
+        private int[] colNumbers = new int[64];
+        private byte[] types = new byte[64];
+        private String[] rowNumbers = new String[64];
+        private String[] seatNumbers = new String[64];
+        private int size;
+
+        private Builder(UUID screenId, long version) {
+            this.screenId = screenId;
+            this.version = version;
+        }
+
+        public Builder add(UUID id, String seatNumber, String rowNumber, int rowIndex, int colNumber, SeatType type) {
+            if (size == idHigh.length) {
+                grow();
+            }
+            idHigh[size] = id.getMostSignificantBits();
+            idLow[size] = id.getLeastSignificantBits();
+            rowIndexes[size] = rowIndex;
+            colNumbers[size] = colNumber;
+            types[size] = (byte) type.ordinal();
+            rowNumbers[size] = rows.computeIfAbsent(rowNumber, row -> row);
+            seatNumbers[size] = seatNumber;
+            size++;
+            return this;
+        }
+
+        public SeatTemplate build() {
+            return new SeatTemplate(this);
+        }
+
+        private void grow() {
+            int capacity = idHigh.length * 2;
+            idHigh = Arrays.copyOf(idHigh, capacity);
+            idLow = Arrays.copyOf(idLow, capacity);
+            rowIndexes = Arrays.copyOf(rowIndexes, capacity);
+            colNumbers = Arrays.copyOf(colNumbers, capacity);
+            types = Arrays.copyOf(types, capacity);
+            rowNumbers = Arrays.copyOf(rowNumbers, capacity);
+            seatNumbers = Arrays.copyOf(seatNumbers, capacity);
+        }
+    }
+}
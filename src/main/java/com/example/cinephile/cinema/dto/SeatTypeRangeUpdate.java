@@ -0,0 +1,16 @@
+package com.example.cinephile.cinema.dto;
+
+import com.example.cinephile.cinema.entity.SeatType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+// rows fromRow..toRow by label (toRow defaults to fromRow), and within each row the seats numbered
+// fromColumn..toColumn (both default to the whole row), all inclusive. seat numbers count only real seats from
+// the left, so M3 is column 3 here wherever aisles and gaps put it in the grid
+public record SeatTypeRangeUpdate(@NotBlank(message = "A row is required") String fromRow,
+                                  String toRow,
+                                  @Min(1) Integer fromColumn,
+                                  @Min(1) Integer toColumn,
+                                  @NotNull(message = "Seat type is required") SeatType type) {
+}
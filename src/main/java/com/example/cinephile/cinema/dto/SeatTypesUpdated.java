@@ -0,0 +1,7 @@
+package com.example.cinephile.cinema.dto;
+
+import java.util.UUID;
+
+// updatedSeats sums the rows each range touched, a seat in two ranges counts twice
+public record SeatTypesUpdated(UUID screenId, int updatedSeats) {
+}
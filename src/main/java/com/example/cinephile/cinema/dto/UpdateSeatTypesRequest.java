@@ -0,0 +1,12 @@
+package com.example.cinephile.cinema.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// applied in order, a seat covered by several ranges ends up with the type of the last one
+public record UpdateSeatTypesRequest(@NotEmpty(message = "At least one range is required")
+                                     @Size(max = 100) List<@Valid SeatTypeRangeUpdate> ranges) {
+}
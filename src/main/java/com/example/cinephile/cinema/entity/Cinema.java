@@ -1,10 +1,13 @@
 package com.example.cinephile.cinema.entity;
 
+import com.example.cinephile.config.CacheConfig;
 import com.example.cinephile.user.entity.User;
 import com.fasterxml.uuid.Generators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -13,6 +16,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "cinemas")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.CINEMAS_REGION)
 @Getter @Setter
 public class Cinema {
     @Id
@@ -21,6 +26,8 @@ public class Cinema {
     private String name;
     private String address;
     private String phone;
+    private Double latitude;
+    private Double longitude;
 
     @ManyToOne
     @JoinColumn(name = "user_id")
@@ -1,9 +1,12 @@
 package com.example.cinephile.cinema.entity;
 
+import com.example.cinephile.config.CacheConfig;
 import com.fasterxml.uuid.Generators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -12,6 +15,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "screens")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.SCREENS_REGION)
 @Getter @Setter
 public class Screen {
     @Id
@@ -1,9 +1,13 @@
 package com.example.cinephile.cinema.entity;
 
+import com.example.cinephile.cinema.util.RowLabels;
+import com.example.cinephile.config.CacheConfig;
 import com.fasterxml.uuid.Generators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -12,6 +16,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "seats")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.SEATS_REGION)
 @Getter @Setter
 public class Seat {
     @Id
@@ -26,7 +32,11 @@ public class Seat {
     private String seatNumber;
 
     @Column(name = "row_num")
-    private Character rowNumber;
+    private String rowNumber;
+
+    // position of the row from the front, keeps rows past Z in order
+    @Column(name = "row_index")
+    private int rowIndex;
 
     @Column(name = "col_num")
     private int colNumber;
@@ -48,6 +58,9 @@ public class Seat {
         if (id == null) {
             id = Generators.timeBasedEpochGenerator().generate();
         }
+        if (rowIndex == 0) {
+            rowIndex = RowLabels.index(rowNumber);
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
         isActive = true;
@@ -0,0 +1,6 @@
+package com.example.cinephile.cinema.event;
+
+import java.util.UUID;
+
+public record CinemaChangedEvent(UUID cinemaId) {
+}
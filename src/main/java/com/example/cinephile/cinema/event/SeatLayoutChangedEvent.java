@@ -0,0 +1,7 @@
+package com.example.cinephile.cinema.event;
+
+import java.util.UUID;
+
+// seats of a screen were added or changed, or the screen was removed
+public record SeatLayoutChangedEvent(UUID screenId, boolean removed) {
+}
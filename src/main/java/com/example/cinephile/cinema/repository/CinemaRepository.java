@@ -1,5 +1,6 @@
 package com.example.cinephile.cinema.repository;
 
+import com.example.cinephile.cinema.dto.CinemaLocation;
 import com.example.cinephile.cinema.entity.Cinema;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,5 +26,23 @@ public interface CinemaRepository extends JpaRepository<Cinema, UUID> {
             """)
     List<Cinema> findCinemasByMovieId(UUID movieId);
 
+    @Query("""
+            SELECT new com.example.cinephile.cinema.dto.CinemaLocation(c.id, c.name, c.address, c.latitude, c.longitude)
+            FROM Cinema c
+            WHERE c.isActive = true
+                AND c.latitude IS NOT NULL
+                AND c.longitude IS NOT NULL
+            """)
+    List<CinemaLocation> findActiveLocations();
+
+    // cinemas withdrawn by a delete whose background job has not finished yet, leaving out those booked before
+    // the withdrawal committed since their job refuses them
+    @Query("""
+            SELECT c.id FROM Cinema c
+            WHERE c.isActive = false
+                AND NOT EXISTS (SELECT 1 FROM Booking b WHERE b.showtime.cinema = c)
+            """)
+    List<UUID> findInactiveIds();
+
     boolean existsByIdAndManagerId(UUID cinemaId, UUID managerId);
 }
@@ -2,6 +2,8 @@ package com.example.cinephile.cinema.repository;
 
 import com.example.cinephile.cinema.entity.Screen;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,17 @@ public interface ScreenRepository extends JpaRepository<Screen, UUID> {
     boolean existsByCinemaIdAndNameIgnoreCaseAndIdNot(UUID cinemaId, String name, UUID id);
 
     List<Screen> findByCinemaId(UUID cinemaId);
+
+    @Modifying
+    @Query("UPDATE Screen s SET s.isActive = false WHERE s.cinema.id = :cinemaId")
+    int deactivateByCinemaId(UUID cinemaId);
+
+    // screens withdrawn on their own, those of a withdrawn cinema go with the cinema's delete
+    @Query("""
+            SELECT s.id FROM Screen s
+            WHERE s.isActive = false
+                AND s.cinema.isActive = true
+                AND NOT EXISTS (SELECT 1 FROM Booking b WHERE b.showtime.screen = s)
+            """)
+    List<UUID> findInactiveIdsInActiveCinemas();
 }
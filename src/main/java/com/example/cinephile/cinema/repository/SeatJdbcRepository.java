@@ -0,0 +1,65 @@
+package com.example.cinephile.cinema.repository;
+
+import com.example.cinephile.cinema.dto.SeatTemplate;
+import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.cinema.util.SeatLayoutGenerator.PlannedSeat;
+import com.fasterxml.uuid.Generators;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class SeatJdbcRepository {
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_SEAT = """
+            INSERT INTO seats (id, screen_id, seat_number, row_num, row_index, col_num, type, is_active,
+                               created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)
+            """;
+
+    private static final String SELECT_ACTIVE_SEATS = """
+            SELECT id, seat_number, row_num, row_index, col_num, type FROM seats
+            WHERE screen_id = ? AND is_active
+            ORDER BY row_index, col_num
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ids are generated here, so the whole screen goes out in multi-row batches with no read back
+    public void insertSeats(UUID screenId, List<PlannedSeat> seats) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String screen = screenId.toString();
+        jdbcTemplate.batchUpdate(INSERT_SEAT, seats, BATCH_SIZE, (ps, seat) -> {
+            ps.setString(1, Generators.timeBasedEpochGenerator().generate().toString());
+            ps.setString(2, screen);
+            ps.setString(3, seat.seatNumber());
+            ps.setString(4, seat.rowNumber());
+            ps.setInt(5, seat.rowIndex());
+            ps.setInt(6, seat.colNumber());
+            ps.setString(7, seat.type().name());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    public SeatTemplate findTemplate(UUID screenId, long version) {
+        SeatTemplate.Builder template = SeatTemplate.builder(screenId, version);
+        jdbcTemplate.query(SELECT_ACTIVE_SEATS, (RowCallbackHandler) rs -> template.add(
+                UUID.fromString(rs.getString("id")), rs.getString("seat_number"), rs.getString("row_num"),
+                rs.getInt("row_index"), rs.getInt("col_num"), typeOf(rs.getString("type"))
+        ), screenId.toString());
+        return template.build();
+    }
+
+    // the column defaults to STANDARD but is nullable
+    private static SeatType typeOf(String type) {
+        return type != null ? SeatType.valueOf(type) : SeatType.STANDARD;
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.cinephile.cinema.repository;
 
 import com.example.cinephile.cinema.entity.Seat;
+import com.example.cinephile.cinema.entity.SeatType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,7 +12,17 @@ import java.util.UUID;
 
 @Repository
 public interface SeatRepository extends JpaRepository<Seat, UUID> {
-    void deleteByScreenId(UUID screenId);
 
     List<Seat> findByScreenId(UUID screenId);
+
+    // one statement per range. the (screen_id, row_index, col_num) index narrows it to the rows, seats within them
+    // are matched on the number after the row label, col_num is a grid position that counts aisles and gaps
+    @Modifying
+    @Query("""
+            UPDATE Seat s SET s.type = :type, s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.screen.id = :screenId
+              AND s.rowIndex BETWEEN :fromRow AND :toRow
+              AND CAST(SUBSTRING(s.seatNumber, LENGTH(s.rowNumber) + 1) AS Integer) BETWEEN :fromSeat AND :toSeat
+            """)
+    int updateTypeInRange(UUID screenId, int fromRow, int toRow, int fromSeat, int toSeat, SeatType type);
 }
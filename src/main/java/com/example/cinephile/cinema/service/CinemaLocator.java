@@ -0,0 +1,44 @@
+package com.example.cinephile.cinema.service;
+
+import com.example.cinephile.cinema.dto.CinemaLocation;
+import com.example.cinephile.cinema.event.CinemaChangedEvent;
+import com.example.cinephile.cinema.repository.CinemaRepository;
+import com.example.cinephile.cinema.util.GeoGridIndex;
+import com.example.cinephile.common.util.LazySnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// owns the in-memory grid of cinema coordinates, rebuilt from the database whenever a cinema changes
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CinemaLocator {
+    private static final double CELL_DEGREES = 0.1; // roughly 11 km north-south
+
+    private final CinemaRepository cinemaRepository;
+
+    private final LazySnapshot<GeoGridIndex> index = new LazySnapshot<>(this::load);
+
+    public GeoGridIndex getIndex() {
+        return index.get();
+    }
+
+    public void rebuild() {
+        index.refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCinemaChanged(CinemaChangedEvent event) {
+        index.invalidate();
+    }
+
+    private GeoGridIndex load() {
+        List<CinemaLocation> locations = cinemaRepository.findActiveLocations();
+        log.debug("Cinema grid index rebuilt with {} cinemas", locations.size());
+        return new GeoGridIndex(CELL_DEGREES, locations);
+    }
+}
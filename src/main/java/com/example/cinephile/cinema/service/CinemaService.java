@@ -1,15 +1,36 @@
 package com.example.cinephile.cinema.service;
 
 import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.booking.repository.BookingRepository;
+import com.example.cinephile.common.dto.JobResponse;
 import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.common.job.ChunkedDeleter;
+import com.example.cinephile.common.job.JobService;
+import com.example.cinephile.config.CacheConfig;
+import com.example.cinephile.cinema.dto.CinemaDashboard;
 import com.example.cinephile.cinema.dto.CinemaRequest;
 import com.example.cinephile.cinema.dto.CinemaResponse;
+import com.example.cinephile.cinema.dto.ManagerDashboard;
 import com.example.cinephile.cinema.entity.Cinema;
 import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.entity.Seat;
+import com.example.cinephile.cinema.event.CinemaChangedEvent;
+import com.example.cinephile.cinema.event.SeatLayoutChangedEvent;
 import com.example.cinephile.cinema.repository.CinemaRepository;
 import com.example.cinephile.cinema.repository.ScreenRepository;
 import com.example.cinephile.user.entity.User;
+import com.example.cinephile.showtime.dto.ShowtimeOccupancy;
+import com.example.cinephile.showtime.repository.ShowtimeJdbcRepository;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.repository.ShowtimeScheduleRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -17,15 +38,27 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CinemaService {
     private final CinemaRepository cinemaRepository;
-    private final ScreenService screenService;
     private final ScreenRepository screenRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeJdbcRepository showtimeJdbcRepository;
+    private final ShowtimeScheduleRepository scheduleRepository;
+    private final BookingRepository bookingRepository;
+    private final JobService jobService;
+    private final ChunkedDeleter chunkedDeleter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
 
     // get all cinemas
     @Transactional(readOnly = true)
@@ -56,6 +89,35 @@ public class CinemaService {
         )).toList();
     }
 
+    // today's and tomorrow's showtimes of every active cinema the manager owns. two queries whatever the number
+    // of cinemas or showtimes, the cinemas and one grouped count over all their seats
+    @Transactional(readOnly = true)
+    public ManagerDashboard getManagerDashboard() {
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        User user = authUser.getUser();
+        List<Cinema> cinemas = cinemaRepository.findByManagerId(user.getId()).stream()
+                .filter(Cinema::isActive)
+                .sorted(Comparator.comparing(Cinema::getName).thenComparing(Cinema::getId))
+                .toList();
+        if (cinemas.isEmpty()) {
+            throw new CinephileException("No cinemas found for this manager", HttpStatus.NOT_FOUND);
+        }
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(1);
+        Map<UUID, List<ShowtimeOccupancy>> occupancy =
+                showtimeJdbcRepository.findOccupancyByManager(user.getId(), from, to);
+        return new ManagerDashboard(from, to, cinemas.stream().map(cinema -> {
+            List<ShowtimeOccupancy> showtimes = occupancy.getOrDefault(cinema.getId(), List.of());
+            return new CinemaDashboard(cinema.getId(), cinema.getName(),
+                    showtimes.stream().mapToLong(ShowtimeOccupancy::sold).sum(),
+                    showtimes.stream().mapToLong(ShowtimeOccupancy::held).sum(),
+                    showtimes.stream().mapToLong(ShowtimeOccupancy::available).sum(),
+                    showtimes.stream().map(ShowtimeOccupancy::revenue).reduce(BigDecimal.ZERO, BigDecimal::add),
+                    showtimes);
+        }).toList());
+    }
+
     @Transactional(readOnly = true)
     public CinemaResponse getCinemaById(UUID cinemaId) {
         Cinema cinema = cinemaRepository.findById(cinemaId)
@@ -74,8 +136,11 @@ public class CinemaService {
         cinema.setName(request.name());
         cinema.setAddress(request.address());
         cinema.setPhone(request.phone());
+        cinema.setLatitude(request.latitude());
+        cinema.setLongitude(request.longitude());
         cinema.setManager(user);
         cinemaRepository.save(cinema);
+        eventPublisher.publishEvent(new CinemaChangedEvent(cinema.getId()));
         return new CinemaResponse(
                 cinema.getId(), cinema.getName(), cinema.getAddress(),
                 cinema.getPhone(), null
@@ -89,21 +154,66 @@ public class CinemaService {
         cinema.setName(request.name());
         cinema.setAddress(request.address());
         cinema.setPhone(request.phone());
+        cinema.setLatitude(request.latitude());
+        cinema.setLongitude(request.longitude());
         cinemaRepository.save(cinema);
+        eventPublisher.publishEvent(new CinemaChangedEvent(cinema.getId()));
         return new CinemaResponse(
                 cinema.getId(), cinema.getName(), cinema.getAddress(),
                 cinema.getPhone(), null
         );
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MOVIE_SCHEDULES, allEntries = true)
     @Transactional
-    public void deleteCinema(UUID cinemaId) {
+    public JobResponse deleteCinema(UUID cinemaId) {
         Cinema cinema = cinemaRepository.findById(cinemaId)
                 .orElseThrow(() -> new CinephileException("Cinema not found", HttpStatus.NOT_FOUND));
+        if (bookingRepository.existsByShowtimeCinemaId(cinemaId)) {
+            throw new CinephileException("Cinema has bookings and cannot be deleted", HttpStatus.CONFLICT);
+        }
+        // withdraw everything under the cinema now, the rows go in the background one chunk at a time
+        cinema.setActive(false);
+        cinemaRepository.save(cinema);
+        eventPublisher.publishEvent(new CinemaChangedEvent(cinemaId));
+        for (Screen screen : screenRepository.findByCinemaId(cinemaId)) {
+            eventPublisher.publishEvent(new SeatLayoutChangedEvent(screen.getId(), true));
+        }
+        screenRepository.deactivateByCinemaId(cinemaId);
+        showtimeRepository.deactivateByCinemaId(cinemaId);
+        scheduleRepository.deactivateByCinemaId(cinemaId);
+        return submitDelete(cinemaId);
+    }
+
+    // deletes cut short by a restart, the cinema is still withdrawn and its rows are still there
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedDeletes() {
+        for (UUID cinemaId : cinemaRepository.findInactiveIds()) {
+            log.info("Resuming delete of cinema {}", cinemaId);
+            submitDelete(cinemaId);
+        }
+    }
 
-        List<UUID> screenIds = screenRepository.findByCinemaId(cinema.getId())
-                .stream().map(Screen::getId).toList();
-        screenIds.forEach(screenService::deleteScreen);
-        cinemaRepository.delete(cinema);
+    private JobResponse submitDelete(UUID cinemaId) {
+        String id = cinemaId.toString();
+        return jobService.submit("DELETE_CINEMA", cinemaId, job -> {
+            // a booking that raced the withdrawal keeps every row, deleting its seats would leave it half gone
+            if (bookingRepository.existsByShowtimeCinemaId(cinemaId)) {
+                throw new CinephileException("Cinema was booked before it was withdrawn", HttpStatus.CONFLICT);
+            }
+            chunkedDeleter.deleteInChunks(job,
+                    "DELETE FROM booking_seats WHERE showtime_id IN (SELECT id FROM showtimes WHERE cinema_id = ?)", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM showtimes WHERE cinema_id = ?", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM showtime_schedules WHERE cinema_id = ?", id);
+            chunkedDeleter.deleteInChunks(job,
+                    "DELETE FROM seats WHERE screen_id IN (SELECT id FROM screens WHERE cinema_id = ?)", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM screens WHERE cinema_id = ?", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM cinemas WHERE id = ?", id);
+            // the chunks bypass hibernate, drop the cached rows they removed
+            Cache cache = entityManagerFactory.getCache();
+            cache.evict(Seat.class);
+            cache.evict(Screen.class);
+            cache.evict(Cinema.class, cinemaId);
+        });
     }
 }
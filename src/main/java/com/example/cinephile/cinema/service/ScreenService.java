@@ -1,29 +1,52 @@
 package com.example.cinephile.cinema.service;
 
+import com.example.cinephile.booking.repository.BookingRepository;
+import com.example.cinephile.common.dto.JobResponse;
 import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.common.job.ChunkedDeleter;
+import com.example.cinephile.common.job.JobService;
+import com.example.cinephile.config.CacheConfig;
 import com.example.cinephile.cinema.dto.*;
 import com.example.cinephile.cinema.entity.Cinema;
 import com.example.cinephile.cinema.entity.Screen;
 import com.example.cinephile.cinema.entity.Seat;
-import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.cinema.event.SeatLayoutChangedEvent;
 import com.example.cinephile.cinema.repository.CinemaRepository;
 import com.example.cinephile.cinema.repository.ScreenRepository;
-import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.cinema.repository.SeatJdbcRepository;
+import com.example.cinephile.cinema.util.SeatLayoutGenerator;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.repository.ShowtimeScheduleRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScreenService {
     private final CinemaRepository cinemaRepository;
     private final ScreenRepository screenRepository;
-    private final SeatRepository seatRepository;
+    private final SeatJdbcRepository seatJdbcRepository;
+    private final SeatTemplateService seatTemplateService;
+    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeScheduleRepository scheduleRepository;
+    private final BookingRepository bookingRepository;
+    private final JobService jobService;
+    private final ChunkedDeleter chunkedDeleter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Transactional(readOnly = true)
     public List<ScreenCard> getScreens(UUID cinemaId) {
@@ -46,14 +69,8 @@ public class ScreenService {
         Screen screen = screenRepository.findById(screenId)
                 .orElseThrow(() -> new CinephileException("Screen not found", HttpStatus.NOT_FOUND));
 
-        List<Seat> seats = seatRepository.findByScreenId(screenId);
-
-        return new ScreenDetail(
-                screen.getId(), screen.getName(), screen.getCapacity(),
-                seats.stream().map(seat -> new SeatDTO(
-                        seat.getId(), seat.getSeatNumber(), seat.getRowNumber(), seat.getColNumber(), seat.getType()
-                )).toList()
-        );
+        return new ScreenDetail(screen.getId(), screen.getName(), screen.getCapacity(),
+                seatTemplateService.getTemplate(screenId).seats());
     }
 
     @Transactional
@@ -65,31 +82,27 @@ public class ScreenService {
             throw new CinephileException("Screen name already exists in this cinema", HttpStatus.BAD_REQUEST);
         }
 
+        ScreenLayout layout = request.layout();
+        if (layout == null) {
+            if (request.capacity() == null || request.numRows() == null || request.numCols() == null) {
+                throw new CinephileException("Either a layout or capacity, rows and columns are required",
+                        HttpStatus.BAD_REQUEST);
+            }
+            layout = SeatLayoutGenerator.rectangle(request.numRows(), request.numCols());
+        }
+        List<SeatLayoutGenerator.PlannedSeat> seats = SeatLayoutGenerator.generate(layout);
+        if (request.capacity() != null && request.capacity() != seats.size()) {
+            throw new CinephileException("Capacity does not match the number of seats", HttpStatus.BAD_REQUEST);
+        }
+
         Screen screen = new Screen();
         screen.setName(request.name());
-        screen.setCapacity(request.capacity());
+        screen.setCapacity(seats.size());
         screen.setCinema(cinema);
-        screenRepository.save(screen);
-
-        int numRows = request.numRows();
-        int numCols = request.numCols();
-        if (numRows * numCols != request.capacity()) {
-            throw new CinephileException("Capacity does not match number of rows and columns", HttpStatus.BAD_REQUEST);
-        }
-
-        List<Seat> seats = new ArrayList<>();
-        for (int row = 65; row < 65 + numRows; row++) { // ASCII A=65
-            for (int col = 1; col <= numCols; col++) {
-                Seat seat = new Seat();
-                seat.setRowNumber((char) row);
-                seat.setColNumber(col);
-                seat.setSeatNumber((char) row + String.valueOf(col));
-                seat.setType(SeatType.STANDARD); // default type
-                seat.setScreen(screen);
-                seats.add(seat);
-            }
-        }
-        seatRepository.saveAll(seats);
+        // the seats reference the screen row, it has to be written before the batch
+        screenRepository.saveAndFlush(screen);
+        seatJdbcRepository.insertSeats(screen.getId(), seats);
+        eventPublisher.publishEvent(new SeatLayoutChangedEvent(screen.getId(), false));
     }
 
     @Transactional
@@ -104,11 +117,50 @@ public class ScreenService {
         screenRepository.save(screen);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MOVIE_SCHEDULES, allEntries = true)
     @Transactional
-    public void deleteScreen(UUID screenId) {
+    public JobResponse deleteScreen(UUID screenId) {
         Screen screen = screenRepository.findById(screenId)
                 .orElseThrow(() -> new CinephileException("Screen not found", HttpStatus.NOT_FOUND));
-        seatRepository.deleteByScreenId(screenId);
-        screenRepository.delete(screen);
+        if (bookingRepository.existsByShowtimeScreenId(screenId)) {
+            throw new CinephileException("Screen has bookings and cannot be deleted", HttpStatus.CONFLICT);
+        }
+        // withdraw the screen and its showtimes now, the rows go in the background
+        screen.setActive(false);
+        screenRepository.save(screen);
+        showtimeRepository.deactivateByScreenId(screenId);
+        scheduleRepository.deactivateByScreenId(screenId);
+        eventPublisher.publishEvent(new SeatLayoutChangedEvent(screenId, true));
+        return submitDelete(screenId);
+    }
+
+    // deletes cut short by a restart, the screen is still withdrawn and its rows are still there
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedDeletes() {
+        for (UUID screenId : screenRepository.findInactiveIdsInActiveCinemas()) {
+            log.info("Resuming delete of screen {}", screenId);
+            submitDelete(screenId);
+        }
+    }
+
+    private JobResponse submitDelete(UUID screenId) {
+        String id = screenId.toString();
+        return jobService.submit("DELETE_SCREEN", screenId, job -> {
+            // a booking that raced the withdrawal keeps every row, deleting its seats would leave it half gone
+            if (bookingRepository.existsByShowtimeScreenId(screenId)) {
+                throw new CinephileException("Screen was booked before it was withdrawn", HttpStatus.CONFLICT);
+            }
+            chunkedDeleter.deleteInChunks(job,
+                    "DELETE FROM booking_seats WHERE showtime_id IN (SELECT id FROM showtimes WHERE screen_id = ?)", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM showtimes WHERE screen_id = ?", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM showtime_schedules WHERE screen_id = ?", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM seats WHERE screen_id = ?", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM screens WHERE id = ?", id);
+            // the chunks bypass hibernate, so the second-level cache is told directly. seat ids are not known
+            // here and screen deletes are rare, the whole seat region goes
+            Cache cache = entityManagerFactory.getCache();
+            cache.evict(Seat.class);
+            cache.evict(Screen.class, screenId);
+        });
     }
 }
@@ -1,10 +1,17 @@
 package com.example.cinephile.cinema.service;
 
 import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.cinema.dto.SeatTypeRangeUpdate;
+import com.example.cinephile.cinema.dto.SeatTypesUpdated;
+import com.example.cinephile.cinema.dto.UpdateSeatTypesRequest;
 import com.example.cinephile.cinema.entity.Seat;
 import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.cinema.event.SeatLayoutChangedEvent;
+import com.example.cinephile.cinema.repository.ScreenRepository;
 import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.cinema.util.RowLabels;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +23,8 @@ import java.util.UUID;
 @Transactional
 public class SeatService {
     private final SeatRepository seatRepository;
+    private final ScreenRepository screenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void updateSeatType(UUID seatId, String newType) {
         Seat seat = seatRepository.findById(seatId)
@@ -24,8 +33,37 @@ public class SeatService {
             SeatType seatType = SeatType.valueOf(newType.toUpperCase());
             seat.setType(seatType);
             seatRepository.save(seat);
+            eventPublisher.publishEvent(new SeatLayoutChangedEvent(seat.getScreen().getId(), false));
         } catch (IllegalArgumentException e) {
             throw new CinephileException("Invalid seat type", HttpStatus.BAD_REQUEST);
         }
     }
+
+    // reconfigures a hall in one transaction, with one UPDATE per range instead of a load and save per seat
+    public SeatTypesUpdated updateSeatTypes(UUID screenId, UpdateSeatTypesRequest request) {
+        if (!screenRepository.existsById(screenId)) {
+            throw new CinephileException("Screen not found", HttpStatus.NOT_FOUND);
+        }
+        int updated = 0;
+        for (SeatTypeRangeUpdate range : request.ranges()) {
+            int fromRow = rowIndex(range.fromRow());
+            int toRow = range.toRow() != null ? rowIndex(range.toRow()) : fromRow;
+            int fromSeat = range.fromColumn() != null ? range.fromColumn() : 1;
+            int toSeat = range.toColumn() != null ? range.toColumn() : Integer.MAX_VALUE;
+            if (fromRow > toRow || fromSeat > toSeat) {
+                throw new CinephileException("Range start must not be after its end", HttpStatus.BAD_REQUEST);
+            }
+            updated += seatRepository.updateTypeInRange(screenId, fromRow, toRow, fromSeat, toSeat, range.type());
+        }
+        eventPublisher.publishEvent(new SeatLayoutChangedEvent(screenId, false));
+        return new SeatTypesUpdated(screenId, updated);
+    }
+
+    private static int rowIndex(String label) {
+        int index = RowLabels.index(label.trim());
+        if (index == 0) {
+            throw new CinephileException("Invalid row: " + label, HttpStatus.BAD_REQUEST);
+        }
+        return index;
+    }
 }
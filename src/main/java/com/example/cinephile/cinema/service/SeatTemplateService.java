@@ -0,0 +1,55 @@
+package com.example.cinephile.cinema.service;
+
+import com.example.cinephile.cinema.dto.SeatTemplate;
+import com.example.cinephile.cinema.event.SeatLayoutChangedEvent;
+import com.example.cinephile.cinema.repository.SeatJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatTemplateService {
+    private final SeatJdbcRepository seatJdbcRepository;
+
+    private final AtomicLong versions = new AtomicLong();
+    // seats almost never change and every mutation rebuilds explicitly, so no expiry
+    private final Cache<UUID, SeatTemplate> templates = Caffeine.newBuilder()
+            .maximumSize(500)
+            .build();
+
+    public SeatTemplate getTemplate(UUID screenId) {
+        return templates.get(screenId, this::build);
+    }
+
+    // runs after the change committed, so the rebuild reads the new seats. a load that started before the commit
+    // got a lower version and cannot replace this template
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onSeatLayoutChanged(SeatLayoutChangedEvent event) {
+        UUID screenId = event.screenId();
+        if (event.removed()) {
+            templates.invalidate(screenId);
+            log.info("Dropped seat template for screen {}", screenId);
+            return;
+        }
+        templates.asMap().merge(screenId, build(screenId),
+                (current, rebuilt) -> rebuilt.version() > current.version() ? rebuilt : current);
+    }
+
+    private SeatTemplate build(UUID screenId) {
+        // the version is taken before reading, so it orders builds by the data they can see
+        SeatTemplate template = seatJdbcRepository.findTemplate(screenId, versions.incrementAndGet());
+        log.info("Built seat template v{} for screen {} with {} seats", template.version(), screenId, template.size());
+        return template;
+    }
+}
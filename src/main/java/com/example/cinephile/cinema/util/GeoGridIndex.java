@@ -0,0 +1,122 @@
+package com.example.cinephile.cinema.util;
+
+import com.example.cinephile.cinema.dto.CinemaLocation;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+// fixed-size lat/lon grid; nearest-neighbour search walks rings of cells outwards from the query point, within
+// the rows and columns the radius can reach, and stops as soon as no unvisited cell can hold anything closer than
+// the current k-th result
+public class GeoGridIndex {
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+    private final Map<Long, List<CinemaLocation>> cells = new HashMap<>();
+
+    public GeoGridIndex(double cellDegrees, Collection<CinemaLocation> locations) {
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+        for (CinemaLocation location : locations) {
+            cells.computeIfAbsent(key(latRow(location.latitude()), lonColumn(location.longitude())),
+                    k -> new ArrayList<>()).add(location);
+        }
+    }
+
+    public record Hit(CinemaLocation location, double distanceKm) {
+    }
+
+    // up to k locations accepted by the filter within radiusKm, closest first
+    public List<Hit> nearest(double latitude, double longitude, int k, double radiusKm,
+                             Predicate<CinemaLocation> filter) {
+        if (k <= 0 || cells.isEmpty()) {
+            return List.of();
+        }
+        // max-heap on distance holding the best k so far
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceKm).reversed());
+        int row = latRow(latitude);
+        int column = lonColumn(longitude);
+        // a degree of latitude is the same length everywhere, so the rows in reach follow from the radius alone.
+        // columns narrow towards the poles, the narrowest within those rows sets how many columns are in reach
+        double cellHeightKm = cellDegrees * KM_PER_DEGREE;
+        int rowReach = (int) Math.ceil(radiusKm / cellHeightKm) + 1;
+        double furthestLatitude = Math.min(89.9, Math.abs(latitude) + (rowReach + 1) * cellDegrees);
+        double cellWidthKm = cellHeightKm * Math.cos(Math.toRadians(furthestLatitude));
+        int columnReach = (int) Math.min(lonCells / 2, Math.ceil(radiusKm / cellWidthKm) + 1);
+        int maxRing = Math.max(rowReach, columnReach);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // anything in this ring or beyond, within reach, is at least (ring - 1) of the narrowest cells away
+            double ringLowerBoundKm = Math.max(0, ring - 1) * cellWidthKm;
+            if (best.size() == k && ringLowerBoundKm > best.peek().distanceKm()) {
+                break;
+            }
+            for (long cellKey : ringKeys(row, column, ring, rowReach, columnReach)) {
+                for (CinemaLocation location : cells.getOrDefault(cellKey, List.of())) {
+                    double distance = haversineKm(latitude, longitude, location.latitude(), location.longitude());
+                    if (distance > radiusKm || !filter.test(location)) {
+                        continue;
+                    }
+                    if (best.size() < k) {
+                        best.add(new Hit(location, distance));
+                    } else if (distance < best.peek().distanceKm()) {
+                        best.poll();
+                        best.add(new Hit(location, distance));
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // cells on the border of the (2 * ring + 1) square around (row, column) that lie within rowReach rows and
+    // columnReach columns of it; columns wrap at the antimeridian
+    private Set<Long> ringKeys(int row, int column, int ring, int rowReach, int columnReach) {
+        Set<Long> keys = new HashSet<>();
+        int rows = Math.min(ring, rowReach);
+        int columns = Math.min(ring, columnReach);
+        for (int dRow = -rows; dRow <= rows; dRow++) {
+            int r = row + dRow;
+            if (r < 0 || r >= latCells) {
+                continue;
+            }
+            if (Math.abs(dRow) == ring) {
+                for (int dColumn = -columns; dColumn <= columns; dColumn++) {
+                    keys.add(key(r, Math.floorMod(column + dColumn, lonCells)));
+                }
+            } else if (ring <= columnReach) {
+                keys.add(key(r, Math.floorMod(column - ring, lonCells)));
+                keys.add(key(r, Math.floorMod(column + ring, lonCells)));
+            }
+        }
+        return keys;
+    }
+
+    private int latRow(double latitude) {
+        return Math.min(latCells - 1, (int) Math.floor((latitude + 90.0) / cellDegrees));
+    }
+
+    private int lonColumn(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lonCells);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.cinephile.cinema.util;
+
+// row labels in bijective base 26 like spreadsheet columns: 1 = A, 26 = Z, 27 = AA, 702 = ZZ
+public final class RowLabels {
+    private RowLabels() {
+    }
+
+    public static String label(int index) {
+        if (index < 1) {
+            throw new IllegalArgumentException("Row index must be positive: " + index);
+        }
+        StringBuilder label = new StringBuilder();
+        for (int n = index; n > 0; n = (n - 1) / 26) {
+            label.append((char) ('A' + (n - 1) % 26));
+        }
+        return label.reverse().toString();
+    }
+
+    // 0 when the label is not made of letters A-Z
+    public static int index(String label) {
+        if (label == null || label.isEmpty() || label.length() > 5) {
+            return 0;
+        }
+        int index = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char c = Character.toUpperCase(label.charAt(i));
+            if (c < 'A' || c > 'Z') {
+                return 0;
+            }
+            index = index * 26 + (c - 'A' + 1);
+        }
+        return index;
+    }
+}
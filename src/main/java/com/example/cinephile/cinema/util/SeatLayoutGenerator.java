@@ -0,0 +1,98 @@
+package com.example.cinephile.cinema.util;
+
+import com.example.cinephile.cinema.dto.RowBlock;
+import com.example.cinephile.cinema.dto.ScreenLayout;
+import com.example.cinephile.cinema.dto.SeatRange;
+import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.common.exception.CinephileException;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// expands a layout into seats. columns are grid positions: each row is centered on the widest one and shifted
+// right by the aisles left of it, so seats line up across rows. seat numbers count only real seats in a row,
+// gaps and aisles do not take a number
+public final class SeatLayoutGenerator {
+    public static final int MAX_ROWS = 100;
+    public static final int MAX_SEATS_PER_ROW = 100;
+
+    private SeatLayoutGenerator() {
+    }
+
+    public record PlannedSeat(String rowNumber, int rowIndex, int colNumber, String seatNumber, SeatType type) {
+    }
+
+    public static ScreenLayout rectangle(int rows, int columns) {
+        return new ScreenLayout(List.of(new RowBlock(rows, columns, 0, SeatType.STANDARD, List.of())), List.of());
+    }
+
+    public static List<PlannedSeat> generate(ScreenLayout layout) {
+        int rowCount = 0;
+        int widest = 0;
+        for (RowBlock block : layout.rows()) {
+            rowCount += block.count();
+            widest = Math.max(widest, block.seats() + (block.count() - 1) * curve(block));
+        }
+        if (rowCount > MAX_ROWS || widest > MAX_SEATS_PER_ROW) {
+            throw new CinephileException("A layout holds at most " + MAX_ROWS + " rows of "
+                    + MAX_SEATS_PER_ROW + " seats", HttpStatus.BAD_REQUEST);
+        }
+        // aisleShift[c] = aisles left of seat column c of the widest row
+        int[] aisleShift = new int[widest + 1];
+        List<Integer> aisles = layout.aisles() == null ? List.of() : layout.aisles();
+        for (int aisle : aisles) {
+            if (aisle < 1 || aisle >= widest) {
+                throw new CinephileException("Aisles must fall between seat columns 1 and " + widest,
+                        HttpStatus.BAD_REQUEST);
+            }
+            for (int column = aisle + 1; column <= widest; column++) {
+                aisleShift[column]++;
+            }
+        }
+
+        List<PlannedSeat> seats = new ArrayList<>();
+        int rowIndex = 0;
+        for (RowBlock block : layout.rows()) {
+            SeatType defaultType = block.type() != null ? block.type() : SeatType.STANDARD;
+            for (int i = 0; i < block.count(); i++) {
+                int seatsInRow = block.seats() + i * curve(block);
+                SeatType[] types = rowTypes(block, seatsInRow, defaultType);
+                String label = RowLabels.label(++rowIndex);
+                int offset = (widest - seatsInRow) / 2;
+                int number = 0;
+                for (int position = 1; position <= seatsInRow; position++) {
+                    if (types[position] != null) {
+                        int column = offset + position;
+                        seats.add(new PlannedSeat(label, rowIndex, column + aisleShift[column],
+                                label + ++number, types[position]));
+                    }
+                }
+            }
+        }
+        return seats;
+    }
+
+    // type per seat position (1-based), null for a gap. ranges apply in order, a later one wins
+    private static SeatType[] rowTypes(RowBlock block, int seatsInRow, SeatType defaultType) {
+        SeatType[] types = new SeatType[seatsInRow + 1];
+        Arrays.fill(types, 1, types.length, defaultType);
+        if (block.ranges() != null) {
+            for (SeatRange range : block.ranges()) {
+                if (range.from() > range.to() || range.to() > block.seats()) {
+                    throw new CinephileException("Seat range " + range.from() + "-" + range.to()
+                            + " does not fit a row of " + block.seats() + " seats", HttpStatus.BAD_REQUEST);
+                }
+                // ranges are given against the block's first row, wider rows keep them centered
+                int shift = (seatsInRow - block.seats()) / 2;
+                Arrays.fill(types, range.from() + shift, range.to() + shift + 1, range.type());
+            }
+        }
+        return types;
+    }
+
+    private static int curve(RowBlock block) {
+        return block.curve() != null ? block.curve() : 0;
+    }
+}
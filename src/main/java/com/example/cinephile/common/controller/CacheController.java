@@ -0,0 +1,37 @@
+package com.example.cinephile.common.controller;
+
+import com.example.cinephile.common.dto.CacheRegionStats;
+import com.example.cinephile.config.CacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+    private final EntityManagerFactory entityManagerFactory;
+
+    // second-level cache counters per region, accumulated since startup
+    @GetMapping("/regions")
+    public ResponseEntity<List<CacheRegionStats>> getRegions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return ResponseEntity.ok(CacheConfig.ENTITY_REGIONS.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(region -> {
+                    CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region.getKey());
+                    return new CacheRegionStats(region.getKey(), region.getValue(),
+                            stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+                })
+                .toList());
+    }
+}
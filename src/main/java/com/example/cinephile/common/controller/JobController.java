@@ -0,0 +1,24 @@
+package com.example.cinephile.common.controller;
+
+import com.example.cinephile.common.dto.JobResponse;
+import com.example.cinephile.common.job.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+    private final JobService jobService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobResponse> getJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(jobService.getJob(jobId));
+    }
+}
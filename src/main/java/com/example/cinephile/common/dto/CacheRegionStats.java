@@ -0,0 +1,8 @@
+package com.example.cinephile.common.dto;
+
+public record CacheRegionStats(String region,
+                               long maximumSize,
+                               long hits,
+                               long misses,
+                               long puts) {
+}
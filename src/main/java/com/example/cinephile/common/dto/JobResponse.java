@@ -0,0 +1,16 @@
+package com.example.cinephile.common.dto;
+
+import com.example.cinephile.common.job.JobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record JobResponse(UUID id,
+                          String type,
+                          UUID targetId,
+                          JobStatus status,
+                          long processedRows,
+                          String error,
+                          LocalDateTime createdAt,
+                          LocalDateTime finishedAt) {
+}
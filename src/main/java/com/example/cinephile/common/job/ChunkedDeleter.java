@@ -0,0 +1,36 @@
+package com.example.cinephile.common.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+
+// set-based deletes in bounded chunks, each chunk committed on its own so row locks are held briefly
+@Component
+@RequiredArgsConstructor
+public class ChunkedDeleter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cinephile.jobs.delete-chunk-size:1000}")
+    private int chunkSize;
+
+    // sql must be a single-table DELETE without LIMIT, the chunk limit is appended here
+    public long deleteInChunks(Job job, String sql, Object... args) {
+        Object[] params = Arrays.copyOf(args, args.length + 1);
+        params[args.length] = chunkSize;
+
+        long total = 0;
+        int deleted;
+        do {
+            Integer rows = transactionTemplate.execute(status -> jdbcTemplate.update(sql + " LIMIT ?", params));
+            deleted = rows != null ? rows : 0;
+            total += deleted;
+            job.addProcessedRows(deleted);
+        } while (deleted == chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.cinephile.common.job;
+
+import com.example.cinephile.common.dto.JobResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// progress of a background job, written by the worker thread and read by the status endpoint
+@Getter
+public class Job {
+    private final UUID id;
+    private final String type;
+    private final UUID targetId;
+    // null for jobs the application started itself
+    private final UUID submittedBy;
+    private final LocalDateTime createdAt;
+    private final AtomicLong processedRows = new AtomicLong();
+    private volatile JobStatus status = JobStatus.PENDING;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public Job(UUID id, String type, UUID targetId, UUID submittedBy) {
+        this.id = id;
+        this.type = type;
+        this.targetId = targetId;
+        this.submittedBy = submittedBy;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void addProcessedRows(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    void start() {
+        status = JobStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.FAILED;
+    }
+
+    boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    public JobResponse toResponse() {
+        return new JobResponse(id, type, targetId, status, processedRows.get(), error, createdAt, finishedAt);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.cinephile.common.job;
+
+import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.common.dto.JobResponse;
+import com.example.cinephile.common.exception.CinephileException;
+import com.fasterxml.uuid.Generators;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// in-memory registry of background jobs. status is lost on restart, so each submitter resumes its own
+// interrupted work once the application is ready, and that work must be safe to run twice
+@Slf4j
+@Service
+public class JobService {
+    private static final int WORKERS = 2;
+
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    // a pool per job type, so minutes-long catalog imports never hold up deletes or notifications
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+
+    // when called inside a transaction the job only starts once that transaction has committed
+    public JobResponse submit(String type, UUID targetId, Consumer<Job> work) {
+        Job job = new Job(Generators.timeBasedEpochGenerator().generate(), type, targetId, currentUserId());
+        jobs.put(job.getId(), job);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        executor(type).execute(() -> run(job, work));
+                    } else {
+                        job.fail("Request was rolled back");
+                    }
+                }
+            });
+        } else {
+            executor(type).execute(() -> run(job, work));
+        }
+        return job.toResponse();
+    }
+
+    // only the user who submitted a job can follow it, anyone else gets the same 404 as for an unknown id
+    public JobResponse getJob(UUID jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || job.getSubmittedBy() == null || !job.getSubmittedBy().equals(currentUserId())) {
+            throw new CinephileException("Job not found", HttpStatus.NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    @Scheduled(fixedRate = 3_600_000) // every hour
+    public void removeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getUser().getId();
+        }
+        return null;
+    }
+
+    private ExecutorService executor(String type) {
+        return executors.computeIfAbsent(type, key -> Executors.newFixedThreadPool(WORKERS, Thread.ofPlatform()
+                .name("cinephile-job-" + key.toLowerCase(Locale.ROOT).replace('_', '-') + "-", 0)
+                .daemon().factory()));
+    }
+
+    private void run(Job job, Consumer<Job> work) {
+        job.start();
+        try {
+            work.accept(job);
+            job.complete();
+            log.info("Job {} ({} {}) completed, {} rows", job.getId(), job.getType(), job.getTargetId(),
+                    job.getProcessedRows().get());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("Job {} ({} {}) failed", job.getId(), job.getType(), job.getTargetId(), e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.cinephile.common.job;
+
+public enum JobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
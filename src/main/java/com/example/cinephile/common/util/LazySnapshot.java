@@ -0,0 +1,50 @@
+package com.example.cinephile.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// a value loaded from the database and kept until invalidated, then reloaded by the next reader. readers that
+// find it stale while another one is reloading wait for that reload instead of queueing up loads of their own
+public final class LazySnapshot<T> {
+    private final Supplier<T> loader;
+    private final AtomicLong invalidations = new AtomicLong(1);
+
+    private volatile T value;
+    private volatile long loadedAt;
+
+    public LazySnapshot(Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    public T get() {
+        if (isStale()) {
+            refreshIfStale();
+        }
+        return value;
+    }
+
+    // marks the value for reloading, cheap enough to call on every change
+    public void invalidate() {
+        invalidations.incrementAndGet();
+    }
+
+    // reloads whether stale or not, for timers that pick up changes no event announces
+    public synchronized T refresh() {
+        // read before loading, an invalidation that lands mid-load leaves the value stale and forces another one
+        long seen = invalidations.get();
+        T loaded = loader.get();
+        value = loaded;
+        loadedAt = seen;
+        return loaded;
+    }
+
+    private boolean isStale() {
+        return loadedAt != invalidations.get();
+    }
+
+    private synchronized void refreshIfStale() {
+        if (isStale()) {
+            refresh();
+        }
+    }
+}
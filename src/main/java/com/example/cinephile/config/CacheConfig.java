@@ -0,0 +1,80 @@
+package com.example.cinephile.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String MOVIE_SCHEDULES = "movieSchedules";
+    public static final String MOVIE_DETAILS = "movieDetails";
+
+    // hibernate second-level cache regions
+    public static final String CINEMAS_REGION = "cinemas";
+    public static final String SCREENS_REGION = "screens";
+    public static final String SEATS_REGION = "seats";
+    public static final String MOVIES_REGION = "movies";
+    public static final String MOVIE_IMDB_IDS_REGION = "movieImdbIds";
+
+    // entries per region. seats outnumber everything else by a few hundred per screen, movies carry the
+    // largest rows (plot, cast), so both are bounded with memory in mind rather than row counts
+    public static final Map<String, Long> ENTITY_REGIONS = Map.of(
+            CINEMAS_REGION, 1_000L,
+            SCREENS_REGION, 10_000L,
+            SEATS_REGION, 200_000L,
+            MOVIES_REGION, 20_000L,
+            MOVIE_IMDB_IDS_REGION, 20_000L);
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // schedules only list upcoming showtimes, so let them age out even without writes
+        cacheManager.registerCustomCache(MOVIE_SCHEDULES, Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build());
+        // updates and deletes evict explicitly; the expiry only bounds edits made outside the application
+        cacheManager.registerCustomCache(MOVIE_DETAILS, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build());
+        // defer puts and evictions issued inside a transaction until it commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // a private JCache manager per application context, so contexts never share or close each other's regions.
+    // writes through hibernate keep the regions coherent, the expiry only bounds edits made outside it
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager entityCacheManager() {
+        javax.cache.CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("cinephile:entities:" + UUID.randomUUID()), getClass().getClassLoader());
+        ENTITY_REGIONS.forEach((region, maximumSize) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofHours(1).toNanos()));
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(javax.cache.CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+}
@@ -30,27 +30,35 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/verify").permitAll()
                         .requestMatchers("/api/auth/forgot-password").permitAll()
                         .requestMatchers("/api/auth/reset-password").permitAll()
+                        .requestMatchers("/api/movies/imports/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/movies/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/movies/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/movies/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/movies/**").hasRole("ADMIN")
                         .requestMatchers("/api/users/me").authenticated()
+                        .requestMatchers("/api/users/me/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/users/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/cinemas", "/api/cinemas/*").permitAll()
-                        .requestMatchers("/api/cinemas/managed").hasRole("MANAGER")
+                        .requestMatchers("/api/cinemas/managed", "/api/cinemas/managed/dashboard").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.POST, "/api/cinemas").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.PUT, "/api/cinemas/*").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/api/cinemas/*").hasRole("MANAGER")
                         .requestMatchers("/api/cinemas/*/screens").hasRole("MANAGER")
                         .requestMatchers("/api/cinemas/screens/*").hasRole("MANAGER")
+                        .requestMatchers("/api/cinemas/screens/*/seats").hasRole("MANAGER")
+                        .requestMatchers("/api/showtimes/schedules/**").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.GET, "/api/showtimes",
                                 "/api/showtimes/*","/api/showtimes/now").permitAll()
                         .requestMatchers("/api/showtimes/movie/**").hasRole("USER")
+                        .requestMatchers(HttpMethod.GET, "/api/showtimes/*/layout").hasRole("USER")
                         .requestMatchers("/api/showtimes/managed/**").hasRole("MANAGER")
-                        .requestMatchers(HttpMethod.POST, "/api/showtimes").hasRole("MANAGER")
+                        .requestMatchers(HttpMethod.POST, "/api/showtimes", "/api/showtimes/bulk",
+                                "/api/showtimes/optimize").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.PUT, "/api/showtimes/*").hasRole("MANAGER")
                         .requestMatchers(HttpMethod.DELETE, "/api/showtimes/*").hasRole("MANAGER")
                         .requestMatchers("/api/bookings/**").hasRole("USER")
+                        .requestMatchers("/api/jobs/**").hasRole("MANAGER")
+                        .requestMatchers("/api/cache/**").hasRole("ADMIN")
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**",
                                 "/api-docs/**", "/api-docs.yaml").permitAll()
                         .anyRequest().authenticated()
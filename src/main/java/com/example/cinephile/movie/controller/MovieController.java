@@ -1,19 +1,34 @@
 package com.example.cinephile.movie.controller;
 
-import com.example.cinephile.movie.dto.MovieCard;
-import com.example.cinephile.movie.dto.MoviePage;
-import com.example.cinephile.movie.dto.MovieRequest;
+import com.example.cinephile.movie.dto.*;
+import com.example.cinephile.movie.search.MovieSuggestIndex;
+import com.example.cinephile.movie.search.SimilarMoviesIndex;
 import com.example.cinephile.movie.service.MovieService;
+import com.example.cinephile.movie.service.PosterService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -22,24 +37,123 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MovieController {
     private final MovieService movieService;
+    private final PosterService posterService;
 
     @GetMapping
     public ResponseEntity<Page<MovieCard>> getAllMovies(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String genre,
             @RequestParam(required = false) String rated,
             @RequestParam(required = false, defaultValue = "0.0") Double rating,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) Integer decade,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        page = Math.max(page, 0);
-        size = size < 0 ? 20 : Math.min(size, 20);
-        Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(movieService.getAllMovies(title, genre, rated, rating, pageable));
+        MovieQuery query = new MovieQuery(q, title, genre, rated, rating, language, decade);
+        return ResponseEntity.ok(movieService.getAllMovies(query, pageRequest(page, size)));
+    }
+
+    // cursor-paged listing for infinite scroll, pages cost the same at any depth and carry no total count.
+    // rating and year default to descending, title to ascending
+    @GetMapping("/scroll")
+    public ResponseEntity<MovieSlice> scrollMovies(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String rated,
+            @RequestParam(required = false, defaultValue = "0.0") Double rating,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) Integer decade,
+            @RequestParam(defaultValue = "RATING") MovieSort sort,
+            @RequestParam(required = false) Sort.Direction direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        MovieQuery query = new MovieQuery(q, title, genre, rated, rating, language, decade);
+        if (direction == null) {
+            direction = sort == MovieSort.TITLE ? Sort.Direction.ASC : Sort.Direction.DESC;
+        }
+        return ResponseEntity.ok(movieService.scrollMovies(query, sort, direction, cursor, Math.clamp(size, 1, 100)));
+    }
+
+    // same filters as the listing, plus counts per genre, rated, decade and language
+    @GetMapping("/search")
+    public ResponseEntity<MovieSearchResponse> searchMovies(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String rated,
+            @RequestParam(required = false, defaultValue = "0.0") Double rating,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) Integer decade,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        MovieQuery query = new MovieQuery(q, title, genre, rated, rating, language, decade);
+        return ResponseEntity.ok(movieService.searchMovies(query, pageRequest(page, size)));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MovieSuggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        limit = Math.clamp(limit, 1, MovieSuggestIndex.MAX_SUGGESTIONS);
+        return ResponseEntity.ok(movieService.suggest(q, limit));
+    }
+
+    // most confirmed seats over the last hour or day
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingMovie>> getTrendingMovies(
+            @RequestParam(defaultValue = "DAY") TrendingWindow window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(movieService.getTrendingMovies(window, Math.clamp(limit, 1, 50)));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<MoviePage> getMovieById(@PathVariable UUID id) {
-        return ResponseEntity.ok(movieService.getMovieById(id));
+        MoviePage movie = movieService.getMovieById(id);
+        if (movie.updatedAt() == null) {
+            return ResponseEntity.ok(movie);
+        }
+        // with these headers set, Spring answers If-None-Match / If-Modified-Since with a bodiless 304.
+        // updated_at only keeps whole seconds, the content hash tells apart two edits within one second
+        Instant updatedAt = movie.updatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(updatedAt.toEpochMilli() + "-" + Integer.toHexString(movie.hashCode()))
+                .lastModified(updatedAt)
+                .body(movie);
+    }
+
+    // "people who booked this also booked", filled in with similar genres and cast for little-booked movies
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<MovieCard>> getSimilarMovies(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "10") int limit) {
+        limit = Math.clamp(limit, 1, SimilarMoviesIndex.TOP_K);
+        return ResponseEntity.ok(movieService.getSimilarMovies(id, limit));
+    }
+
+    // a resized copy of the movie's poster, fetched from its host once and then served from the local disk cache.
+    // w snaps up to the next supported width
+    @GetMapping("/{id}/poster")
+    public void getPoster(@PathVariable UUID id,
+                          @RequestParam(defaultValue = "342") int w,
+                          ServletWebRequest request,
+                          HttpServletResponse response) throws IOException {
+        PosterService.Variant variant = posterService.variant(id, w);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(Duration.ofDays(7)).cachePublic().getHeaderValue());
+        if (request.checkNotModified(variant.etag())) {
+            return;
+        }
+        try (FileChannel poster = posterService.open(variant)) {
+            long size = poster.size();
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(size);
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = 0; position < size; ) {
+                position += poster.transferTo(position, size - position, out);
+            }
+        }
     }
 
     @PostMapping
@@ -57,4 +171,10 @@ public class MovieController {
         movieService.deleteMovie(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static Pageable pageRequest(int page, int size) {
+        page = Math.max(page, 0);
+        size = size < 0 ? 20 : Math.min(size, 20);
+        return PageRequest.of(page, size);
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.cinephile.movie.controller;
+
+import com.example.cinephile.movie.dto.MovieImportResponse;
+import com.example.cinephile.movie.entity.ImportFormat;
+import com.example.cinephile.movie.service.MovieImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/movies/imports")
+@RequiredArgsConstructor
+public class MovieImportController {
+    private final MovieImportService movieImportService;
+
+    // format defaults to the file extension (.json, .ndjson, .tsv, optionally .gz)
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MovieImportResponse> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(movieImportService.startImport(file, format));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<MovieImportResponse>> getImports() {
+        return ResponseEntity.ok(movieImportService.getImports());
+    }
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<MovieImportResponse> getImport(@PathVariable UUID importId) {
+        return ResponseEntity.ok(movieImportService.getImport(importId));
+    }
+
+    @PostMapping("/{importId}/resume")
+    public ResponseEntity<MovieImportResponse> resumeImport(@PathVariable UUID importId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(movieImportService.resumeImport(importId));
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.cinephile.movie.dto;
+
+// value can be passed back as the matching filter parameter
+public record FacetCount(String value,
+                         long count
+) {}
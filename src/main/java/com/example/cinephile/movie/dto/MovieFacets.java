@@ -0,0 +1,9 @@
+package com.example.cinephile.movie.dto;
+
+import java.util.List;
+
+public record MovieFacets(List<FacetCount> genres,
+                          List<FacetCount> rated,
+                          List<FacetCount> decades,
+                          List<FacetCount> languages
+) {}
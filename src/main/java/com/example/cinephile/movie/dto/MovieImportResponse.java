@@ -0,0 +1,20 @@
+package com.example.cinephile.movie.dto;
+
+import com.example.cinephile.movie.entity.ImportFormat;
+import com.example.cinephile.movie.entity.ImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MovieImportResponse(UUID id,
+                                  String fileName,
+                                  ImportFormat format,
+                                  ImportStatus status,
+                                  long recordsRead,
+                                  long imported,
+                                  long duplicates, // imdb id already in the catalog or earlier in the file
+                                  long skipped, // invalid or filtered records
+                                  String error,
+                                  LocalDateTime createdAt,
+                                  LocalDateTime updatedAt
+) {}
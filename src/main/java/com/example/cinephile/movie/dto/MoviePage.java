@@ -1,5 +1,6 @@
 package com.example.cinephile.movie.dto;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record MoviePage(UUID id,
@@ -16,5 +17,6 @@ public record MoviePage(UUID id,
                         String writer, // comma separated writers if multiple
                         String actors, // comma separated actors
                         String language, // comma separated languages if multiple
-                        String country // comma separated countries if multiple
+                        String country, // comma separated countries if multiple
+                        LocalDateTime updatedAt // version of the details, also served as ETag and Last-Modified
 ) {}
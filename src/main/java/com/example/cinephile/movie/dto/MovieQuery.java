@@ -0,0 +1,11 @@
+package com.example.cinephile.movie.dto;
+
+// every criterion is optional; decade is the first year of the decade, e.g. 1990
+public record MovieQuery(String q,
+                         String title,
+                         String genre,
+                         String rated,
+                         Double rating,
+                         String language,
+                         Integer decade
+) {}
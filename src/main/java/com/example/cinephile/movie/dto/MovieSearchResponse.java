@@ -0,0 +1,7 @@
+package com.example.cinephile.movie.dto;
+
+import org.springframework.data.domain.Page;
+
+public record MovieSearchResponse(Page<MovieCard> movies,
+                                  MovieFacets facets
+) {}
@@ -0,0 +1,9 @@
+package com.example.cinephile.movie.dto;
+
+import java.util.List;
+
+// one page of a keyset listing; pass nextCursor back to continue, there is no total count
+public record MovieSlice(List<MovieCard> content,
+                         String nextCursor,
+                         boolean hasNext
+) {}
@@ -0,0 +1,7 @@
+package com.example.cinephile.movie.dto;
+
+public enum MovieSort {
+    RATING,
+    YEAR,
+    TITLE
+}
@@ -0,0 +1,10 @@
+package com.example.cinephile.movie.dto;
+
+import java.util.UUID;
+
+// movieId is only set for MOVIE suggestions; for people, rating is the best rating among their movies
+public record MovieSuggestion(String text,
+                              SuggestionType type,
+                              UUID movieId,
+                              Double rating
+) {}
@@ -0,0 +1,6 @@
+package com.example.cinephile.movie.dto;
+
+public enum SuggestionType {
+    MOVIE,
+    PERSON
+}
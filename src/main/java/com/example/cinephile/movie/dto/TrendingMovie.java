@@ -0,0 +1,5 @@
+package com.example.cinephile.movie.dto;
+
+public record TrendingMovie(MovieCard movie,
+                            long seats
+) {}
@@ -0,0 +1,16 @@
+package com.example.cinephile.movie.dto;
+
+public enum TrendingWindow {
+    HOUR(60),
+    DAY(24 * 60);
+
+    private final int minutes;
+
+    TrendingWindow(int minutes) {
+        this.minutes = minutes;
+    }
+
+    public int minutes() {
+        return minutes;
+    }
+}
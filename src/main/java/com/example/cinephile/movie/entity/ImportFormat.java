@@ -0,0 +1,6 @@
+package com.example.cinephile.movie.entity;
+
+public enum ImportFormat {
+    JSON, // an array of movie objects, or one object per line
+    TSV // tab separated with a header row, IMDb dataset column names are understood
+}
@@ -0,0 +1,8 @@
+package com.example.cinephile.movie.entity;
+
+public enum ImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
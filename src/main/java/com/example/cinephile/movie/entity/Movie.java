@@ -1,10 +1,15 @@
 package com.example.cinephile.movie.entity;
 
+import com.example.cinephile.config.CacheConfig;
 import com.fasterxml.uuid.Generators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
@@ -12,6 +17,9 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "movies")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.MOVIES_REGION)
+@NaturalIdCache(region = CacheConfig.MOVIE_IMDB_IDS_REGION)
 @Getter @Setter
 public class Movie {
     @Id
@@ -19,6 +27,8 @@ public class Movie {
     private UUID id;
     private String title;
     private String plot;
+    // editable, so lookups by it resolve through the natural id cache and are invalidated on change
+    @NaturalId(mutable = true)
     @Column(name = "imdb_id", unique = true)
     private String imdbId;
     @Column(name = "poster_url")
@@ -0,0 +1,60 @@
+package com.example.cinephile.movie.entity;
+
+import com.fasterxml.uuid.Generators;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "movie_imports")
+@Getter @Setter
+public class MovieImport {
+    @Id
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private UUID id;
+
+    @Column(name = "file_name")
+    private String fileName; // as uploaded
+
+    @Column(name = "file_path")
+    private String filePath; // server-side copy, removed once completed
+
+    @Enumerated(EnumType.STRING)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    private ImportStatus status;
+
+    // counters are advanced by MovieJdbcRepository in the same transaction as each batch
+    @Column(name = "records_read")
+    private long recordsRead;
+    private long imported;
+    private long duplicates;
+    private long skipped;
+    private String error;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (id == null) {
+            id = Generators.timeBasedEpochGenerator().generate();
+        }
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.cinephile.movie.event;
+
+import java.util.UUID;
+
+public record MovieChangedEvent(UUID movieId) {
+}
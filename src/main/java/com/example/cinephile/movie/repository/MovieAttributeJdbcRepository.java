@@ -0,0 +1,106 @@
+package com.example.cinephile.movie.repository;
+
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.search.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.function.Function;
+
+// keeps the normalized genre/people/language/country tables in line with the comma separated movie columns
+@Repository
+@RequiredArgsConstructor
+public class MovieAttributeJdbcRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private enum Attribute {
+        GENRE("genres", "movie_genres", "genre_id", Movie::getGenre),
+        LANGUAGE("languages", "movie_languages", "language_id", Movie::getLanguage),
+        COUNTRY("countries", "movie_countries", "country_id", Movie::getCountry);
+
+        private final String lookupTable;
+        private final String joinTable;
+        private final String joinColumn;
+        private final Function<Movie, String> column;
+
+        Attribute(String lookupTable, String joinTable, String joinColumn, Function<Movie, String> column) {
+            this.lookupTable = lookupTable;
+            this.joinTable = joinTable;
+            this.joinColumn = joinColumn;
+            this.column = column;
+        }
+    }
+
+    private enum Role {
+        ACTOR(Movie::getActors),
+        DIRECTOR(Movie::getDirector),
+        WRITER(Movie::getWriter);
+
+        private final Function<Movie, String> column;
+
+        Role(Function<Movie, String> column) {
+            this.column = column;
+        }
+    }
+
+    // movies must already be flushed; lookups are shared, so new names go in with INSERT IGNORE first
+    public void replaceAttributes(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        List<String> movieIds = movies.stream().map(movie -> movie.getId().toString()).toList();
+        String placeholders = String.join(",", Collections.nCopies(movieIds.size(), "?"));
+
+        for (Attribute attribute : Attribute.values()) {
+            jdbcTemplate.update("DELETE FROM " + attribute.joinTable + " WHERE movie_id IN (" + placeholders + ")",
+                    movieIds.toArray());
+            List<String[]> rows = new ArrayList<>();
+            for (Movie movie : movies) {
+                for (String name : new LinkedHashSet<>(TextNormalizer.splitNames(attribute.column.apply(movie)))) {
+                    rows.add(new String[]{movie.getId().toString(), name});
+                }
+            }
+            insertNames(attribute.lookupTable, rows);
+            jdbcTemplate.batchUpdate("INSERT IGNORE INTO " + attribute.joinTable + " (movie_id, " + attribute.joinColumn
+                            + ") SELECT ?, id FROM " + attribute.lookupTable + " WHERE name = ?",
+                    rows, BATCH_SIZE, (ps, row) -> {
+                        ps.setString(1, row[0]);
+                        ps.setString(2, row[1]);
+                    });
+        }
+
+        jdbcTemplate.update("DELETE FROM movie_people WHERE movie_id IN (" + placeholders + ")", movieIds.toArray());
+        List<String[]> rows = new ArrayList<>();
+        for (Movie movie : movies) {
+            for (Role role : Role.values()) {
+                int position = 1;
+                for (String name : new LinkedHashSet<>(TextNormalizer.splitNames(role.column.apply(movie)))) {
+                    rows.add(new String[]{movie.getId().toString(), name, role.name(), String.valueOf(position++)});
+                }
+            }
+        }
+        insertNames("people", rows);
+        jdbcTemplate.batchUpdate("""
+                        INSERT IGNORE INTO movie_people (movie_id, person_id, role, position)
+                        SELECT ?, id, ?, ? FROM people WHERE name = ?
+                        """,
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row[0]);
+                    ps.setString(2, row[2]);
+                    ps.setInt(3, Integer.parseInt(row[3]));
+                    ps.setString(4, row[1]);
+                });
+    }
+
+    // name is the second column of every row
+    private void insertNames(String lookupTable, List<String[]> rows) {
+        Set<String> names = new LinkedHashSet<>();
+        rows.forEach(row -> names.add(row[1]));
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO " + lookupTable + " (name) VALUES (?)",
+                names, BATCH_SIZE, (ps, name) -> ps.setString(1, name));
+    }
+}
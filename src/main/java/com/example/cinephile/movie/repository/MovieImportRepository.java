@@ -0,0 +1,29 @@
+package com.example.cinephile.movie.repository;
+
+import com.example.cinephile.movie.entity.ImportStatus;
+import com.example.cinephile.movie.entity.MovieImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MovieImportRepository extends JpaRepository<MovieImport, UUID> {
+    List<MovieImport> findByStatusIn(Collection<ImportStatus> statuses);
+
+    List<MovieImport> findAllByOrderByCreatedAtDesc();
+
+    // status only, the counters are advanced by the import batches
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE MovieImport i SET i.status = :status, i.error = :error, i.updatedAt = CURRENT_TIMESTAMP
+            WHERE i.id = :id
+            """)
+    int updateStatus(UUID id, ImportStatus status, String error);
+}
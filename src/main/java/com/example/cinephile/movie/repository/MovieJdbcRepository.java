@@ -0,0 +1,84 @@
+package com.example.cinephile.movie.repository;
+
+import com.example.cinephile.movie.entity.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class MovieJdbcRepository {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_MOVIE = """
+            INSERT INTO movies (id, title, plot, imdb_id, poster_url, runtime, year, genre, rated, rating,
+                                director, writer, actors, language, country, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public interface ConfirmationConsumer {
+        void accept(UUID movieId, LocalDateTime confirmedAt, int seats);
+    }
+
+    public Set<String> findExistingImdbIds(Collection<String> imdbIds) {
+        if (imdbIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(imdbIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT imdb_id FROM movies WHERE imdb_id IN (" + placeholders + ")", String.class, imdbIds.toArray()));
+    }
+
+    // confirmed bookings since the given time, with the movie they are for. seats are counted from the booked
+    // booking_seats rows, the authoritative record of what a booking holds
+    public void forEachConfirmation(LocalDateTime since, ConfirmationConsumer consumer) {
+        jdbcTemplate.query("""
+                SELECT st.movie_id, b.confirmed_at, COUNT(bs.id)
+                FROM bookings b
+                JOIN showtimes st ON st.id = b.showtime_id
+                JOIN booking_seats bs ON bs.booking_id = b.id AND bs.status = 'BOOKED'
+                WHERE b.status = 'CONFIRMED' AND b.confirmed_at >= ?
+                GROUP BY b.id, st.movie_id, b.confirmed_at
+                """, (RowCallbackHandler) rs -> consumer.accept(UUID.fromString(rs.getString(1)),
+                rs.getObject(2, LocalDateTime.class), rs.getInt(3)), since);
+    }
+
+    // movies must already carry their id
+    public void insertMovies(List<Movie> movies) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_MOVIE, movies, BATCH_SIZE, (ps, movie) -> {
+            ps.setString(1, movie.getId().toString());
+            ps.setString(2, movie.getTitle());
+            ps.setString(3, movie.getPlot());
+            ps.setString(4, movie.getImdbId());
+            ps.setString(5, movie.getPosterUrl());
+            ps.setObject(6, movie.getRuntime());
+            ps.setObject(7, movie.getYear());
+            ps.setString(8, movie.getGenre());
+            ps.setString(9, movie.getRated());
+            ps.setObject(10, movie.getRating());
+            ps.setString(11, movie.getDirector());
+            ps.setString(12, movie.getWriter());
+            ps.setString(13, movie.getActors());
+            ps.setString(14, movie.getLanguage());
+            ps.setString(15, movie.getCountry());
+            ps.setObject(16, now);
+            ps.setObject(17, now);
+        });
+    }
+
+    // the import checkpoint, committed with the batch it describes
+    public void advanceImport(UUID importId, long read, long imported, long duplicates, long skipped) {
+        jdbcTemplate.update("""
+                UPDATE movie_imports
+                SET records_read = records_read + ?, imported = imported + ?, duplicates = duplicates + ?,
+                    skipped = skipped + ?, updated_at = ?
+                WHERE id = ?
+                """, read, imported, duplicates, skipped, LocalDateTime.now(), importId.toString());
+    }
+}
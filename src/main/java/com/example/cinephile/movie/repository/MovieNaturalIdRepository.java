@@ -0,0 +1,23 @@
+package com.example.cinephile.movie.repository;
+
+import com.example.cinephile.movie.entity.Movie;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+// lookups by imdb id that go through hibernate's natural id cache, a derived findByImdbId query would always hit
+// the database
+@Repository
+@RequiredArgsConstructor
+public class MovieNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    public Optional<Movie> findByImdbId(String imdbId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Movie.class)
+                .loadOptional(imdbId);
+    }
+}
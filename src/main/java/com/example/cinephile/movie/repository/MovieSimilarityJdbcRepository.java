@@ -0,0 +1,49 @@
+package com.example.cinephile.movie.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+
+// full scans feeding the similar-movies batch; rows are streamed to the callback, never collected
+@Repository
+public class MovieSimilarityJdbcRepository {
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public MovieSimilarityJdbcRepository(DataSource dataSource) {
+        // Integer.MIN_VALUE makes Connector/J stream the result row by row instead of buffering all of it
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    // a missing rating is passed as 0
+    public void forEachMovie(ObjDoubleConsumer<String> consumer) {
+        streamingJdbcTemplate.query("SELECT id, rating FROM movies",
+                (RowCallbackHandler) rs -> consumer.accept(rs.getString(1), rs.getDouble(2)));
+    }
+
+    // grouped by user, read in order off idx_bookings_status_user
+    public void forEachConfirmedBooking(BiConsumer<String, String> userAndMovie) {
+        streamingJdbcTemplate.query("""
+                SELECT b.user_id, st.movie_id
+                FROM bookings b
+                JOIN showtimes st ON st.id = b.showtime_id
+                WHERE b.status = 'CONFIRMED'
+                ORDER BY b.user_id
+                """, (RowCallbackHandler) rs -> userAndMovie.accept(rs.getString(1), rs.getString(2)));
+    }
+
+    public void forEachMovieGenre(ObjIntConsumer<String> movieAndGenre) {
+        streamingJdbcTemplate.query("SELECT movie_id, genre_id FROM movie_genres",
+                (RowCallbackHandler) rs -> movieAndGenre.accept(rs.getString(1), rs.getInt(2)));
+    }
+
+    public void forEachMovieActor(ObjIntConsumer<String> movieAndPerson) {
+        streamingJdbcTemplate.query("SELECT movie_id, person_id FROM movie_people WHERE role = 'ACTOR'",
+                (RowCallbackHandler) rs -> movieAndPerson.accept(rs.getString(1), rs.getInt(2)));
+    }
+}
@@ -0,0 +1,487 @@
+package com.example.cinephile.movie.search;
+
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.movie.dto.*;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.event.MovieChangedEvent;
+import com.example.cinephile.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// tokenized inverted index over the catalog; a token maps to the movies containing it with a per-field weight,
+// and the last query token also matches as a prefix so results show up while the user is still typing.
+// movies live in dense slots so filters and facet counts are bitmap intersections, and every sort order is kept
+// as a (value, id) tree so a cursor page seeks straight to its position instead of sorting and skipping
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSearchIndex {
+    private static final int TITLE = 1;
+    private static final int PEOPLE = 2;
+    private static final int GENRE = 4;
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float ACTOR_WEIGHT = 2.0f;
+    private static final float DIRECTOR_WEIGHT = 2.0f;
+    private static final float WRITER_WEIGHT = 1.5f;
+    private static final float GENRE_WEIGHT = 1.0f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final MovieRepository movieRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>(); // by slot, null once freed
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final NavigableMap<String, Map<Integer, Posting>> postings = new TreeMap<>();
+    private final Map<Facet, Map<String, FacetValue>> facets = new EnumMap<>(Facet.class);
+    private final Map<MovieSort, NavigableMap<SortKey, Integer>> orders = new EnumMap<>(MovieSort.class);
+
+    private enum Facet {
+        GENRE, RATED, DECADE, LANGUAGE
+    }
+
+    private record Document(MovieCard card, Map<Facet, Set<String>> facetKeys, Set<String> tokens) {
+    }
+
+    // fields is a bit set of where the token occurs, weight the sum of those fields' weights
+    private record Posting(int fields, float weight) {
+        Posting merge(int field, float fieldWeight) {
+            return new Posting(fields | field, weight + fieldWeight);
+        }
+    }
+
+    // label is the value as first written, the map key is its folded form
+    private record FacetValue(String label, BitSet movies) {
+    }
+
+    // value is the rating, the year or the folded title; the id breaks ties so every key is unique.
+    // missing values sort first, which puts unrated movies last in the default descending rating order
+    private record SortKey(Comparable<?> value, UUID id) implements Comparable<SortKey> {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int compareTo(SortKey other) {
+            int byValue = Comparator.nullsFirst(Comparator.<Comparable>naturalOrder())
+                    .compare((Comparable) value, (Comparable) other.value);
+            return byValue != 0 ? byValue : id.compareTo(other.id);
+        }
+    }
+
+    // the movies matching a query; scores is null when there is no text query
+    private record Selection(Map<Integer, Float> scores, BitSet base, Map<Facet, BitSet> filters) {
+        BitSet matches() {
+            BitSet matches = (BitSet) base.clone();
+            filters.values().forEach(matches::and);
+            return matches;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Movie> movies = movieRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            documents.clear();
+            freeSlots.clear();
+            live.clear();
+            postings.clear();
+            facets.clear();
+            orders.clear();
+            movies.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Movie search index built with {} movies and {} tokens", movies.size(), postings.size());
+    }
+
+    // reload the committed row, a missing row means the movie was deleted
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        Optional<Movie> movie = movieRepository.findById(event.movieId());
+        lock.writeLock().lock();
+        try {
+            remove(event.movieId());
+            movie.ifPresent(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // q matches title, people and genre; title only matches the title; both require every token to match
+    public Page<MovieCard> search(MovieQuery query, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return execute(query, pageable, false).movies();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // facet counts ignore the facet's own filter, so the other values of a selected facet stay visible
+    public MovieSearchResponse searchWithFacets(MovieQuery query, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return execute(query, pageable, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // keyset paging: the cursor is the sort key of the last movie of the previous slice, so any depth costs the
+    // same and no total is counted. with a text query the relevance order is replaced by the requested one
+    public MovieSlice scroll(MovieQuery query, MovieSort sort, Sort.Direction direction, String cursor, int size) {
+        SortKey after = cursor == null || cursor.isBlank() ? null : decodeCursor(sort, cursor);
+        lock.readLock().lock();
+        try {
+            BitSet matches = select(query).matches();
+            NavigableMap<SortKey, Integer> order = orders.getOrDefault(sort, Collections.emptyNavigableMap());
+            if (direction == Sort.Direction.DESC) {
+                order = order.descendingMap();
+            }
+            if (after != null) {
+                order = order.tailMap(after, false);
+            }
+            List<MovieCard> content = new ArrayList<>(size);
+            SortKey last = null;
+            boolean hasNext = false;
+            for (Map.Entry<SortKey, Integer> entry : order.entrySet()) {
+                if (!matches.get(entry.getValue())) {
+                    continue;
+                }
+                if (content.size() == size) {
+                    hasNext = true;
+                    break;
+                }
+                content.add(documents.get(entry.getValue()).card());
+                last = entry.getKey();
+            }
+            return new MovieSlice(content, hasNext ? encodeCursor(last) : null, hasNext);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(UUID movieId) {
+        lock.readLock().lock();
+        try {
+            return slots.containsKey(movieId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<MovieCard> card(UUID movieId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(slots.get(movieId)).map(slot -> documents.get(slot).card());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // cards in the order of the ids, skipping movies that are no longer in the catalog
+    public List<MovieCard> cards(List<UUID> movieIds) {
+        lock.readLock().lock();
+        try {
+            List<MovieCard> cards = new ArrayList<>(movieIds.size());
+            for (UUID movieId : movieIds) {
+                Integer slot = slots.get(movieId);
+                if (slot != null) {
+                    cards.add(documents.get(slot).card());
+                }
+            }
+            return cards;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private MovieSearchResponse execute(MovieQuery query, Pageable pageable, boolean withFacets) {
+        Selection selection = select(query);
+        Page<MovieCard> page = rank(selection.matches(), selection.scores(), pageable);
+        if (!withFacets) {
+            return new MovieSearchResponse(page, null);
+        }
+        BitSet base = selection.base();
+        Map<Facet, BitSet> filters = selection.filters();
+        return new MovieSearchResponse(page, new MovieFacets(
+                count(Facet.GENRE, base, filters),
+                count(Facet.RATED, base, filters),
+                count(Facet.DECADE, base, filters),
+                count(Facet.LANGUAGE, base, filters)
+        ));
+    }
+
+    private Selection select(MovieQuery query) {
+        List<String> queryTokens = TextNormalizer.tokenize(query.q());
+        List<String> titleTokens = TextNormalizer.tokenize(query.title());
+        Map<Integer, Float> scores = null;
+        if (!queryTokens.isEmpty()) {
+            scores = match(queryTokens, TITLE | PEOPLE | GENRE, null);
+        }
+        if (!titleTokens.isEmpty()) {
+            scores = match(titleTokens, TITLE, scores);
+        }
+
+        BitSet base = (BitSet) live.clone();
+        if (scores != null) {
+            base = new BitSet();
+            for (int slot : scores.keySet()) {
+                base.set(slot);
+            }
+        }
+        if (query.rating() != null && query.rating() > 0) {
+            for (int slot = base.nextSetBit(0); slot >= 0; slot = base.nextSetBit(slot + 1)) {
+                Double rating = documents.get(slot).card().rating();
+                if (rating == null || rating < query.rating()) {
+                    base.clear(slot);
+                }
+            }
+        }
+        Map<Facet, BitSet> filters = new EnumMap<>(Facet.class);
+        addFilter(filters, Facet.GENRE, query.genre());
+        addFilter(filters, Facet.RATED, query.rated());
+        addFilter(filters, Facet.LANGUAGE, query.language());
+        if (query.decade() != null) {
+            addFilter(filters, Facet.DECADE, String.valueOf(query.decade() / 10 * 10));
+        }
+        return new Selection(scores, base, filters);
+    }
+
+    private void addFilter(Map<Facet, BitSet> filters, Facet facet, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        FacetValue facetValue = facets.getOrDefault(facet, Map.of()).get(TextNormalizer.fold(value));
+        filters.put(facet, facetValue != null ? facetValue.movies() : new BitSet());
+    }
+
+    private List<FacetCount> count(Facet facet, BitSet base, Map<Facet, BitSet> filters) {
+        BitSet scope = (BitSet) base.clone();
+        filters.forEach((other, movies) -> {
+            if (other != facet) {
+                scope.and(movies);
+            }
+        });
+        List<FacetCount> counts = new ArrayList<>();
+        BitSet intersection = new BitSet();
+        for (FacetValue value : facets.getOrDefault(facet, Map.of()).values()) {
+            intersection.clear();
+            intersection.or(scope);
+            intersection.and(value.movies());
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.add(new FacetCount(value.label(), count));
+            }
+        }
+        counts.sort(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value));
+        return counts;
+    }
+
+    private Page<MovieCard> rank(BitSet matches, Map<Integer, Float> scores, Pageable pageable) {
+        List<Integer> ordered = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            ordered.add(slot);
+        }
+        Comparator<Integer> byRating = Comparator.comparing((Integer slot) -> documents.get(slot).card().rating(),
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        Comparator<Integer> order = scores != null
+                ? Comparator.comparing((Integer slot) -> scores.getOrDefault(slot, 0f)).reversed().thenComparing(byRating)
+                : byRating;
+        ordered.sort(order.thenComparing(slot -> documents.get(slot).card().title(),
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        List<MovieCard> content = ordered.subList(from, to).stream()
+                .map(slot -> documents.get(slot).card())
+                .toList();
+        return new PageImpl<>(content, pageable, ordered.size());
+    }
+
+    // intersection over tokens, scored by field weight times idf; the last token is also read as a prefix
+    private Map<Integer, Float> match(List<String> tokens, int fieldMask, Map<Integer, Float> within) {
+        Map<Integer, Float> result = within;
+        for (int i = 0; i < tokens.size(); i++) {
+            boolean last = i == tokens.size() - 1;
+            Map<Integer, Float> tokenScores = scoreToken(tokens.get(i), last, fieldMask);
+            if (result == null) {
+                result = tokenScores;
+            } else {
+                Map<Integer, Float> intersection = new HashMap<>();
+                for (Map.Entry<Integer, Float> entry : result.entrySet()) {
+                    Float score = tokenScores.get(entry.getKey());
+                    if (score != null) {
+                        intersection.put(entry.getKey(), entry.getValue() + score);
+                    }
+                }
+                result = intersection;
+            }
+            if (result.isEmpty()) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private Map<Integer, Float> scoreToken(String token, boolean prefix, int fieldMask) {
+        Map<Integer, Float> scores = new HashMap<>();
+        Collection<Map.Entry<String, Map<Integer, Posting>>> entries = prefix
+                ? postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()
+                : Optional.ofNullable(postings.get(token)).map(p -> List.of(Map.entry(token, p))).orElse(List.of());
+        int expansions = 0;
+        for (Map.Entry<String, Map<Integer, Posting>> entry : entries) {
+            if (expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            // exact hits outrank prefix completions
+            float exactBoost = entry.getKey().equals(token) ? 1.0f : 0.5f;
+            float idf = (float) Math.log(1 + (double) slots.size() / entry.getValue().size());
+            for (Map.Entry<Integer, Posting> posting : entry.getValue().entrySet()) {
+                if ((posting.getValue().fields() & fieldMask) == 0) {
+                    continue;
+                }
+                scores.merge(posting.getKey(), posting.getValue().weight() * idf * exactBoost, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void add(Movie movie) {
+        int slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+        Map<String, Posting> movieTokens = new HashMap<>();
+        collect(movieTokens, movie.getTitle(), TITLE, TITLE_WEIGHT);
+        collect(movieTokens, movie.getActors(), PEOPLE, ACTOR_WEIGHT);
+        collect(movieTokens, movie.getDirector(), PEOPLE, DIRECTOR_WEIGHT);
+        collect(movieTokens, movie.getWriter(), PEOPLE, WRITER_WEIGHT);
+        collect(movieTokens, movie.getGenre(), GENRE, GENRE_WEIGHT);
+        movieTokens.forEach((token, posting) ->
+                postings.computeIfAbsent(token, t -> new HashMap<>()).put(slot, posting));
+
+        Map<Facet, Set<String>> facetKeys = new EnumMap<>(Facet.class);
+        facetKeys.put(Facet.GENRE, addFacetValues(Facet.GENRE, slot, TextNormalizer.splitNames(movie.getGenre())));
+        facetKeys.put(Facet.LANGUAGE, addFacetValues(Facet.LANGUAGE, slot,
+                TextNormalizer.splitNames(movie.getLanguage())));
+        facetKeys.put(Facet.RATED, addFacetValues(Facet.RATED, slot,
+                movie.getRated() == null || movie.getRated().isBlank() ? List.of() : List.of(movie.getRated().trim())));
+        facetKeys.put(Facet.DECADE, addFacetValues(Facet.DECADE, slot,
+                movie.getYear() == null ? List.of() : List.of(String.valueOf(movie.getYear() / 10 * 10))));
+
+        MovieCard card = new MovieCard(movie.getId(), movie.getTitle(), movie.getPosterUrl(),
+                movie.getYear(), movie.getRated(), movie.getRating());
+        Document document = new Document(card, facetKeys, movieTokens.keySet());
+        if (slot == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(slot, document);
+        }
+        slots.put(movie.getId(), slot);
+        live.set(slot);
+        for (MovieSort sort : MovieSort.values()) {
+            orders.computeIfAbsent(sort, s -> new TreeMap<>()).put(sortKey(sort, card), slot);
+        }
+    }
+
+    private Set<String> addFacetValues(Facet facet, int slot, List<String> labels) {
+        Set<String> keys = new HashSet<>();
+        Map<String, FacetValue> values = facets.computeIfAbsent(facet, f -> new HashMap<>());
+        for (String label : labels) {
+            String key = TextNormalizer.fold(label);
+            if (keys.add(key)) {
+                values.computeIfAbsent(key, k -> new FacetValue(label, new BitSet())).movies().set(slot);
+            }
+        }
+        return keys;
+    }
+
+    private void remove(UUID movieId) {
+        Integer slot = slots.remove(movieId);
+        if (slot == null) {
+            return;
+        }
+        Document document = documents.set(slot, null);
+        live.clear(slot);
+        freeSlots.push(slot);
+        for (MovieSort sort : MovieSort.values()) {
+            orders.get(sort).remove(sortKey(sort, document.card()));
+        }
+        for (String token : document.tokens()) {
+            Map<Integer, Posting> movies = postings.get(token);
+            if (movies != null) {
+                movies.remove(slot);
+                if (movies.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+        document.facetKeys().forEach((facet, keys) -> {
+            Map<String, FacetValue> values = facets.get(facet);
+            for (String key : keys) {
+                FacetValue value = values.get(key);
+                value.movies().clear(slot);
+                if (value.movies().isEmpty()) {
+                    values.remove(key);
+                }
+            }
+        });
+    }
+
+    private static SortKey sortKey(MovieSort sort, MovieCard card) {
+        return switch (sort) {
+            case RATING -> new SortKey(card.rating(), card.id());
+            case YEAR -> new SortKey(card.year(), card.id());
+            case TITLE -> new SortKey(TextNormalizer.fold(card.title()), card.id());
+        };
+    }
+
+    // base64url of "<id>:<value>", with "~" standing for a missing value; opaque to clients
+    private static String encodeCursor(SortKey key) {
+        String value = key.value() == null ? "~" : "=" + key.value();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key.id() + ":" + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SortKey decodeCursor(MovieSort sort, String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            UUID id = UUID.fromString(decoded.substring(0, separator));
+            String value = decoded.substring(separator + 1);
+            if (value.equals("~")) {
+                return new SortKey(null, id);
+            }
+            if (!value.startsWith("=")) {
+                throw new IllegalArgumentException("Malformed cursor value");
+            }
+            value = value.substring(1);
+            return new SortKey(switch (sort) {
+                case RATING -> Double.valueOf(value);
+                case YEAR -> Integer.valueOf(value);
+                case TITLE -> value;
+            }, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CinephileException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static void collect(Map<String, Posting> tokens, String text, int field, float weight) {
+        for (String token : new LinkedHashSet<>(TextNormalizer.tokenize(text))) {
+            tokens.merge(token, new Posting(field, weight), (current, ignored) -> current.merge(field, weight));
+        }
+    }
+}
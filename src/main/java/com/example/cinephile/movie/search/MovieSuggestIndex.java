@@ -0,0 +1,215 @@
+package com.example.cinephile.movie.search;
+
+import com.example.cinephile.movie.dto.MovieSuggestion;
+import com.example.cinephile.movie.dto.SuggestionType;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.event.MovieChangedEvent;
+import com.example.cinephile.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// typeahead over movie titles and people (actors, directors); titles and names are indexed under every word,
+// so "reeves" completes "Keanu Reeves". people rank by the best rating among their movies.
+// built from the movies table off to the side and swapped in whole, then patched per movie under the write lock.
+// lookups never reach the database
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSuggestIndex {
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_KEYS_PER_NAME = 8;
+    private static final Comparator<SuggestionTrie.Entry<MovieSuggestion>> RANKING =
+            Comparator.comparingDouble((SuggestionTrie.Entry<MovieSuggestion> entry) -> entry.score()).reversed()
+                    .thenComparing(entry -> entry.value().type())
+                    .thenComparing(entry -> entry.value().text());
+
+    private final MovieRepository movieRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Index index = new Index(new SuggestionTrie<>(MAX_SUGGESTIONS, RANKING));
+    // movies changed while a rebuild reads the table, patched into the new index once it is swapped in
+    private Set<UUID> changedDuringRebuild;
+
+    private record IndexedMovie(String title, Set<String> people) {
+    }
+
+    private record Index(SuggestionTrie<MovieSuggestion> trie, Map<UUID, IndexedMovie> movies,
+                         Map<String, Person> people) {
+        private Index(SuggestionTrie<MovieSuggestion> trie) {
+            this(trie, new HashMap<>(), new HashMap<>());
+        }
+    }
+
+    // movie ratings per person, the best one is the person's score
+    private static final class Person {
+        private final String name;
+        private final Map<UUID, Double> ratings = new HashMap<>();
+
+        private Person(String name) {
+            this.name = name;
+        }
+    }
+
+    // lookups keep using the current index while the new one is built, the write lock is only held for the swap
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Index built = null;
+        Set<UUID> changed;
+        try {
+            built = build(movieRepository.findAll());
+        } finally {
+            // a failed build keeps the current index, which already has the changes
+            lock.writeLock().lock();
+            try {
+                if (built != null) {
+                    index = built;
+                }
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        changed.forEach(this::patch);
+        log.info("Movie suggestions built for {} movies and {} people", built.movies().size(), built.people().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        patch(event.movieId());
+    }
+
+    public List<MovieSuggestion> suggest(String query, int limit) {
+        String prefix = String.join(" ", TextNormalizer.tokenize(query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return index.trie().complete(prefix, Math.min(limit, MAX_SUGGESTIONS)).stream()
+                    .map(SuggestionTrie.Entry::value)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void patch(UUID movieId) {
+        Optional<Movie> movie = movieRepository.findById(movieId);
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(movieId);
+            }
+            remove(index, movieId);
+            movie.ifPresent(m -> add(index, m));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // every movie and person goes into the trie once, people after their ratings from all movies are known
+    private static Index build(List<Movie> all) {
+        SuggestionTrie.Builder<MovieSuggestion> trie = SuggestionTrie.builder(MAX_SUGGESTIONS, RANKING);
+        Map<UUID, IndexedMovie> movies = new HashMap<>();
+        Map<String, Person> people = new HashMap<>();
+        for (Movie movie : all) {
+            trie.put(movieEntry(movie), keys(movie.getTitle()));
+            movies.put(movie.getId(), new IndexedMovie(movie.getTitle(),
+                    Set.copyOf(addRatings(people, movie).keySet())));
+        }
+        people.forEach((key, person) -> trie.put(personEntry(key, person), keys(person.name)));
+        return new Index(trie.build(), movies, people);
+    }
+
+    private static void add(Index index, Movie movie) {
+        index.trie().put(movieEntry(movie), keys(movie.getTitle()));
+        Map<String, Person> moviePeople = addRatings(index.people(), movie);
+        moviePeople.forEach((key, person) -> index.trie().put(personEntry(key, person), keys(person.name)));
+        index.movies().put(movie.getId(), new IndexedMovie(movie.getTitle(), Set.copyOf(moviePeople.keySet())));
+    }
+
+    // records the movie's rating for each of its people, returns them by key
+    private static Map<String, Person> addRatings(Map<String, Person> people, Movie movie) {
+        Map<String, Person> moviePeople = new HashMap<>();
+        List<String> movieNames = new ArrayList<>(TextNormalizer.splitNames(movie.getActors()));
+        movieNames.addAll(TextNormalizer.splitNames(movie.getDirector()));
+        for (String name : movieNames) {
+            String key = String.join(" ", TextNormalizer.tokenize(name));
+            if (key.isEmpty() || moviePeople.containsKey(key)) {
+                continue;
+            }
+            Person person = people.computeIfAbsent(key, k -> new Person(name));
+            person.ratings.put(movie.getId(), movie.getRating());
+            moviePeople.put(key, person);
+        }
+        return moviePeople;
+    }
+
+    private static void remove(Index index, UUID movieId) {
+        IndexedMovie movie = index.movies().remove(movieId);
+        if (movie == null) {
+            return;
+        }
+        index.trie().remove(movieEntryId(movieId), keys(movie.title()));
+        for (String key : movie.people()) {
+            Person person = index.people().get(key);
+            person.ratings.remove(movieId);
+            if (person.ratings.isEmpty()) {
+                index.people().remove(key);
+                index.trie().remove(personEntryId(key), keys(person.name));
+            } else {
+                index.trie().put(personEntry(key, person), keys(person.name));
+            }
+        }
+    }
+
+    private static SuggestionTrie.Entry<MovieSuggestion> movieEntry(Movie movie) {
+        double score = movie.getRating() != null ? movie.getRating() : 0.0;
+        return new SuggestionTrie.Entry<>(movieEntryId(movie.getId()),
+                new MovieSuggestion(movie.getTitle(), SuggestionType.MOVIE, movie.getId(), movie.getRating()),
+                score);
+    }
+
+    private static SuggestionTrie.Entry<MovieSuggestion> personEntry(String key, Person person) {
+        Double best = person.ratings.values().stream()
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new SuggestionTrie.Entry<>(personEntryId(key),
+                new MovieSuggestion(person.name, SuggestionType.PERSON, null, best),
+                best != null ? best : 0.0);
+    }
+
+    // one key per word start: "the matrix" and "matrix"
+    private static List<String> keys(String text) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < Math.min(tokens.size(), MAX_KEYS_PER_NAME); i++) {
+            keys.add(String.join(" ", tokens.subList(i, tokens.size())));
+        }
+        return keys;
+    }
+
+    private static String movieEntryId(UUID movieId) {
+        return "movie:" + movieId;
+    }
+
+    private static String personEntryId(String key) {
+        return "person:" + key;
+    }
+}
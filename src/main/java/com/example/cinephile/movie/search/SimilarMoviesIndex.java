@@ -0,0 +1,327 @@
+package com.example.cinephile.movie.search;
+
+import com.example.cinephile.movie.repository.MovieSimilarityJdbcRepository;
+import com.example.cinephile.movie.util.LongIntHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// "people who booked this also booked": item-item cosine similarity over the user x movie matrix of confirmed
+// bookings, recomputed by a periodic batch and served from memory. movies with too few co-bookings, like new
+// releases, are topped up with the movies closest to them in genres and cast
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarMoviesIndex {
+    public static final int TOP_K = 20;
+    private static final int MIN_CO_BOOKINGS = 2; // a single shared booker is noise
+    private static final int MAX_BASKET = 200; // larger histories are staff or test accounts, and cost n² pairs
+    private static final int GENRE_CANDIDATES = 100; // most booked movies per genre offered to content matching
+    private static final int MAX_ACTOR_MOVIES = 200;
+    // squared feature weights of the content cosine, a shared actor says more than a shared genre
+    private static final float GENRE_WEIGHT = 1.0f;
+    private static final float ACTOR_WEIGHT = 2.25f;
+    private static final int[] NONE = new int[0];
+
+    private final MovieSimilarityJdbcRepository movieSimilarityJdbcRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // movies are dense ints; neighbours are sorted best first, genres and actors ascending
+    private record Snapshot(Map<UUID, Integer> index, UUID[] movieIds, int[] bookers, float[] ratings,
+                            int[][] neighbours, int[][] genres, int[][] actors,
+                            Map<Integer, int[]> genreMovies, Map<Integer, int[]> actorMovies) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), new UUID[0], NONE, new float[0],
+                new int[0][], new int[0][], new int[0][], Map.of(), Map.of());
+    }
+
+    @Scheduled(fixedDelayString = "${cinephile.recommendations.refresh-ms:3600000}")
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        Builder builder = new Builder();
+        movieSimilarityJdbcRepository.forEachMovie(builder::movie);
+        builder.startBookings();
+        movieSimilarityJdbcRepository.forEachConfirmedBooking(builder::booking);
+        builder.flushUser();
+        movieSimilarityJdbcRepository.forEachMovieGenre(builder::genre);
+        movieSimilarityJdbcRepository.forEachMovieActor(builder::actor);
+        snapshot = builder.build();
+        log.info("Similar movies rebuilt from {} bookings ({} co-booked pairs) over {} movies in {} ms",
+                builder.bookings, builder.pairs.size(), snapshot.movieIds().length,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // co-booked neighbours first, then content matches; empty for a movie the last batch did not see
+    public List<UUID> similar(UUID movieId, int limit) {
+        Snapshot current = snapshot;
+        Integer movie = current.index().get(movieId);
+        if (movie == null) {
+            return List.of();
+        }
+        List<UUID> result = new ArrayList<>(limit);
+        Set<Integer> taken = new HashSet<>();
+        taken.add(movie);
+        for (int neighbour : current.neighbours()[movie]) {
+            if (result.size() == limit) {
+                return result;
+            }
+            result.add(current.movieIds()[neighbour]);
+            taken.add(neighbour);
+        }
+        for (int neighbour : contentNeighbours(current, movie, taken)) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(current.movieIds()[neighbour]);
+        }
+        return result;
+    }
+
+    // cosine over weighted genre and actor indicators, among movies sharing an actor or a genre's most booked
+    private static List<Integer> contentNeighbours(Snapshot snapshot, int movie, Set<Integer> taken) {
+        int[] genres = snapshot.genres()[movie];
+        int[] actors = snapshot.actors()[movie];
+        Set<Integer> candidates = new HashSet<>();
+        for (int actor : actors) {
+            int[] movies = snapshot.actorMovies().getOrDefault(actor, NONE);
+            for (int i = 0; i < Math.min(movies.length, MAX_ACTOR_MOVIES); i++) {
+                candidates.add(movies[i]);
+            }
+        }
+        for (int genre : genres) {
+            for (int candidate : snapshot.genreMovies().getOrDefault(genre, NONE)) {
+                candidates.add(candidate);
+            }
+        }
+        candidates.removeAll(taken);
+
+        double norm = GENRE_WEIGHT * genres.length + ACTOR_WEIGHT * actors.length;
+        Map<Integer, Double> scores = new HashMap<>();
+        for (int candidate : candidates) {
+            int[] candidateGenres = snapshot.genres()[candidate];
+            int[] candidateActors = snapshot.actors()[candidate];
+            double dot = GENRE_WEIGHT * shared(genres, candidateGenres) + ACTOR_WEIGHT * shared(actors, candidateActors);
+            if (dot > 0) {
+                double candidateNorm = GENRE_WEIGHT * candidateGenres.length + ACTOR_WEIGHT * candidateActors.length;
+                scores.put(candidate, dot / Math.sqrt(norm * candidateNorm));
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.comparing((Integer candidate) -> scores.get(candidate)).reversed()
+                .thenComparing(candidate -> snapshot.bookers()[candidate], Comparator.reverseOrder())
+                .thenComparing(candidate -> snapshot.ratings()[candidate], Comparator.reverseOrder()));
+        return ranked;
+    }
+
+    // size of the intersection of two ascending arrays
+    private static int shared(int[] a, int[] b) {
+        int count = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    // state of one batch run, fed row by row from the streamed scans
+    private static final class Builder {
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<UUID> movieIds = new ArrayList<>();
+        private float[] ratings = new float[1024];
+        private int[] bookers;
+        private final LongIntHashMap pairs = new LongIntHashMap(1 << 16);
+        private long bookings;
+        private String currentUser;
+        private int[] basket = new int[16];
+        private int basketSize;
+        // (owner << 32 | member) rows, grouped by sorting
+        private long[] genreRows = new long[1024];
+        private int genreRowCount;
+        private long[] actorRows = new long[1024];
+        private int actorRowCount;
+
+        void movie(String id, double rating) {
+            int movie = movieIds.size();
+            index.put(id, movie);
+            movieIds.add(UUID.fromString(id));
+            if (movie == ratings.length) {
+                ratings = Arrays.copyOf(ratings, movie * 2);
+            }
+            ratings[movie] = (float) rating;
+        }
+
+        void startBookings() {
+            bookers = new int[movieIds.size()];
+        }
+
+        // rows arrive grouped by user, a new user id closes the previous user's basket
+        void booking(String userId, String movieId) {
+            if (!userId.equals(currentUser)) {
+                flushUser();
+                currentUser = userId;
+            }
+            bookings++;
+            Integer movie = index.get(movieId);
+            if (movie == null) {
+                return; // added after the movie scan
+            }
+            if (basketSize == basket.length) {
+                basket = Arrays.copyOf(basket, basketSize * 2);
+            }
+            basket[basketSize++] = movie;
+        }
+
+        void flushUser() {
+            Arrays.sort(basket, 0, basketSize);
+            int distinct = 0;
+            for (int i = 0; i < basketSize; i++) {
+                if (i == 0 || basket[i] != basket[i - 1]) {
+                    basket[distinct++] = basket[i];
+                }
+            }
+            basketSize = 0;
+            if (distinct > MAX_BASKET) {
+                return;
+            }
+            for (int i = 0; i < distinct; i++) {
+                bookers[basket[i]]++;
+                for (int j = i + 1; j < distinct; j++) {
+                    pairs.addTo((long) basket[i] << 32 | basket[j], 1);
+                }
+            }
+        }
+
+        void genre(String movieId, int genre) {
+            Integer movie = index.get(movieId);
+            if (movie != null) {
+                if (genreRowCount == genreRows.length) {
+                    genreRows = Arrays.copyOf(genreRows, genreRowCount * 2);
+                }
+                genreRows[genreRowCount++] = (long) genre << 32 | movie;
+            }
+        }
+
+        void actor(String movieId, int person) {
+            Integer movie = index.get(movieId);
+            if (movie != null) {
+                if (actorRowCount == actorRows.length) {
+                    actorRows = Arrays.copyOf(actorRows, actorRowCount * 2);
+                }
+                actorRows[actorRowCount++] = (long) person << 32 | movie;
+            }
+        }
+
+        Snapshot build() {
+            int movies = movieIds.size();
+            Map<Integer, int[]> genreMovies = group(genreRows, genreRowCount);
+            Map<Integer, int[]> actorMovies = group(actorRows, actorRowCount);
+            int[][] genres = byMovie(genreMovies, movies);
+            int[][] actors = byMovie(actorMovies, movies);
+            // only the most booked, then best rated, movies of a genre are worth offering as content matches
+            genreMovies.replaceAll((genre, members) -> Arrays.stream(members).boxed()
+                    .sorted(Comparator.comparing((Integer movie) -> bookers[movie], Comparator.reverseOrder())
+                            .thenComparing(movie -> ratings[movie], Comparator.reverseOrder()))
+                    .limit(GENRE_CANDIDATES)
+                    .mapToInt(Integer::intValue)
+                    .toArray());
+
+            Map<UUID, Integer> movieIndex = new HashMap<>(movies * 2);
+            for (int movie = 0; movie < movies; movie++) {
+                movieIndex.put(movieIds.get(movie), movie);
+            }
+            return new Snapshot(movieIndex, movieIds.toArray(UUID[]::new), bookers,
+                    Arrays.copyOf(ratings, movies), neighbours(movies), genres, actors, genreMovies, actorMovies);
+        }
+
+        // keeps the TOP_K best cosine scores per movie, co-bookings / sqrt(bookers a * bookers b)
+        private int[][] neighbours(int movies) {
+            int[][] top = new int[movies][];
+            float[][] topScores = new float[movies][];
+            int[] sizes = new int[movies];
+            pairs.forEach((key, together) -> {
+                if (together < MIN_CO_BOOKINGS) {
+                    return;
+                }
+                int a = (int) (key >>> 32);
+                int b = (int) key;
+                float score = (float) (together / Math.sqrt((double) bookers[a] * bookers[b]));
+                offer(top, topScores, sizes, a, b, score);
+                offer(top, topScores, sizes, b, a, score);
+            });
+            for (int movie = 0; movie < movies; movie++) {
+                top[movie] = top[movie] == null ? NONE : Arrays.copyOf(top[movie], sizes[movie]);
+            }
+            return top;
+        }
+
+        private static void offer(int[][] top, float[][] scores, int[] sizes, int movie, int neighbour, float score) {
+            if (top[movie] == null) {
+                top[movie] = new int[TOP_K];
+                scores[movie] = new float[TOP_K];
+            }
+            int size = sizes[movie];
+            if (size == TOP_K && score <= scores[movie][TOP_K - 1]) {
+                return;
+            }
+            // insertion into the descending array, the last entry falls off when full
+            int at = Math.min(size, TOP_K - 1);
+            while (at > 0 && scores[movie][at - 1] < score) {
+                top[movie][at] = top[movie][at - 1];
+                scores[movie][at] = scores[movie][at - 1];
+                at--;
+            }
+            top[movie][at] = neighbour;
+            scores[movie][at] = score;
+            sizes[movie] = Math.min(size + 1, TOP_K);
+        }
+
+        // members of each owner, ascending
+        private static Map<Integer, int[]> group(long[] rows, int count) {
+            Arrays.sort(rows, 0, count);
+            Map<Integer, int[]> groups = new HashMap<>();
+            int start = 0;
+            for (int i = 1; i <= count; i++) {
+                if (i == count || rows[i] >>> 32 != rows[start] >>> 32) {
+                    int[] members = new int[i - start];
+                    for (int j = start; j < i; j++) {
+                        members[j - start] = (int) rows[j];
+                    }
+                    groups.put((int) (rows[start] >>> 32), members);
+                    start = i;
+                }
+            }
+            return groups;
+        }
+
+        // inverts feature -> movies into movie -> features, ascending since features are visited in order
+        private static int[][] byMovie(Map<Integer, int[]> featureMovies, int movies) {
+            int[] counts = new int[movies];
+            featureMovies.values().forEach(members -> {
+                for (int movie : members) {
+                    counts[movie]++;
+                }
+            });
+            int[][] features = new int[movies][];
+            for (int movie = 0; movie < movies; movie++) {
+                features[movie] = counts[movie] == 0 ? NONE : new int[counts[movie]];
+                counts[movie] = 0;
+            }
+            featureMovies.keySet().stream().sorted().forEach(feature -> {
+                for (int movie : featureMovies.get(feature)) {
+                    features[movie][counts[movie]++] = feature;
+                }
+            });
+            return features;
+        }
+    }
+}
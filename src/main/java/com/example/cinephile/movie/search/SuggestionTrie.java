@@ -0,0 +1,220 @@
+package com.example.cinephile.movie.search;
+
+import java.util.*;
+
+// character trie whose nodes keep their k best completions, so a lookup is a walk down the prefix and a copy.
+// a node's top list is derived from its own entries and its children's top lists, so any change only has to
+// refresh the nodes on the changed key's path, bottom-up. not thread safe, callers guard it
+public class SuggestionTrie<T> {
+    private final int k;
+    private final Comparator<Entry<T>> ranking;
+    private final Node<T> root = new Node<>();
+
+    // id identifies the entry across all of its keys, e.g. a movie indexed under every word of its title
+    public record Entry<T>(String id, T value, double score) {
+    }
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+    private static final class Node<T> {
+        // leaves share the empty arrays, most nodes of a large trie are leaves or single-child links
+        private char[] labels = NO_LABELS;
+        @SuppressWarnings("unchecked")
+        private Node<T>[] children = (Node<T>[]) NO_CHILDREN;
+        private List<Entry<T>> entries = List.of();
+        private List<Entry<T>> top = List.of();
+
+        private Node<T> child(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i >= 0 ? children[i] : null;
+        }
+
+        // children stay sorted by label in two parallel arrays, much smaller than a map per node
+        private Node<T> childOrCreate(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node<T> node = new Node<>();
+            char[] newLabels = new char[labels.length + 1];
+            Node<T>[] newChildren = newArray(children.length + 1);
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newLabels[at] = label;
+            newChildren[at] = node;
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            labels = newLabels;
+            children = newChildren;
+            return node;
+        }
+
+        private void removeChild(char label) {
+            int at = Arrays.binarySearch(labels, label);
+            if (at < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node<T>[] newChildren = newArray(children.length - 1);
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(labels, at + 1, newLabels, at, labels.length - at - 1);
+            System.arraycopy(children, at + 1, newChildren, at, children.length - at - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        private boolean isEmpty() {
+            return entries.isEmpty() && labels.length == 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return (Node<T>[]) new Node[size];
+        }
+    }
+
+    // ties fall back to the entry id so the top lists are deterministic
+    public SuggestionTrie(int k, Comparator<Entry<T>> ranking) {
+        this.k = k;
+        this.ranking = ranking.thenComparing(Entry::id);
+    }
+
+    // fills a trie with every entry first and computes each top list once at the end, bottom-up. putting them one
+    // by one re-sorts the root's top list on every key, which takes minutes for a large catalog
+    public static final class Builder<T> {
+        private final SuggestionTrie<T> trie;
+
+        private Builder(SuggestionTrie<T> trie) {
+            this.trie = trie;
+        }
+
+        public Builder<T> put(Entry<T> entry, Collection<String> keys) {
+            for (String key : keys) {
+                trie.insert(entry, key, null);
+            }
+            return this;
+        }
+
+        public SuggestionTrie<T> build() {
+            trie.refreshAll(trie.root);
+            return trie;
+        }
+    }
+
+    public static <T> Builder<T> builder(int k, Comparator<Entry<T>> ranking) {
+        return new Builder<>(new SuggestionTrie<>(k, ranking));
+    }
+
+    // adds the entry under every key, replacing an entry with the same id already stored there
+    public void put(Entry<T> entry, Collection<String> keys) {
+        for (String key : keys) {
+            List<Node<T>> path = new ArrayList<>(key.length() + 1);
+            insert(entry, key, path);
+            refresh(path, key);
+        }
+    }
+
+    public void remove(String id, Collection<String> keys) {
+        for (String key : keys) {
+            List<Node<T>> path = new ArrayList<>(key.length() + 1);
+            Node<T> node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                path.add(node);
+            }
+            if (node == null) {
+                continue;
+            }
+            node.entries = node.entries.stream().filter(existing -> !existing.id().equals(id)).toList();
+            refresh(path, key);
+        }
+    }
+
+    // best completions of the prefix, at most k of them
+    public List<Entry<T>> complete(String prefix, int limit) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        return node.top.subList(0, Math.min(limit, node.top.size()));
+    }
+
+    // stores the entry at the key's node without touching any top list, collecting the nodes from the root into
+    // path when one is given
+    private void insert(Entry<T> entry, String key, List<Node<T>> path) {
+        Node<T> node = root;
+        if (path != null) {
+            path.add(node);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            if (path != null) {
+                path.add(node);
+            }
+        }
+        if (node.entries.isEmpty()) {
+            node.entries = List.of(entry);
+            return;
+        }
+        List<Entry<T>> entries = new ArrayList<>(node.entries.size() + 1);
+        for (Entry<T> existing : node.entries) {
+            if (!existing.id().equals(entry.id())) {
+                entries.add(existing);
+            }
+        }
+        entries.add(entry);
+        node.entries = entries;
+    }
+
+    // children before parents, so every node ranks its children's finished top lists. the depth is bounded by the
+    // longest key
+    private void refreshAll(Node<T> node) {
+        for (Node<T> child : node.children) {
+            refreshAll(child);
+        }
+        node.top = best(node);
+    }
+
+    // recompute top lists from the key's node up to the root, unlinking nodes that became empty on the way
+    private void refresh(List<Node<T>> path, String key) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node<T> node = path.get(depth);
+            if (depth > 0 && node.isEmpty()) {
+                path.get(depth - 1).removeChild(key.charAt(depth - 1));
+                continue;
+            }
+            node.top = best(node);
+        }
+    }
+
+    private List<Entry<T>> best(Node<T> node) {
+        // most nodes sit inside a single key's chain of characters, they share the one list below them
+        if (node.entries.isEmpty() && node.children.length == 1) {
+            return node.children[0].top;
+        }
+        List<Entry<T>> candidates = new ArrayList<>(node.entries);
+        for (Node<T> child : node.children) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(ranking);
+        // an entry indexed under several keys can reach the same node more than once
+        List<Entry<T>> top = new ArrayList<>(Math.min(k, candidates.size()));
+        Set<String> seen = new HashSet<>();
+        for (Entry<T> candidate : candidates) {
+            if (top.size() == k) {
+                break;
+            }
+            if (seen.add(candidate.id())) {
+                top.add(candidate);
+            }
+        }
+        return List.copyOf(top);
+    }
+}
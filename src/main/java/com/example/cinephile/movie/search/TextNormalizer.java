@@ -0,0 +1,57 @@
+package com.example.cinephile.movie.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// case and accent folding shared by every in-memory catalog structure, so "Amélie" and "amelie" meet
+public final class TextNormalizer {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim();
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // splits a comma separated column (genres, actors, ...) into folded values
+    public static List<String> splitValues(String text) {
+        List<String> values = new ArrayList<>();
+        for (String value : splitNames(text)) {
+            values.add(fold(value));
+        }
+        return values;
+    }
+
+    // same split, keeping the values as written apart from surrounding whitespace
+    public static List<String> splitNames(String text) {
+        List<String> names = new ArrayList<>();
+        if (text == null) {
+            return names;
+        }
+        for (String name : text.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+}
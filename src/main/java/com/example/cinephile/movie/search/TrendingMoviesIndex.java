@@ -0,0 +1,158 @@
+package com.example.cinephile.movie.search;
+
+import com.example.cinephile.booking.event.BookedSeatsChangedEvent;
+import com.example.cinephile.movie.dto.TrendingWindow;
+import com.example.cinephile.movie.repository.MovieJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// confirmed seats per movie over the last 24 hours, in a ring of per-minute buckets. a bucket is one long
+// packing the epoch minute it counts (high half) with its seat count (low half), so recording is a CAS that
+// also recycles a bucket left over from a previous lap of the ring, and readers never lock
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingMoviesIndex {
+    private static final int BUCKETS = (int) TimeUnit.DAYS.toMinutes(1);
+    private static final long RETIRED = -1L; // minute 0xFFFFFFFF, never a real one
+
+    private final MovieJdbcRepository movieJdbcRepository;
+
+    private final ConcurrentMap<UUID, AtomicLongArray> counters = new ConcurrentHashMap<>();
+
+    public record Entry(UUID movieId, long seats) {
+    }
+
+    // counters live in memory only, so a restart replays the last day of confirmations once
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long now = currentMinute();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(BUCKETS);
+        movieJdbcRepository.forEachConfirmation(since,
+                (movieId, confirmedAt, seats) -> record(movieId, seats, epochMinute(confirmedAt), now));
+        log.info("Trending counters warmed up for {} movies", counters.size());
+    }
+
+    // after commit, a rolled back confirmation must not count
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookedSeatsChanged(BookedSeatsChangedEvent event) {
+        if (event.confirmedAt() != null) {
+            record(event.movieId(), event.seats(), epochMinute(event.confirmedAt()), currentMinute());
+        }
+    }
+
+    public List<Entry> top(TrendingWindow window, int limit) {
+        return top(window.minutes(), limit, currentMinute());
+    }
+
+    // seats may be negative, a cancellation takes its seats back out of the minute they were confirmed in.
+    // minutes that already left the ring are ignored
+    void record(UUID movieId, int seats, long minute, long now) {
+        if (seats == 0 || minute <= now - BUCKETS || minute > now) {
+            return;
+        }
+        int index = (int) (minute % BUCKETS);
+        // a retired array is on its way out of the map, the next lookup creates a fresh one
+        while (!add(counters.computeIfAbsent(movieId, id -> new AtomicLongArray(BUCKETS)), index, minute, seats)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static boolean add(AtomicLongArray buckets, int index, long minute, int seats) {
+        long current;
+        long next;
+        do {
+            current = buckets.get(index);
+            if (current == RETIRED) {
+                return false;
+            }
+            long bucketMinute = current >>> 32;
+            if (bucketMinute > minute) {
+                return true; // the slot already moved on to a later lap
+            }
+            int count = bucketMinute == minute ? (int) current : 0;
+            next = minute << 32 | Integer.toUnsignedLong(count + seats);
+        } while (!buckets.compareAndSet(index, current, next));
+        return true;
+    }
+
+    // movies with the most seats confirmed in the window ending at now, ties broken by movie id
+    List<Entry> top(int windowMinutes, int limit, long now) {
+        Comparator<Entry> order = Comparator.comparingLong(Entry::seats).thenComparing(Entry::movieId,
+                Comparator.reverseOrder());
+        PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, order);
+        counters.forEach((movieId, buckets) -> {
+            long seats = sum(buckets, windowMinutes, now);
+            if (seats > 0) {
+                best.add(new Entry(movieId, seats));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        });
+        List<Entry> result = new ArrayList<>(best);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    // drops movies with nothing left in the ring, so the map only holds recently booked movies
+    @Scheduled(fixedDelay = 3_600_000) // every hour
+    public void evict() {
+        long now = currentMinute();
+        counters.forEach((movieId, buckets) -> {
+            if (retire(buckets, now)) {
+                counters.remove(movieId, buckets);
+            }
+        });
+    }
+
+    // marks every bucket retired unless one still counts seats inside the ring; a writer racing with this either
+    // lands first and stops the retirement, or sees a retired bucket and moves on to a fresh array
+    private static boolean retire(AtomicLongArray buckets, long now) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long current;
+            do {
+                current = buckets.get(i);
+                if (current >>> 32 > now - BUCKETS && (int) current != 0) {
+                    for (int j = 0; j < i; j++) {
+                        buckets.set(j, 0); // nothing live was retired, an empty bucket is equivalent
+                    }
+                    return false;
+                }
+            } while (!buckets.compareAndSet(i, current, RETIRED));
+        }
+        return true;
+    }
+
+    private static long sum(AtomicLongArray buckets, int windowMinutes, long now) {
+        long seats = 0;
+        for (long minute = now - windowMinutes + 1; minute <= now; minute++) {
+            long bucket = buckets.get((int) (minute % BUCKETS));
+            if (bucket >>> 32 == minute) {
+                seats += (int) bucket;
+            }
+        }
+        return Math.max(seats, 0);
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return TimeUnit.MILLISECONDS.toMinutes(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.cinephile.movie.service;
+
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.common.job.Job;
+import com.example.cinephile.common.job.JobService;
+import com.example.cinephile.movie.dto.MovieImportResponse;
+import com.example.cinephile.movie.dto.MovieRequest;
+import com.example.cinephile.movie.entity.ImportFormat;
+import com.example.cinephile.movie.entity.ImportStatus;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.entity.MovieImport;
+import com.example.cinephile.movie.repository.MovieAttributeJdbcRepository;
+import com.example.cinephile.movie.repository.MovieImportRepository;
+import com.example.cinephile.movie.repository.MovieJdbcRepository;
+import com.example.cinephile.movie.search.MovieSearchIndex;
+import com.example.cinephile.movie.search.MovieSuggestIndex;
+import com.example.cinephile.movie.util.MovieImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.uuid.Generators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// bulk catalog seeding: the upload is stored server-side and streamed by a background job in batches, each
+// batch committed together with the import's counters so a restart or a failure resumes after it
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieImportService {
+    private static final String JOB_TYPE = "MOVIE_IMPORT";
+    private static final int MIN_YEAR = 1901; // range of the MySQL YEAR column
+    private static final int MAX_YEAR = 2155;
+
+    private final MovieImportRepository movieImportRepository;
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final MovieAttributeJdbcRepository movieAttributeJdbcRepository;
+    private final MovieSearchIndex movieSearchIndex;
+    private final MovieSuggestIndex movieSuggestIndex;
+    private final JobService jobService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cinephile.imports.dir:${java.io.tmpdir}/cinephile-imports}")
+    private String importDir;
+
+    @Value("${cinephile.imports.batch-size:1000}")
+    private int batchSize;
+
+    public MovieImportResponse startImport(MultipartFile file, ImportFormat format) {
+        if (file == null || file.isEmpty()) {
+            throw new CinephileException("An import file is required", HttpStatus.BAD_REQUEST);
+        }
+        String fileName = Optional.ofNullable(file.getOriginalFilename()).orElse("import");
+        ImportFormat resolved = format != null ? format : formatOf(fileName);
+
+        MovieImport movieImport = new MovieImport();
+        movieImport.setId(Generators.timeBasedEpochGenerator().generate());
+        movieImport.setFileName(fileName);
+        movieImport.setFormat(resolved);
+        movieImport.setStatus(ImportStatus.PENDING);
+        Path target = Path.of(importDir).resolve(movieImport.getId() + "." + resolved.name().toLowerCase());
+        try {
+            Files.createDirectories(target.getParent());
+            file.transferTo(target);
+        } catch (IOException e) {
+            log.error("Could not store import file {}", fileName, e);
+            throw new CinephileException("Could not store the import file", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        movieImport.setFilePath(target.toString());
+        movieImportRepository.save(movieImport);
+
+        submit(movieImport.getId());
+        return toResponse(movieImport);
+    }
+
+    public MovieImportResponse getImport(UUID importId) {
+        return toResponse(findImport(importId));
+    }
+
+    public List<MovieImportResponse> getImports() {
+        return movieImportRepository.findAllByOrderByCreatedAtDesc().stream().map(this::toResponse).toList();
+    }
+
+    // picks a failed import up after its last committed batch
+    public MovieImportResponse resumeImport(UUID importId) {
+        MovieImport movieImport = findImport(importId);
+        if (movieImport.getStatus() != ImportStatus.FAILED) {
+            throw new CinephileException("Only failed imports can be resumed", HttpStatus.CONFLICT);
+        }
+        if (!Files.exists(Path.of(movieImport.getFilePath()))) {
+            throw new CinephileException("The import file is no longer available", HttpStatus.CONFLICT);
+        }
+        movieImportRepository.updateStatus(importId, ImportStatus.PENDING, null);
+        submit(importId);
+        return toResponse(findImport(importId));
+    }
+
+    // imports that were pending or running when the application stopped
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedImports() {
+        for (MovieImport movieImport : movieImportRepository.findByStatusIn(
+                List.of(ImportStatus.PENDING, ImportStatus.RUNNING))) {
+            log.info("Resuming movie import {} after {} records", movieImport.getId(), movieImport.getRecordsRead());
+            submit(movieImport.getId());
+        }
+    }
+
+    private void submit(UUID importId) {
+        jobService.submit(JOB_TYPE, importId, job -> run(job, importId));
+    }
+
+    private void run(Job job, UUID importId) {
+        MovieImport movieImport = findImport(importId);
+        movieImportRepository.updateStatus(importId, ImportStatus.RUNNING, null);
+        Path file = Path.of(movieImport.getFilePath());
+        try (MovieImportReader reader = MovieImportReader.open(file, movieImport.getFormat(), objectMapper)) {
+            // records up to the checkpoint are already committed, read past them without touching the database
+            for (long skip = movieImport.getRecordsRead(); skip > 0 && reader.hasNext(); skip--) {
+                reader.next();
+            }
+            job.addProcessedRows(movieImport.getRecordsRead());
+
+            List<MovieRequest> batch = new ArrayList<>(batchSize);
+            while (reader.hasNext()) {
+                batch.add(reader.next());
+                if (batch.size() == batchSize) {
+                    importBatch(importId, batch);
+                    job.addProcessedRows(batch.size());
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(importId, batch);
+                job.addProcessedRows(batch.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            movieImportRepository.updateStatus(importId, ImportStatus.FAILED,
+                    message.substring(0, Math.min(message.length(), 1024)));
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        } finally {
+            // committed batches bypass MovieChangedEvent, so refresh the catalog indexes once per run
+            movieSearchIndex.rebuild();
+            movieSuggestIndex.rebuild();
+        }
+
+        movieImportRepository.updateStatus(importId, ImportStatus.COMPLETED, null);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    // invalid records are counted, duplicates of the catalog or of earlier records are skipped
+    private void importBatch(UUID importId, List<MovieRequest> records) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<MovieRequest> valid = new ArrayList<>(records.size());
+            for (MovieRequest record : records) {
+                if (isValid(record)) {
+                    valid.add(record);
+                }
+            }
+            Set<String> seen = new HashSet<>();
+            movieJdbcRepository.findExistingImdbIds(valid.stream().map(MovieRequest::imdbId).toList())
+                    .forEach(imdbId -> seen.add(imdbId.toLowerCase(Locale.ROOT)));
+
+            List<Movie> movies = new ArrayList<>(valid.size());
+            for (MovieRequest record : valid) {
+                if (seen.add(record.imdbId().toLowerCase(Locale.ROOT))) {
+                    movies.add(toMovie(record));
+                }
+            }
+            movieJdbcRepository.insertMovies(movies);
+            movieAttributeJdbcRepository.replaceAttributes(movies);
+            movieJdbcRepository.advanceImport(importId, records.size(), movies.size(),
+                    valid.size() - movies.size(), records.size() - valid.size());
+        });
+    }
+
+    // mirrors the movies table constraints, one bad record must not fail its whole batch
+    private static boolean isValid(MovieRequest record) {
+        return record != null
+                && isPresent(record.imdbId(), 20) && isPresent(record.title(), 255)
+                && record.year() != null && record.year() >= MIN_YEAR && record.year() <= MAX_YEAR
+                && record.runtime() != null && record.runtime() > 0
+                && (record.rating() == null || (record.rating() >= 0 && record.rating() <= 10))
+                && fits(record.rated(), 20) && fits(record.posterUrl(), 255) && fits(record.genre(), 255)
+                && fits(record.director(), 255) && fits(record.writer(), 255) && fits(record.actors(), 255)
+                && fits(record.language(), 255) && fits(record.country(), 255);
+    }
+
+    private static boolean isPresent(String value, int maxLength) {
+        return value != null && !value.isBlank() && value.length() <= maxLength;
+    }
+
+    private static boolean fits(String value, int maxLength) {
+        return value == null || value.length() <= maxLength;
+    }
+
+    private static Movie toMovie(MovieRequest record) {
+        Movie movie = new Movie();
+        movie.setId(Generators.timeBasedEpochGenerator().generate());
+        movie.setTitle(record.title().trim());
+        movie.setPlot(Objects.requireNonNullElse(record.plot(), ""));
+        movie.setImdbId(record.imdbId().trim());
+        movie.setPosterUrl(Objects.requireNonNullElse(record.posterUrl(), ""));
+        movie.setRuntime(record.runtime());
+        movie.setYear(record.year());
+        movie.setGenre(Objects.requireNonNullElse(record.genre(), ""));
+        movie.setRated(record.rated());
+        movie.setRating(record.rating());
+        movie.setDirector(record.director());
+        movie.setWriter(record.writer());
+        movie.setActors(record.actors());
+        movie.setLanguage(record.language());
+        movie.setCountry(record.country());
+        return movie;
+    }
+
+    private static ImportFormat formatOf(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".tsv") || name.endsWith(".tab")) {
+            return ImportFormat.TSV;
+        }
+        if (name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportFormat.JSON;
+        }
+        throw new CinephileException("Cannot tell the import format from the file name, pass format=JSON or TSV",
+                HttpStatus.BAD_REQUEST);
+    }
+
+    private MovieImport findImport(UUID importId) {
+        return movieImportRepository.findById(importId)
+                .orElseThrow(() -> new CinephileException("Import not found", HttpStatus.NOT_FOUND));
+    }
+
+    private MovieImportResponse toResponse(MovieImport movieImport) {
+        return new MovieImportResponse(movieImport.getId(), movieImport.getFileName(), movieImport.getFormat(),
+                movieImport.getStatus(), movieImport.getRecordsRead(), movieImport.getImported(),
+                movieImport.getDuplicates(), movieImport.getSkipped(), movieImport.getError(),
+                movieImport.getCreatedAt(), movieImport.getUpdatedAt());
+    }
+}
@@ -1,19 +1,32 @@
 package com.example.cinephile.movie.service;
 
 import com.example.cinephile.common.exception.CinephileException;
-import com.example.cinephile.movie.dto.MovieCard;
-import com.example.cinephile.movie.dto.MoviePage;
-import com.example.cinephile.movie.dto.MovieRequest;
+import com.example.cinephile.config.CacheConfig;
+import com.example.cinephile.movie.dto.*;
 import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.event.MovieChangedEvent;
+import com.example.cinephile.movie.repository.MovieAttributeJdbcRepository;
+import com.example.cinephile.movie.repository.MovieNaturalIdRepository;
 import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.movie.search.MovieSearchIndex;
+import com.example.cinephile.movie.search.MovieSuggestIndex;
+import com.example.cinephile.movie.search.SimilarMoviesIndex;
+import com.example.cinephile.movie.search.TrendingMoviesIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,11 +36,59 @@ import java.util.UUID;
 @Transactional
 public class MovieService {
     private final MovieRepository movieRepository;
+    private final MovieNaturalIdRepository movieNaturalIdRepository;
+    private final MovieAttributeJdbcRepository movieAttributeJdbcRepository;
+    private final MovieSearchIndex movieSearchIndex;
+    private final MovieSuggestIndex movieSuggestIndex;
+    private final SimilarMoviesIndex similarMoviesIndex;
+    private final TrendingMoviesIndex trendingMoviesIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public Page<MovieCard> getAllMovies(String title, String genre, String rated, Double rating, Pageable pageable) {
-        return movieRepository.findAllMovies(title, genre, rated, rating, pageable);
+    // served from the in-memory index, which is kept in sync through MovieChangedEvent
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<MovieCard> getAllMovies(MovieQuery query, Pageable pageable) {
+        return movieSearchIndex.search(query, pageable);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MovieSlice scrollMovies(MovieQuery query, MovieSort sort, Sort.Direction direction,
+                                   String cursor, int size) {
+        return movieSearchIndex.scroll(query, sort, direction, cursor, size);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MovieSearchResponse searchMovies(MovieQuery query, Pageable pageable) {
+        return movieSearchIndex.searchWithFacets(query, pageable);
+    }
+
+    // called on every keystroke, so no transaction and no connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MovieSuggestion> suggest(String query, int limit) {
+        return movieSuggestIndex.suggest(query, limit);
+    }
+
+    // a top-k over in-memory counters, no query
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TrendingMovie> getTrendingMovies(TrendingWindow window, int limit) {
+        List<TrendingMovie> movies = new ArrayList<>(limit);
+        for (TrendingMoviesIndex.Entry entry : trendingMoviesIndex.top(window, limit)) {
+            movieSearchIndex.card(entry.movieId()).ifPresent(card -> movies.add(new TrendingMovie(card, entry.seats())));
+        }
+        return movies;
+    }
+
+    // neighbours and cards both come from memory
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MovieCard> getSimilarMovies(UUID id, int limit) {
+        if (!movieSearchIndex.contains(id)) {
+            throw new CinephileException("Movie not found", HttpStatus.NOT_FOUND);
+        }
+        return movieSearchIndex.cards(similarMoviesIndex.similar(id, limit));
+    }
+
+    // cache hits must not open a transaction, the repository call brings its own read-only one on a miss
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Cacheable(cacheNames = CacheConfig.MOVIE_DETAILS, key = "#id")
     public MoviePage getMovieById(UUID id) {
         Movie movie = movieRepository.findById(id)
                 .orElseThrow(() -> new CinephileException("Movie not found", HttpStatus.NOT_FOUND));
@@ -35,11 +96,14 @@ public class MovieService {
                 movie.getImdbId(), movie.getPosterUrl(), movie.getRuntime(),
                 movie.getYear(), movie.getGenre(), movie.getRated(),
                 movie.getRating(), movie.getDirector(), movie.getWriter(),
-                movie.getActors(), movie.getLanguage(), movie.getCountry()
+                movie.getActors(), movie.getLanguage(), movie.getCountry(), movie.getUpdatedAt()
         );
     }
 
     public MovieCard addMovie(MovieRequest request) {
+        if (request.imdbId() != null && movieNaturalIdRepository.findByImdbId(request.imdbId()).isPresent()) {
+            throw new CinephileException("A movie with this IMDb id already exists", HttpStatus.CONFLICT);
+        }
         Movie movie = new Movie();
         movie.setTitle(request.title());
         movie.setPlot(request.plot());
@@ -55,17 +119,27 @@ public class MovieService {
         movie.setActors(request.actors());
         movie.setLanguage(request.language());
         movie.setCountry(request.country());
-        movieRepository.save(movie);
+        // flushed first, the attribute rows reference the movie
+        movieRepository.saveAndFlush(movie);
+        movieAttributeJdbcRepository.replaceAttributes(List.of(movie));
+        eventPublisher.publishEvent(new MovieChangedEvent(movie.getId()));
         return new MovieCard(movie.getId(), movie.getTitle(), movie.getPosterUrl(),
                 movie.getYear(), movie.getRated(), movie.getRating());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MOVIE_DETAILS, key = "#id")
     public MovieCard updateMovie(UUID id, MovieRequest request) {
         Movie movie = movieRepository.findById(id)
                 .orElseThrow(() -> new CinephileException("Movie not found", HttpStatus.NOT_FOUND));
         Optional.ofNullable(request.title()).filter(s -> !s.isBlank()).ifPresent(movie::setTitle);
         Optional.ofNullable(request.plot()).filter(s -> !s.isBlank()).ifPresent(movie::setPlot);
-        Optional.ofNullable(request.imdbId()).filter(s -> !s.isBlank()).ifPresent(movie::setImdbId);
+        String imdbId = request.imdbId();
+        if (imdbId != null && !imdbId.isBlank() && !imdbId.equals(movie.getImdbId())) {
+            if (movieNaturalIdRepository.findByImdbId(imdbId).isPresent()) {
+                throw new CinephileException("A movie with this IMDb id already exists", HttpStatus.CONFLICT);
+            }
+            movie.setImdbId(imdbId);
+        }
         Optional.ofNullable(request.posterUrl()).filter(s -> !s.isBlank()).ifPresent(movie::setPosterUrl);
         if (request.runtime() != null && request.runtime() > 0) movie.setRuntime(request.runtime());
         if (request.year() != null && request.year() > 1900) movie.setYear(request.year());
@@ -78,14 +152,18 @@ public class MovieService {
         Optional.ofNullable(request.language()).filter(s -> !s.isBlank()).ifPresent(movie::setLanguage);
         Optional.ofNullable(request.country()).filter(s -> !s.isBlank()).ifPresent(movie::setCountry);
         movieRepository.save(movie);
+        movieAttributeJdbcRepository.replaceAttributes(List.of(movie));
+        eventPublisher.publishEvent(new MovieChangedEvent(movie.getId()));
         return new MovieCard(movie.getId(), movie.getTitle(), movie.getPosterUrl(),
                 movie.getYear(), movie.getRated(), movie.getRating());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.MOVIE_DETAILS, key = "#id")
     public void deleteMovie(UUID id) {
         if (!movieRepository.existsById(id)) {
             throw new CinephileException("Movie not found", HttpStatus.NOT_FOUND);
         }
         movieRepository.deleteById(id);
+        eventPublisher.publishEvent(new MovieChangedEvent(id));
     }
 }
@@ -0,0 +1,269 @@
+package com.example.cinephile.movie.service;
+
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.movie.dto.MovieCard;
+import com.example.cinephile.movie.search.MovieSearchIndex;
+import com.example.cinephile.movie.util.PosterDiskCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// posters proxied from their third-party host: the original is downloaded once, and every requested width is
+// resized from that local copy into a JPEG kept in a size-bounded disk cache. widths snap to a fixed ladder
+// so a client cannot fill the cache with one variant per pixel
+@Slf4j
+@Service
+public class PosterService {
+    public static final int[] WIDTHS = {92, 154, 185, 342, 500, 780};
+    private static final long MAX_ORIGINAL_BYTES = 20L * 1024 * 1024;
+    // decoded at 4 bytes a pixel, a few kilobytes of compressed image can otherwise claim gigabytes of heap
+    private static final long MAX_ORIGINAL_PIXELS = 25_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final MovieSearchIndex movieSearchIndex;
+    private final PosterDiskCache cache;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    // one download or resize per key at a time, concurrent requests for it wait on the same future
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    // the cache key doubles as the ETag, it changes with the poster url and the width
+    public record Variant(String posterUrl, int width, String key) {
+        public String etag() {
+            return "\"" + key + "\"";
+        }
+    }
+
+    public PosterService(MovieSearchIndex movieSearchIndex,
+                         @Value("${cinephile.posters.dir:${java.io.tmpdir}/cinephile-posters}") String dir,
+                         @Value("${cinephile.posters.max-bytes:536870912}") long maxBytes) {
+        this.movieSearchIndex = movieSearchIndex;
+        this.cache = new PosterDiskCache(Path.of(dir), maxBytes);
+    }
+
+    // resolves without any I/O, so a conditional request is answered before touching the cache
+    public Variant variant(UUID movieId, int requestedWidth) {
+        MovieCard movie = movieSearchIndex.card(movieId)
+                .orElseThrow(() -> new CinephileException("Movie not found", HttpStatus.NOT_FOUND));
+        String posterUrl = movie.posterUrl();
+        if (posterUrl == null || !(posterUrl.startsWith("http://") || posterUrl.startsWith("https://"))) {
+            throw new CinephileException("Poster not found", HttpStatus.NOT_FOUND);
+        }
+        int width = Arrays.stream(WIDTHS).filter(w -> w >= requestedWidth).findFirst()
+                .orElse(WIDTHS[WIDTHS.length - 1]);
+        return new Variant(posterUrl, width, hash(posterUrl) + "-w" + width);
+    }
+
+    // the caller closes the channel; an eviction after this point only unlinks the file
+    public FileChannel open(Variant variant) {
+        try {
+            FileChannel channel;
+            while ((channel = cache.open(variant.key())) == null) {
+                String originalKey = hash(variant.posterUrl());
+                produce(originalKey, () -> download(variant.posterUrl(), originalKey));
+                produce(variant.key(), () -> resize(originalKey, variant));
+            }
+            return channel;
+        } catch (IOException e) {
+            log.error("Could not read poster {}", variant.key(), e);
+            throw new CinephileException("Could not read the poster", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private interface Producer {
+        void run() throws IOException;
+    }
+
+    private void produce(String key, Producer producer) throws IOException {
+        if (cache.contains(key)) {
+            return;
+        }
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof CinephileException cause ? cause : e;
+            }
+            return;
+        }
+        try {
+            if (!cache.contains(key)) {
+                producer.run();
+            }
+            mine.complete(null);
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void download(String posterUrl, String key) throws IOException {
+        Path temp = cache.newTempFile();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(posterUrl)).timeout(Duration.ofSeconds(15)).build();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            // closing the body before its end cancels the rest of the download
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    log.warn("Poster origin {} answered {}", posterUrl, response.statusCode());
+                    throw new CinephileException("Could not fetch the poster", HttpStatus.BAD_GATEWAY);
+                }
+                // a declared length is refused up front, an undeclared or false one is cut off while streaming
+                long declared = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+                if (declared > MAX_ORIGINAL_BYTES || !copyAtMost(body, temp, MAX_ORIGINAL_BYTES)) {
+                    log.warn("Poster {} is larger than {} bytes", posterUrl, MAX_ORIGINAL_BYTES);
+                    throw new CinephileException("The poster is too large", HttpStatus.BAD_GATEWAY);
+                }
+            }
+            cache.put(key, temp);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CinephileException("Could not fetch the poster", HttpStatus.BAD_GATEWAY);
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Could not fetch poster {}", posterUrl, e);
+            throw new CinephileException("Could not fetch the poster", HttpStatus.BAD_GATEWAY);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void resize(String originalKey, Variant variant) throws IOException {
+        BufferedImage original;
+        try (FileChannel channel = cache.open(originalKey)) {
+            if (channel == null) {
+                return; // evicted in between, open() goes around again
+            }
+            original = read(Channels.newInputStream(channel));
+        }
+        Path temp = cache.newTempFile();
+        try {
+            writeJpeg(scale(original, Math.min(variant.width(), original.getWidth())), temp);
+            cache.put(variant.key(), temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // false once the body runs past the limit, nothing beyond it is read
+    private static boolean copyAtMost(InputStream in, Path target, long limit) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > limit) {
+                    return false;
+                }
+                out.write(buffer, 0, read);
+            }
+            return true;
+        }
+    }
+
+    // the dimensions come from the header, an oversized image is refused before any pixel is decoded
+    private static BufferedImage read(InputStream in) throws IOException {
+        try (ImageInputStream image = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = image != null ? ImageIO.getImageReaders(image) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new CinephileException("The poster is not a readable image", HttpStatus.BAD_GATEWAY);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(image, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_ORIGINAL_PIXELS) {
+                    throw new CinephileException("The poster is too large", HttpStatus.BAD_GATEWAY);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // halves the image until the last step is at most 2x, a single bicubic pass over a larger
+    // factor skips most source pixels and aliases. transparency is flattened onto white for JPEG
+    private static BufferedImage scale(BufferedImage image, int width) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = Math.max(w / 2, width);
+            h = Math.max(h / 2, height);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g.drawImage(current, 0, 0, w, h, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String hash(String posterUrl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(posterUrl.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.cinephile.movie.util;
+
+import com.example.cinephile.movie.dto.MovieRequest;
+import com.example.cinephile.movie.entity.ImportFormat;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+// streams movie records out of an import file one at a time, so memory stays flat whatever the file size.
+// gzip is recognized by its magic bytes. next() returns null for a record that cannot become a movie
+// (a malformed row, or a non-movie title in an IMDb dump), so callers can still count it as read
+public abstract sealed class MovieImportReader implements Closeable {
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    public static MovieImportReader open(Path file, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            if (magic == GZIP_MAGIC) {
+                in = new BufferedInputStream(new GZIPInputStream(in, 64 * 1024), 64 * 1024);
+            }
+            return format == ImportFormat.JSON ? new Json(in, objectMapper) : new Tsv(in);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    public abstract boolean hasNext() throws IOException;
+
+    public abstract MovieRequest next() throws IOException;
+
+    // a top-level array of movie objects, or objects one after another (NDJSON); same fields as MovieRequest
+    private static final class Json extends MovieImportReader {
+        private final MappingIterator<MovieRequest> records;
+
+        private Json(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.records = objectMapper.readerFor(MovieRequest.class).readValues(in);
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            return records.hasNextValue();
+        }
+
+        // a well-formed record with a value of the wrong type is skipped, the iterator resyncs past it on the
+        // next hasNext(). broken JSON syntax still fails the import, there is no telling where the next record starts
+        @Override
+        public MovieRequest next() throws IOException {
+            try {
+                return records.nextValue();
+            } catch (JsonMappingException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            records.close();
+        }
+    }
+
+    // header row first; MovieRequest field names or IMDb dataset names (tconst, primaryTitle, startYear, ...)
+    private static final class Tsv extends MovieImportReader {
+        private static final String NULL = "\\N";
+        private static final Map<String, String> ALIASES = Map.ofEntries(
+                Map.entry("tconst", "imdbId"), Map.entry("imdb_id", "imdbId"),
+                Map.entry("primaryTitle", "title"), Map.entry("startYear", "year"),
+                Map.entry("runtimeMinutes", "runtime"), Map.entry("genres", "genre"),
+                Map.entry("averageRating", "rating"), Map.entry("directors", "director"),
+                Map.entry("writers", "writer"), Map.entry("poster_url", "posterUrl")
+        );
+        private static final List<String> FIELDS = List.of("title", "plot", "imdbId", "posterUrl", "runtime",
+                "year", "genre", "rated", "rating", "director", "writer", "actors", "language", "country");
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final int titleTypeColumn;
+        private String line;
+
+        private Tsv(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("Empty TSV file");
+            }
+            String[] names = header.split("\t", -1);
+            int titleType = -1;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i].trim();
+                if (name.equals("titleType")) {
+                    titleType = i;
+                }
+                columns.putIfAbsent(ALIASES.getOrDefault(name, name), i);
+            }
+            this.titleTypeColumn = titleType;
+            if (!columns.containsKey("imdbId") || !columns.containsKey("title")) {
+                throw new IOException("TSV header needs imdbId (or tconst) and title (or primaryTitle) columns");
+            }
+            this.line = reader.readLine();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return line != null;
+        }
+
+        @Override
+        public MovieRequest next() throws IOException {
+            String[] values = line.split("\t", -1);
+            line = reader.readLine();
+            if (titleTypeColumn >= 0 && (titleTypeColumn >= values.length || !values[titleTypeColumn].equals("movie"))) {
+                return null;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (String field : FIELDS) {
+                Integer column = columns.get(field);
+                if (column != null && column < values.length
+                        && !values[column].isEmpty() && !values[column].equals(NULL)) {
+                    row.put(field, values[column]);
+                }
+            }
+            try {
+                return new MovieRequest(row.get("title"), row.get("plot"), row.get("imdbId"), row.get("posterUrl"),
+                        parseInteger(row.get("runtime")), parseInteger(row.get("year")), row.get("genre"),
+                        row.get("rated"), row.get("rating") != null ? Double.valueOf(row.get("rating")) : null,
+                        row.get("director"), row.get("writer"), row.get("actors"), row.get("language"),
+                        row.get("country"));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private static Integer parseInteger(String value) {
+            return value != null ? Integer.valueOf(value) : null;
+        }
+    }
+}
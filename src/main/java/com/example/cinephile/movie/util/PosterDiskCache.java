@@ -0,0 +1,108 @@
+package com.example.cinephile.movie.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// files in one directory, evicted least recently used first once their total size passes maxBytes.
+// entries are written to a temp file and moved in place, so a reader never sees a partial file, and a
+// channel opened before an eviction keeps reading the unlinked file
+public final class PosterDiskCache {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path dir;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(256, 0.75f, true); // access order
+    private long totalBytes;
+
+    public PosterDiskCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(dir);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // the files of a previous run, oldest first as the closest thing to their last use
+    private void load() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.sorted(Comparator.comparing(PosterDiskCache::lastModified)).toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file); // left behind by a crash mid-write
+                } else if (Files.isRegularFile(file)) {
+                    long size = Files.size(file);
+                    sizes.put(name, size);
+                    totalBytes += size;
+                }
+            }
+        }
+        evict(null);
+    }
+
+    // null on a miss
+    public synchronized FileChannel open(String key) throws IOException {
+        if (sizes.get(key) == null) {
+            return null;
+        }
+        try {
+            return FileChannel.open(dir.resolve(key), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            totalBytes -= sizes.remove(key); // deleted behind our back
+            return null;
+        }
+    }
+
+    public synchronized boolean contains(String key) {
+        return sizes.containsKey(key);
+    }
+
+    // a temp file in the cache directory, so put() is a rename on the same file system
+    public Path newTempFile() throws IOException {
+        return Files.createTempFile(dir, "poster-", TEMP_SUFFIX);
+    }
+
+    public synchronized void put(String key, Path tempFile) throws IOException {
+        long size = Files.size(tempFile);
+        Files.move(tempFile, dir.resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Long previous = sizes.put(key, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        evict(key);
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    // the entry just written stays even if it alone is over the limit
+    private void evict(String keep) throws IOException {
+        Iterator<Map.Entry<String, Long>> eldest = sizes.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (!entry.getKey().equals(keep)) {
+                Files.deleteIfExists(dir.resolve(entry.getKey()));
+                totalBytes -= entry.getValue();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime();
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.cinephile.showtime.controller;
 
 import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.cinema.dto.NearbyCinemaCard;
+import com.example.cinephile.common.dto.JobResponse;
 import com.example.cinephile.showtime.dto.*;
+import com.example.cinephile.showtime.service.BulkShowtimeService;
+import com.example.cinephile.showtime.service.NearbyCinemaService;
+import com.example.cinephile.showtime.service.ScheduleOptimizationService;
 import com.example.cinephile.showtime.service.ShowtimeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +29,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ShowtimeController {
     private final ShowtimeService showtimeService;
+    private final BulkShowtimeService bulkShowtimeService;
+    private final NearbyCinemaService nearbyCinemaService;
+    private final ScheduleOptimizationService scheduleOptimizationService;
 
     @GetMapping
     public ResponseEntity<Page<ShowtimeCard>> getAllShowtimes(
@@ -72,6 +81,24 @@ public class ShowtimeController {
         return ResponseEntity.ok(showtimeService.getShowtimeHostingCinemas(movieId));
     }
 
+    @GetMapping("/movie/{movieId}/cinemas/nearby")
+    public ResponseEntity<List<NearbyCinemaCard>> getNearestCinemas(
+            @PathVariable UUID movieId,
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(defaultValue = "50") double radiusKm
+    ) {
+        limit = limit <= 0 ? 5 : Math.min(limit, 20);
+        radiusKm = radiusKm <= 0 ? 50 : Math.min(radiusKm, 500);
+        return ResponseEntity.ok(nearbyCinemaService.getNearestCinemasShowingMovie(movieId, lat, lon, limit, radiusKm));
+    }
+
+    @GetMapping("/movie/{movieId}/schedule")
+    public ResponseEntity<MovieScheduleResponse> getMovieSchedule(@PathVariable UUID movieId) {
+        return ResponseEntity.ok(showtimeService.getMovieSchedule(movieId));
+    }
+
     @GetMapping("/movie/{movieId}/cinema/{cinemaId}/dates")
     public ResponseEntity<List<LocalDate>> getShowtimeAvailableDates(
             @PathVariable UUID movieId,
@@ -112,11 +139,34 @@ public class ShowtimeController {
         return ResponseEntity.ok(showtimeService.getShowtimeSeatLayout(movieId, cinemaId, screenId, datetime));
     }
 
+    @GetMapping("/{showtimeId}/layout")
+    public ResponseEntity<ShowtimeLayoutResponse> getShowtimeLayoutById(@PathVariable UUID showtimeId) {
+        return ResponseEntity.ok(showtimeService.getShowtimeSeatLayout(showtimeId));
+    }
+
     @PostMapping
     public ResponseEntity<ShowtimeResponse> createShowtime(@Valid @RequestBody CreateShowtimeRequest request) {
         return ResponseEntity.status(201).body(showtimeService.createShowtime(request));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkShowtimeResponse> createShowtimes(@Valid @RequestBody BulkShowtimeRequest request) {
+        BulkShowtimeResponse response = bulkShowtimeService.createShowtimes(request);
+        HttpStatus status = response.created().isEmpty() && !response.conflicts().isEmpty()
+                ? HttpStatus.CONFLICT
+                : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping("/optimize")
+    public ResponseEntity<ScheduleOptimizationResponse> optimizeSchedule(
+            @Valid @RequestBody ScheduleOptimizationRequest request,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        ScheduleOptimizationResponse response = scheduleOptimizationService.optimize(authUser.getUser(), request);
+        return ResponseEntity.status(response.created() != null ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+    }
+
     @PutMapping("/{showtimeId}")
     public ResponseEntity<ShowtimeResponse> updateShowtime(@PathVariable UUID showtimeId,
                                                            @Valid @RequestBody UpdateShowtimeRequest request) {
@@ -124,8 +174,7 @@ public class ShowtimeController {
     }
 
     @DeleteMapping("/{showtimeId}")
-    public ResponseEntity<Void> deleteShowtime(@PathVariable UUID showtimeId) {
-        showtimeService.deleteShowtime(showtimeId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<JobResponse> deleteShowtime(@PathVariable UUID showtimeId) {
+        return ResponseEntity.accepted().body(showtimeService.deleteShowtime(showtimeId));
     }
 }
@@ -0,0 +1,56 @@
+package com.example.cinephile.showtime.controller;
+
+import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.showtime.dto.CreateShowtimeScheduleRequest;
+import com.example.cinephile.showtime.dto.ShowtimeScheduleResponse;
+import com.example.cinephile.showtime.dto.UpdateShowtimeScheduleRequest;
+import com.example.cinephile.showtime.service.ShowtimeScheduleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/showtimes/schedules")
+@RequiredArgsConstructor
+public class ShowtimeScheduleController {
+    private final ShowtimeScheduleService scheduleService;
+
+    @GetMapping("/cinema/{cinemaId}")
+    public ResponseEntity<List<ShowtimeScheduleResponse>> getManagedSchedulesByCinema(
+            @PathVariable UUID cinemaId,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return ResponseEntity.ok(scheduleService.getManagedSchedulesByCinema(authUser.getUser(), cinemaId));
+    }
+
+    @PostMapping
+    public ResponseEntity<ShowtimeScheduleResponse> createSchedule(
+            @Valid @RequestBody CreateShowtimeScheduleRequest request,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return ResponseEntity.status(201).body(scheduleService.createSchedule(authUser.getUser(), request));
+    }
+
+    @PutMapping("/{scheduleId}")
+    public ResponseEntity<ShowtimeScheduleResponse> updateSchedule(
+            @PathVariable UUID scheduleId,
+            @Valid @RequestBody UpdateShowtimeScheduleRequest request,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return ResponseEntity.ok(scheduleService.updateSchedule(authUser.getUser(), scheduleId, request));
+    }
+
+    @DeleteMapping("/{scheduleId}")
+    public ResponseEntity<Void> deleteSchedule(
+            @PathVariable UUID scheduleId,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        scheduleService.deleteSchedule(authUser.getUser(), scheduleId);
+        return ResponseEntity.noContent().build();
+    }
+}
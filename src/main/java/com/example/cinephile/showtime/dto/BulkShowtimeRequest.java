@@ -0,0 +1,13 @@
+package com.example.cinephile.showtime.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkShowtimeRequest(@NotEmpty(message = "At least one showtime is required")
+                                  @Size(max = 500, message = "At most 500 showtimes per request")
+                                  List<@Valid CreateShowtimeRequest> showtimes,
+                                  boolean skipConflicts) {
+}
@@ -0,0 +1,6 @@
+package com.example.cinephile.showtime.dto;
+
+import java.util.List;
+
+public record BulkShowtimeResponse(List<ShowtimeResponse> created, List<ShowtimeConflict> conflicts) {
+}
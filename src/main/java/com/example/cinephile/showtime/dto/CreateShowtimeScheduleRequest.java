@@ -0,0 +1,22 @@
+package com.example.cinephile.showtime.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+public record CreateShowtimeScheduleRequest(@NotNull(message = "Movie ID is required") UUID movieId,
+                                            @NotNull(message = "Screen ID is required") UUID screenId,
+                                            @NotNull(message = "Start date is required") LocalDate startDate,
+                                            @NotNull(message = "End date is required") LocalDate endDate,
+                                            @NotEmpty(message = "At least one show time is required")
+                                            List<@NotNull LocalTime> showTimes,
+                                            @NotNull(message = "Price is required")
+                                            @DecimalMin(value = "0.0", message = "Price must not be negative")
+                                            BigDecimal price) {
+}
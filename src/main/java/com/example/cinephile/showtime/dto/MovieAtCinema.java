@@ -0,0 +1,6 @@
+package com.example.cinephile.showtime.dto;
+
+import java.util.UUID;
+
+public record MovieAtCinema(UUID movieId, UUID cinemaId) {
+}
@@ -0,0 +1,10 @@
+package com.example.cinephile.showtime.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.UUID;
+
+public record MovieDemand(@NotNull(message = "Movie ID is required") UUID movieId,
+                          @Positive(message = "Weight must be positive") double weight) {
+}
@@ -0,0 +1,7 @@
+package com.example.cinephile.showtime.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MovieScheduleResponse(UUID movieId, List<ScheduleCinemaNode> cinemas) {
+}
@@ -0,0 +1,7 @@
+package com.example.cinephile.showtime.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ScheduleDateNode(LocalDate date, List<ScheduleTimeNode> times) {
+}
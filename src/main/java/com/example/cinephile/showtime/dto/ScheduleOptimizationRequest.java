@@ -0,0 +1,30 @@
+package com.example.cinephile.showtime.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+// closesAt at or before opensAt means the cinema closes after midnight
+public record ScheduleOptimizationRequest(@NotNull(message = "Cinema ID is required") UUID cinemaId,
+                                          @NotNull(message = "Start date is required") LocalDate startDate,
+                                          @Min(value = 1, message = "At least one day is required")
+                                          @Max(value = 14, message = "At most 14 days can be planned at once")
+                                          int days,
+                                          @NotNull(message = "Opening time is required") LocalTime opensAt,
+                                          @NotNull(message = "Closing time is required") LocalTime closesAt,
+                                          @Min(value = 0, message = "Cleaning buffer must not be negative")
+                                          @Max(value = 120, message = "Cleaning buffer must be at most 120 minutes")
+                                          int cleaningMinutes,
+                                          @NotEmpty(message = "At least one movie is required")
+                                          @Size(max = 50, message = "At most 50 movies can be planned at once")
+                                          List<@Valid MovieDemand> movies,
+                                          @NotNull(message = "Price is required")
+                                          @DecimalMin(value = "0.0", message = "Price must not be negative")
+                                          BigDecimal price,
+                                          boolean apply) {
+}
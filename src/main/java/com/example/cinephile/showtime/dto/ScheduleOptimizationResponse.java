@@ -0,0 +1,9 @@
+package com.example.cinephile.showtime.dto;
+
+import java.util.List;
+
+// showtimes can be posted to /api/showtimes/bulk as is; created is only set when the plan was applied
+public record ScheduleOptimizationResponse(List<CreateShowtimeRequest> showtimes,
+                                           double totalWeight,
+                                           BulkShowtimeResponse created) {
+}
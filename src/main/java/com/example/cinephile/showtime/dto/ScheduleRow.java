@@ -0,0 +1,12 @@
+package com.example.cinephile.showtime.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ScheduleRow(UUID showtimeId,
+                          UUID cinemaId,
+                          String cinemaName,
+                          UUID screenId,
+                          String screenName,
+                          LocalDateTime startTime) {
+}
@@ -0,0 +1,7 @@
+package com.example.cinephile.showtime.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public record ScheduleTimeNode(LocalTime time, List<ScheduleScreenNode> screens) {
+}
@@ -0,0 +1,12 @@
+package com.example.cinephile.showtime.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ShowtimeConflict(int index,
+                               UUID screenId,
+                               LocalDateTime startTime,
+                               LocalDateTime endTime,
+                               UUID conflictingShowtimeId,
+                               Integer conflictingIndex) {
+}
@@ -0,0 +1,16 @@
+package com.example.cinephile.showtime.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ShowtimeOccupancy(UUID showtimeId,
+                                String movieTitle,
+                                String screenName,
+                                LocalDateTime startTime,
+                                LocalDateTime endTime,
+                                long sold,
+                                long held,
+                                long available,
+                                BigDecimal revenue) {
+}
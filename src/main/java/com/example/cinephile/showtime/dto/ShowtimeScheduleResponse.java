@@ -0,0 +1,19 @@
+package com.example.cinephile.showtime.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ShowtimeScheduleResponse(UUID id,
+                                       String movieTitle,
+                                       String cinemaName,
+                                       String screenName,
+                                       LocalDate startDate,
+                                       LocalDate endDate,
+                                       List<LocalTime> showTimes,
+                                       BigDecimal price,
+                                       LocalDate materializedUntil,
+                                       boolean active) {
+}
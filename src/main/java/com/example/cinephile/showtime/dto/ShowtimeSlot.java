@@ -0,0 +1,7 @@
+package com.example.cinephile.showtime.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ShowtimeSlot(UUID showtimeId, UUID screenId, LocalDateTime startTime, LocalDateTime endTime) {
+}
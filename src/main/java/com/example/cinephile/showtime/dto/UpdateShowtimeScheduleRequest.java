@@ -0,0 +1,14 @@
+package com.example.cinephile.showtime.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record UpdateShowtimeScheduleRequest(LocalDate endDate,
+                                            List<LocalTime> showTimes,
+                                            @DecimalMin(value = "0.0", message = "Price must not be negative")
+                                            BigDecimal price) {
+}
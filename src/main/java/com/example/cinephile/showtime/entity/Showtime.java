@@ -10,6 +10,7 @@ import lombok.Setter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -33,12 +34,20 @@ public class Showtime {
     @JoinColumn(name = "movie_id")
     private Movie movie;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id")
+    private ShowtimeSchedule schedule; // recurring schedule that materialized this showtime, if any
+
     @Column(name = "start_time")
     private LocalDateTime startTime;
 
     @Column(name = "end_time")
     private LocalDateTime endTime;
 
+    // generated by the database from start_time
+    @Column(name = "show_date", insertable = false, updatable = false)
+    private LocalDate showDate;
+
     @Column(name = "is_active")
     private boolean isActive;
 
@@ -0,0 +1,75 @@
+package com.example.cinephile.showtime.entity;
+
+import com.example.cinephile.cinema.entity.Cinema;
+import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.movie.entity.Movie;
+import com.fasterxml.uuid.Generators;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "showtime_schedules")
+@Getter @Setter
+public class ShowtimeSchedule {
+    @Id
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "cinema_id")
+    private Cinema cinema;
+
+    @ManyToOne
+    @JoinColumn(name = "screen_id")
+    private Screen screen;
+
+    @ManyToOne
+    @JoinColumn(name = "movie_id")
+    private Movie movie;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "show_times")
+    private String showTimes; // comma separated start times, e.g., "13:00,16:00,19:00"
+
+    private BigDecimal price;
+
+    @Column(name = "materialized_until")
+    private LocalDate materializedUntil; // last day whose showtimes were created
+
+    @Column(name = "is_active")
+    private boolean isActive;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (id == null) {
+            id = Generators.timeBasedEpochGenerator().generate();
+        }
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        isActive = true;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.cinephile.showtime.event;
+
+import com.example.cinephile.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowtimeCacheListener {
+    private final CacheManager cacheManager;
+
+    // evict after commit so a concurrent reader cannot re-cache the pre-change schedule
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShowtimeChanged(ShowtimeChangedEvent event) {
+        Cache schedules = cacheManager.getCache(CacheConfig.MOVIE_SCHEDULES);
+        if (schedules != null) {
+            schedules.evict(event.movieId());
+            log.debug("Evicted cached schedule for movie {}", event.movieId());
+        }
+    }
+}
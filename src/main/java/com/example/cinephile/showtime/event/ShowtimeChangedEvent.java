@@ -0,0 +1,6 @@
+package com.example.cinephile.showtime.event;
+
+import java.util.UUID;
+
+public record ShowtimeChangedEvent(UUID showtimeId, UUID movieId, UUID cinemaId) {
+}
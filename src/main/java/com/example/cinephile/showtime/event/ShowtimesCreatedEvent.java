@@ -0,0 +1,13 @@
+package com.example.cinephile.showtime.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// published once per creating transaction, whether one showtime was scheduled or a whole batch
+public record ShowtimesCreatedEvent(List<CreatedShowtime> showtimes) {
+
+    public record CreatedShowtime(UUID showtimeId, UUID movieId, String movieTitle, UUID cinemaId, String cinemaName,
+                                  LocalDateTime startTime) {
+    }
+}
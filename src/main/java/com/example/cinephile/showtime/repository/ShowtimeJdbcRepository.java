@@ -0,0 +1,102 @@
+package com.example.cinephile.showtime.repository;
+
+import com.example.cinephile.showtime.dto.MovieAtCinema;
+import com.example.cinephile.showtime.dto.ShowtimeOccupancy;
+import com.example.cinephile.showtime.entity.Showtime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ShowtimeJdbcRepository {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SHOWTIME = """
+            INSERT INTO showtimes (id, cinema_id, screen_id, movie_id, schedule_id, start_time, end_time,
+                                   is_active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, true, ?, ?)
+            """;
+
+    // one row per showtime with its seats counted by status, the manager's cinemas are joined in rather than
+    // queried one by one
+    private static final String SELECT_OCCUPANCY_BY_MANAGER = """
+            SELECT st.cinema_id, st.id, m.title, sc.name, st.start_time, st.end_time,
+                   COUNT(CASE WHEN bs.status = 'BOOKED' THEN 1 END) AS sold,
+                   COUNT(CASE WHEN bs.status = 'HELD' THEN 1 END) AS held,
+                   COUNT(CASE WHEN bs.status = 'AVAILABLE' THEN 1 END) AS available,
+                   COALESCE(SUM(CASE WHEN bs.status = 'BOOKED' THEN bs.price END), 0) AS revenue
+            FROM showtimes st
+            JOIN cinemas c ON c.id = st.cinema_id
+            JOIN movies m ON m.id = st.movie_id
+            JOIN screens sc ON sc.id = st.screen_id
+            LEFT JOIN booking_seats bs ON bs.showtime_id = st.id
+            WHERE c.user_id = ?
+                AND c.is_active = true
+                AND st.is_active = true
+                AND st.show_date BETWEEN ? AND ?
+            GROUP BY st.id, m.title, sc.name
+            ORDER BY st.start_time, sc.name, st.id
+            """;
+
+    // served by idx_showtimes_movie_cinema_date, the pairs are appended as (?, ?) row values
+    private static final String COUNT_BY_MOVIE_AND_CINEMA = """
+            SELECT movie_id, cinema_id, COUNT(*)
+            FROM showtimes
+            WHERE (movie_id, cinema_id) IN (%s)
+            GROUP BY movie_id, cinema_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // showtimes must already carry their id, show_date is generated by the database
+    public void insertShowtimes(List<Showtime> showtimes) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SHOWTIME, showtimes, BATCH_SIZE, (ps, showtime) -> {
+            ps.setString(1, showtime.getId().toString());
+            ps.setString(2, showtime.getCinema().getId().toString());
+            ps.setString(3, showtime.getScreen().getId().toString());
+            ps.setString(4, showtime.getMovie().getId().toString());
+            ps.setString(5, showtime.getSchedule() != null ? showtime.getSchedule().getId().toString() : null);
+            ps.setObject(6, showtime.getStartTime());
+            ps.setObject(7, showtime.getEndTime());
+            ps.setObject(8, now);
+            ps.setObject(9, now);
+        });
+    }
+
+    // every showtime of each pair counts, withdrawn ones included. pairs without showtimes are left out
+    public Map<MovieAtCinema, Long> countByMovieAndCinema(Collection<MovieAtCinema> pairs) {
+        Map<MovieAtCinema, Long> counts = new HashMap<>();
+        List<MovieAtCinema> pending = List.copyOf(pairs);
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            List<MovieAtCinema> chunk = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[2 * i] = chunk.get(i).movieId().toString();
+                args[2 * i + 1] = chunk.get(i).cinemaId().toString();
+            }
+            String sql = COUNT_BY_MOVIE_AND_CINEMA.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)")));
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(
+                    new MovieAtCinema(UUID.fromString(rs.getString(1)), UUID.fromString(rs.getString(2))), rs.getLong(3)),
+                    args);
+        }
+        return counts;
+    }
+
+    // showtime occupancy per cinema of the manager, cinemas without showtimes in the range are left out
+    public Map<UUID, List<ShowtimeOccupancy>> findOccupancyByManager(UUID managerId, LocalDate from, LocalDate to) {
+        Map<UUID, List<ShowtimeOccupancy>> occupancy = new HashMap<>();
+        jdbcTemplate.query(SELECT_OCCUPANCY_BY_MANAGER, (RowCallbackHandler) rs -> occupancy
+                .computeIfAbsent(UUID.fromString(rs.getString(1)), cinemaId -> new ArrayList<>())
+                .add(new ShowtimeOccupancy(UUID.fromString(rs.getString(2)), rs.getString(3), rs.getString(4),
+                        rs.getObject(5, LocalDateTime.class), rs.getObject(6, LocalDateTime.class),
+                        rs.getLong(7), rs.getLong(8), rs.getLong(9), rs.getBigDecimal(10))),
+                managerId.toString(), from, to);
+        return occupancy;
+    }
+}
@@ -1,15 +1,22 @@
 package com.example.cinephile.showtime.repository;
 
 import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.showtime.dto.ScheduleRow;
+import com.example.cinephile.showtime.dto.ShowtimeCard;
+import com.example.cinephile.showtime.dto.ShowtimeSlot;
 import com.example.cinephile.showtime.entity.Showtime;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,20 +26,20 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, UUID> {
     boolean existsByScreenAndStartTimeLessThanAndEndTimeGreaterThan(Screen screen, LocalDateTime startTime, LocalDateTime endTime);
 
     @Query(value = """
-            SELECT DISTINCT st.startTime FROM Showtime st
+            SELECT DISTINCT st.showDate FROM Showtime st
             WHERE st.movie.id = :movieId
                 AND st.cinema.id = :cinemaId
                 AND st.isActive = true
                 AND st.startTime >= :now
-            ORDER BY st.startTime ASC
+            ORDER BY st.showDate ASC
             """)
-    List<LocalDateTime> findViewingDaysByMovieAndCinema(UUID movieId, UUID cinemaId, LocalDateTime now);
+    List<LocalDate> findViewingDaysByMovieAndCinema(UUID movieId, UUID cinemaId, LocalDateTime now);
 
     @Query(value = """
             SELECT DISTINCT st.startTime FROM Showtime st
             WHERE st.movie.id = :movieId
                 AND st.cinema.id = :cinemaId
-                AND FUNCTION('DATE', st.startTime) = :day
+                AND st.showDate = :day
                 AND st.isActive = true
                 AND st.startTime >= :now
             ORDER BY st.startTime ASC
@@ -43,23 +50,117 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, UUID> {
             SELECT st.screen FROM Showtime st
             WHERE st.movie.id = :movieId
                 AND st.cinema.id = :cinemaId
+                AND st.showDate = :day
                 AND st.startTime >= :start
                 AND st.startTime <= :end
                 AND st.isActive = true
             """)
-    List<Screen> findScreensByMovieAndCinemaAndDateTime(UUID movieId, UUID cinemaId, LocalDateTime start, LocalDateTime end);
+    List<Screen> findScreensByMovieAndCinemaAndDateTime(UUID movieId, UUID cinemaId, LocalDate day,
+                                                        LocalDateTime start, LocalDateTime end);
 
     @Query("""
         SELECT st FROM Showtime st
         WHERE st.movie.id = :movieId
             AND st.cinema.id = :cinemaId
+            AND st.showDate = :day
             AND st.screen.id = :screenId
             AND st.startTime >= :start
             AND st.startTime <= :end
             AND st.isActive = true
     """)
     Optional<Showtime> findShowtimeByMovieIdAndCinemaIdAndScreenIdAndStartTime(UUID movieId, UUID cinemaId, UUID screenId,
-                                                                               LocalDateTime start, LocalDateTime end);
+                                                                               LocalDate day, LocalDateTime start,
+                                                                               LocalDateTime end);
+
+    // cards are projected in the same query as the showtime, so a page never loads movie, cinema or screen rows
+    @Query(value = """
+            SELECT new com.example.cinephile.showtime.dto.ShowtimeCard(
+                st.id, m.title, m.posterUrl, c.name, sc.name, st.startTime, st.endTime
+            )
+            FROM Showtime st
+            JOIN st.movie m
+            JOIN st.cinema c
+            JOIN st.screen sc
+            ORDER BY st.startTime ASC, st.id ASC
+            """,
+            countQuery = "SELECT COUNT(st) FROM Showtime st")
+    Page<ShowtimeCard> findAllCards(Pageable pageable);
+
+    @Query(value = """
+            SELECT new com.example.cinephile.showtime.dto.ShowtimeCard(
+                st.id, m.title, m.posterUrl, c.name, sc.name, st.startTime, st.endTime
+            )
+            FROM Showtime st
+            JOIN st.movie m
+            JOIN st.cinema c
+            JOIN st.screen sc
+            WHERE c.id = :cinemaId
+            ORDER BY st.startTime ASC, st.id ASC
+            """,
+            countQuery = "SELECT COUNT(st) FROM Showtime st WHERE st.cinema.id = :cinemaId")
+    Page<ShowtimeCard> findCardsByCinemaId(UUID cinemaId, Pageable pageable);
+
+    // shared lock: a delete withdrawing the showtime waits for the booking to commit, and a booking started after
+    // the withdrawal reads it as inactive
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT st FROM Showtime st WHERE st.id = :showtimeId")
+    Optional<Showtime> findByIdForShare(UUID showtimeId);
+
+    @Query("SELECT st.screen.id FROM Showtime st WHERE st.id = :showtimeId AND st.isActive = true")
+    Optional<UUID> findActiveScreenIdById(UUID showtimeId);
+
+    @Query("""
+            SELECT new com.example.cinephile.showtime.dto.ScheduleRow(
+                st.id, c.id, c.name, sc.id, sc.name, st.startTime
+            )
+            FROM Showtime st
+            JOIN st.cinema c
+            JOIN st.screen sc
+            WHERE st.movie.id = :movieId
+                AND st.isActive = true
+                AND st.startTime >= :now
+            ORDER BY c.name ASC, c.id ASC, st.startTime ASC, sc.name ASC
+            """)
+    List<ScheduleRow> findScheduleRowsByMovie(UUID movieId, LocalDateTime now);
+
+    @Query("""
+            SELECT new com.example.cinephile.showtime.dto.ShowtimeSlot(st.id, st.screen.id, st.startTime, st.endTime)
+            FROM Showtime st
+            WHERE st.screen.id IN :screenIds
+                AND st.isActive = true
+                AND st.startTime < :to
+                AND st.endTime > :from
+            """)
+    List<ShowtimeSlot> findSlotsByScreensBetween(Collection<UUID> screenIds, LocalDateTime from, LocalDateTime to);
+
+    // future showtimes of a schedule nobody has started booking, safe to drop when the schedule changes
+    @Query("""
+            SELECT st.id FROM Showtime st
+            WHERE st.schedule.id = :scheduleId
+                AND st.startTime > :now
+                AND NOT EXISTS (SELECT 1 FROM Booking b WHERE b.showtime = st)
+            """)
+    List<UUID> findUnbookedScheduledShowtimeIds(UUID scheduleId, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Showtime st SET st.isActive = false WHERE st.screen.id = :screenId")
+    int deactivateByScreenId(UUID screenId);
+
+    @Modifying
+    @Query("UPDATE Showtime st SET st.isActive = false WHERE st.cinema.id = :cinemaId")
+    int deactivateByCinemaId(UUID cinemaId);
+
+    // showtimes withdrawn on their own, those of a withdrawn screen go with the screen's delete. one that was
+    // booked before the withdrawal committed is kept, its delete job refuses it
+    @Query("""
+            SELECT st.id FROM Showtime st
+            WHERE st.isActive = false
+                AND st.screen.isActive = true
+                AND NOT EXISTS (SELECT 1 FROM Booking b WHERE b.showtime = st)
+            """)
+    List<UUID> findInactiveIdsOnActiveScreens();
 
-    Page<Showtime> findAllByCinemaId(UUID cinemaId, Pageable pageable);
+    @Modifying
+    @Query("DELETE FROM Showtime st WHERE st.id IN :showtimeIds")
+    int deleteAllByIdIn(Collection<UUID> showtimeIds);
 }
@@ -0,0 +1,33 @@
+package com.example.cinephile.showtime.repository;
+
+import com.example.cinephile.showtime.entity.ShowtimeSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ShowtimeScheduleRepository extends JpaRepository<ShowtimeSchedule, UUID> {
+    List<ShowtimeSchedule> findByCinemaIdOrderByStartDateAsc(UUID cinemaId);
+
+    @Query("""
+            SELECT s.id FROM ShowtimeSchedule s
+            WHERE s.isActive = true
+                AND s.startDate <= :horizon
+                AND (s.materializedUntil IS NULL
+                    OR (s.materializedUntil < :horizon AND s.materializedUntil < s.endDate))
+            """)
+    List<UUID> findIdsDueForMaterialization(LocalDate horizon);
+
+    @Modifying
+    @Query("UPDATE ShowtimeSchedule s SET s.isActive = false WHERE s.screen.id = :screenId")
+    int deactivateByScreenId(UUID screenId);
+
+    @Modifying
+    @Query("UPDATE ShowtimeSchedule s SET s.isActive = false WHERE s.cinema.id = :cinemaId")
+    int deactivateByCinemaId(UUID cinemaId);
+}
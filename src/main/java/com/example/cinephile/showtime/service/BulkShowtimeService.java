@@ -0,0 +1,171 @@
+package com.example.cinephile.showtime.service;
+
+import com.example.cinephile.booking.dto.SeatInventory;
+import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.repository.ScreenRepository;
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.dto.*;
+import com.example.cinephile.showtime.entity.Showtime;
+import com.example.cinephile.showtime.entity.ShowtimeSchedule;
+import com.example.cinephile.showtime.event.ShowtimeChangedEvent;
+import com.example.cinephile.showtime.event.ShowtimesCreatedEvent;
+import com.example.cinephile.showtime.repository.ShowtimeJdbcRepository;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.util.ScreenIntervalIndex;
+import com.fasterxml.uuid.Generators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkShowtimeService {
+    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeJdbcRepository showtimeJdbcRepository;
+    private final MovieRepository movieRepository;
+    private final ScreenRepository screenRepository;
+    private final SeatAvailabilityService seatAvailabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // all-or-nothing unless skipConflicts is set, in which case conflicting items are reported and the rest created
+    @Transactional
+    public BulkShowtimeResponse createShowtimes(BulkShowtimeRequest request) {
+        return schedule(request.showtimes(), request.skipConflicts(), null);
+    }
+
+    // slots of a recurring schedule that collide with other showtimes are skipped, not fatal
+    @Transactional
+    public BulkShowtimeResponse materialize(ShowtimeSchedule origin, List<CreateShowtimeRequest> items) {
+        if (items.isEmpty()) {
+            return new BulkShowtimeResponse(List.of(), List.of());
+        }
+        return schedule(items, true, origin);
+    }
+
+    private BulkShowtimeResponse schedule(List<CreateShowtimeRequest> items, boolean skipConflicts,
+                                          ShowtimeSchedule origin) {
+        for (int i = 0; i < items.size(); i++) {
+            validateItem(i, items.get(i));
+        }
+
+        Map<UUID, Movie> movies = movieRepository.findAllById(
+                items.stream().map(CreateShowtimeRequest::movieId).collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(Movie::getId, Function.identity()));
+        Map<UUID, Screen> screens = screenRepository.findAllById(
+                items.stream().map(CreateShowtimeRequest::screenId).collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(Screen::getId, Function.identity()));
+        for (int i = 0; i < items.size(); i++) {
+            if (!movies.containsKey(items.get(i).movieId())) {
+                throw new CinephileException("Showtime #" + i + ": movie not found", HttpStatus.NOT_FOUND);
+            }
+            if (!screens.containsKey(items.get(i).screenId())) {
+                throw new CinephileException("Showtime #" + i + ": screen not found", HttpStatus.NOT_FOUND);
+            }
+        }
+
+        // one query loads every existing showtime that could collide with the batch
+        LocalDateTime from = items.stream().map(CreateShowtimeRequest::startTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = items.stream().map(CreateShowtimeRequest::endTime).max(Comparator.naturalOrder()).orElseThrow();
+        ScreenIntervalIndex index = new ScreenIntervalIndex();
+        for (ShowtimeSlot slot : showtimeRepository.findSlotsByScreensBetween(screens.keySet(), from, to)) {
+            index.add(slot.screenId(), new ScreenIntervalIndex.Slot(
+                    slot.startTime(), slot.endTime(), slot.showtimeId(), -1));
+        }
+
+        List<ShowtimeConflict> conflicts = new ArrayList<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateShowtimeRequest item = items.get(i);
+            Optional<ScreenIntervalIndex.Slot> overlap = index.findOverlap(item.screenId(), item.startTime(), item.endTime());
+            if (overlap.isPresent()) {
+                ScreenIntervalIndex.Slot slot = overlap.get();
+                conflicts.add(new ShowtimeConflict(i, item.screenId(), item.startTime(), item.endTime(),
+                        slot.showtimeId(), slot.requestIndex() < 0 ? null : slot.requestIndex()));
+                continue;
+            }
+            // later items of the batch are checked against the accepted ones too
+            index.add(item.screenId(), new ScreenIntervalIndex.Slot(item.startTime(), item.endTime(), null, i));
+            accepted.add(i);
+        }
+
+        if (!conflicts.isEmpty() && !skipConflicts) {
+            log.info("Rejected bulk scheduling of {} showtimes, {} conflicts", items.size(), conflicts.size());
+            return new BulkShowtimeResponse(List.of(), conflicts);
+        }
+
+        List<Showtime> showtimes = new ArrayList<>();
+        List<SeatInventory> inventories = new ArrayList<>();
+        Map<UUID, List<UUID>> seatsByScreen = new HashMap<>();
+        for (int i : accepted) {
+            CreateShowtimeRequest item = items.get(i);
+            Screen screen = screens.get(item.screenId());
+            Showtime showtime = new Showtime();
+            showtime.setId(Generators.timeBasedEpochGenerator().generate());
+            showtime.setMovie(movies.get(item.movieId()));
+            showtime.setScreen(screen);
+            showtime.setCinema(screen.getCinema());
+            showtime.setStartTime(item.startTime());
+            showtime.setEndTime(item.endTime());
+            showtime.setSchedule(origin);
+            showtimes.add(showtime);
+
+            List<UUID> seatIds = seatsByScreen.computeIfAbsent(screen.getId(), seatAvailabilityService::getSellableSeatIds);
+            inventories.add(new SeatInventory(showtime.getId(), seatIds, item.price()));
+        }
+
+        try {
+            showtimeJdbcRepository.insertShowtimes(showtimes);
+        } catch (DuplicateKeyException e) {
+            // withdrawn showtimes no longer block the slot, but one of the same movie and start still holds the key
+            throw new CinephileException("A withdrawn showtime of the same movie still starts in that slot",
+                    HttpStatus.CONFLICT);
+        }
+        seatAvailabilityService.initializeSeats(inventories);
+        showtimes.forEach(showtime -> eventPublisher.publishEvent(new ShowtimeChangedEvent(
+                showtime.getId(), showtime.getMovie().getId(), showtime.getCinema().getId())));
+        if (!showtimes.isEmpty()) {
+            eventPublisher.publishEvent(new ShowtimesCreatedEvent(showtimes.stream()
+                    .map(showtime -> new ShowtimesCreatedEvent.CreatedShowtime(showtime.getId(),
+                            showtime.getMovie().getId(), showtime.getMovie().getTitle(),
+                            showtime.getCinema().getId(), showtime.getCinema().getName(), showtime.getStartTime()))
+                    .toList()));
+        }
+        log.info("Bulk scheduled {} showtimes, skipped {} conflicts", showtimes.size(), conflicts.size());
+
+        List<ShowtimeResponse> created = showtimes.stream()
+                .map(showtime -> new ShowtimeResponse(
+                        showtime.getId(), showtime.getMovie().getTitle(), showtime.getCinema().getName(),
+                        showtime.getScreen().getName(), showtime.getStartTime(), showtime.getEndTime()
+                ))
+                .toList();
+        return new BulkShowtimeResponse(created, conflicts);
+    }
+
+    private void validateItem(int index, CreateShowtimeRequest item) {
+        if (item.startTime() == null || item.endTime() == null) {
+            throw new CinephileException("Showtime #" + index + ": start time and end time are required",
+                    HttpStatus.BAD_REQUEST);
+        }
+        if (!item.endTime().isAfter(item.startTime())) {
+            throw new CinephileException("Showtime #" + index + ": end time must be after start time",
+                    HttpStatus.BAD_REQUEST);
+        }
+        if (item.price() == null || item.price().compareTo(BigDecimal.ZERO) < 0) {
+            throw new CinephileException("Showtime #" + index + ": a non-negative price is required",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.cinephile.showtime.service;
+
+import com.example.cinephile.cinema.dto.NearbyCinemaCard;
+import com.example.cinephile.cinema.service.CinemaLocator;
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.showtime.dto.ScheduleCinemaNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class NearbyCinemaService {
+    private final ShowtimeService showtimeService;
+    private final CinemaLocator cinemaLocator;
+
+    // cinemas with upcoming showtimes come from the cached schedule tree, distances from the grid index
+    public List<NearbyCinemaCard> getNearestCinemasShowingMovie(UUID movieId, double latitude, double longitude,
+                                                                int limit, double radiusKm) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new CinephileException("Invalid coordinates", HttpStatus.BAD_REQUEST);
+        }
+        Set<UUID> showing = showtimeService.getMovieSchedule(movieId).cinemas().stream()
+                .map(ScheduleCinemaNode::cinemaId)
+                .collect(Collectors.toSet());
+        if (showing.isEmpty()) {
+            return List.of();
+        }
+
+        return cinemaLocator.getIndex()
+                .nearest(latitude, longitude, limit, radiusKm, location -> showing.contains(location.cinemaId()))
+                .stream()
+                .map(hit -> new NearbyCinemaCard(
+                        hit.location().cinemaId(),
+                        hit.location().name(),
+                        hit.location().address(),
+                        hit.location().latitude(),
+                        hit.location().longitude(),
+                        Math.round(hit.distanceKm() * 100) / 100.0
+                ))
+                .toList();
+    }
+}
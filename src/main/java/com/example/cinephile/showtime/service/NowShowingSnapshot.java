@@ -0,0 +1,68 @@
+package com.example.cinephile.showtime.service;
+
+import com.example.cinephile.common.util.LazySnapshot;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.dto.ShowtimeMovieCard;
+import com.example.cinephile.showtime.event.ShowtimeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+// precomputed list of movies with upcoming showtimes, so the home page never touches the database
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NowShowingSnapshot {
+    private final MovieRepository movieRepository;
+
+    private final LazySnapshot<List<ShowtimeMovieCard>> movies = new LazySnapshot<>(this::load);
+
+    public Page<ShowtimeMovieCard> find(String title, String genre, String rated, Pageable pageable) {
+        String titleFilter = lower(title);
+        String genreFilter = lower(genre);
+        List<ShowtimeMovieCard> matches = movies.get().stream()
+                .filter(movie -> titleFilter == null || contains(movie.title(), titleFilter))
+                .filter(movie -> genreFilter == null || contains(movie.genre(), genreFilter))
+                .filter(movie -> rated == null || rated.equalsIgnoreCase(movie.rated()))
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    // the timer drops movies whose last showtime has started and picks up edits to movie details
+    @Scheduled(fixedDelayString = "${cinephile.now-showing.refresh-ms:60000}")
+    public void refresh() {
+        movies.refresh();
+    }
+
+    // rebuilt lazily on the next read, so a bulk import of many showtimes costs a single rebuild
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShowtimeChanged(ShowtimeChangedEvent event) {
+        movies.invalidate();
+    }
+
+    private List<ShowtimeMovieCard> load() {
+        List<ShowtimeMovieCard> loaded = List.copyOf(movieRepository.findNowShowingMovies(LocalDateTime.now()));
+        log.debug("Now-showing snapshot rebuilt with {} movies", loaded.size());
+        return loaded;
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean contains(String value, String lowerCaseFilter) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseFilter);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.cinephile.showtime.service;
+
+import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.repository.CinemaRepository;
+import com.example.cinephile.cinema.repository.ScreenRepository;
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.dto.*;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.util.ScreenScheduleOptimizer;
+import com.example.cinephile.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleOptimizationService {
+    private static final int GRANULARITY_MINUTES = 5;
+
+    private final CinemaRepository cinemaRepository;
+    private final ScreenRepository screenRepository;
+    private final MovieRepository movieRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final BulkShowtimeService bulkShowtimeService;
+
+    // plans every active screen of the cinema around the showtimes it already has
+    @Transactional
+    public ScheduleOptimizationResponse optimize(User user, ScheduleOptimizationRequest request) {
+        if (!cinemaRepository.existsByIdAndManagerId(request.cinemaId(), user.getId())) {
+            throw new CinephileException("Cinema not found or access denied", HttpStatus.NOT_FOUND);
+        }
+        List<Screen> screens = screenRepository.findByCinemaId(request.cinemaId()).stream()
+                .filter(Screen::isActive)
+                .toList();
+        if (screens.isEmpty()) {
+            throw new CinephileException("Cinema has no active screens", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<UUID, Movie> moviesById = movieRepository.findAllById(
+                request.movies().stream().map(MovieDemand::movieId).collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(Movie::getId, Function.identity()));
+        List<Movie> movies = new ArrayList<>();
+        List<ScreenScheduleOptimizer.Film> films = new ArrayList<>();
+        for (MovieDemand demand : request.movies()) {
+            Movie movie = moviesById.get(demand.movieId());
+            if (movie == null) {
+                throw new CinephileException("Movie " + demand.movieId() + " not found", HttpStatus.NOT_FOUND);
+            }
+            if (movie.getRuntime() == null || movie.getRuntime() <= 0) {
+                throw new CinephileException("Movie " + movie.getTitle() + " has no runtime", HttpStatus.BAD_REQUEST);
+            }
+            movies.add(movie);
+            films.add(new ScreenScheduleOptimizer.Film(movie.getRuntime(), demand.weight()));
+        }
+
+        int opensAt = request.opensAt().toSecondOfDay() / 60;
+        int closesAt = request.closesAt().toSecondOfDay() / 60;
+        if (closesAt <= opensAt) {
+            closesAt += 24 * 60;
+        }
+        LocalDateTime from = request.startDate().atStartOfDay().plusMinutes(opensAt);
+        LocalDateTime to = request.startDate().plusDays(request.days() - 1).atStartOfDay().plusMinutes(closesAt);
+        Map<UUID, List<ShowtimeSlot>> busy = showtimeRepository.findSlotsByScreensBetween(
+                screens.stream().map(Screen::getId).toList(), from, to
+        ).stream().collect(Collectors.groupingBy(ShowtimeSlot::screenId));
+
+        List<ScreenScheduleOptimizer.Window> windows = new ArrayList<>();
+        for (int s = 0; s < screens.size(); s++) {
+            List<ShowtimeSlot> taken = busy.getOrDefault(screens.get(s).getId(), List.of());
+            for (int day = 0; day < request.days(); day++) {
+                LocalDate date = request.startDate().plusDays(day);
+                windows.addAll(freeWindows(s, day, date, opensAt, closesAt, taken, request.cleaningMinutes()));
+            }
+        }
+
+        long started = System.nanoTime();
+        ScreenScheduleOptimizer.Result result = new ScreenScheduleOptimizer(
+                films, request.cleaningMinutes(), GRANULARITY_MINUTES
+        ).optimize(windows, request.days());
+        log.info("Planned {} showtimes on {} screens over {} days in {} ms ({} improving moves)",
+                result.placements().size(), screens.size(), request.days(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis(), result.improvingMoves());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CreateShowtimeRequest> showtimes = result.placements().stream()
+                .map(placement -> {
+                    ScreenScheduleOptimizer.Window window = windows.get(placement.window());
+                    Movie movie = movies.get(placement.film());
+                    LocalDateTime start = request.startDate().plusDays(window.day()).atStartOfDay()
+                            .plusMinutes(placement.startMinute());
+                    return new CreateShowtimeRequest(movie.getId(), screens.get(window.screen()).getId(),
+                            start, start.plusMinutes(movie.getRuntime()), request.price());
+                })
+                .filter(showtime -> showtime.startTime().isAfter(now))
+                .sorted(Comparator.comparing(CreateShowtimeRequest::startTime))
+                .toList();
+
+        BulkShowtimeResponse created = request.apply() && !showtimes.isEmpty()
+                ? bulkShowtimeService.createShowtimes(new BulkShowtimeRequest(showtimes, true))
+                : null;
+        return new ScheduleOptimizationResponse(showtimes, result.value(), created);
+    }
+
+    // opening hours of one screen-day minus its existing showtimes, each padded by the cleaning buffer
+    private List<ScreenScheduleOptimizer.Window> freeWindows(int screen, int day, LocalDate date, int opensAt,
+                                                             int closesAt, List<ShowtimeSlot> taken, int cleaning) {
+        LocalDateTime midnight = date.atStartOfDay();
+        List<int[]> blocked = taken.stream()
+                .map(slot -> new int[]{
+                        (int) Duration.between(midnight, slot.startTime()).toMinutes() - cleaning,
+                        (int) Duration.between(midnight, slot.endTime()).toMinutes() + cleaning
+                })
+                .filter(range -> range[1] > opensAt && range[0] < closesAt)
+                .sorted(Comparator.comparingInt(range -> range[0]))
+                .toList();
+
+        List<ScreenScheduleOptimizer.Window> windows = new ArrayList<>();
+        int cursor = opensAt;
+        for (int[] range : blocked) {
+            if (range[0] > cursor) {
+                windows.add(new ScreenScheduleOptimizer.Window(screen, day, roundUp(cursor), range[0]));
+            }
+            cursor = Math.max(cursor, range[1]);
+        }
+        if (cursor < closesAt) {
+            windows.add(new ScreenScheduleOptimizer.Window(screen, day, roundUp(cursor), closesAt));
+        }
+        return windows.stream().filter(window -> window.endMinute() > window.startMinute()).toList();
+    }
+
+    private static int roundUp(int minute) {
+        return (minute + GRANULARITY_MINUTES - 1) / GRANULARITY_MINUTES * GRANULARITY_MINUTES;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.cinephile.showtime.service;
 
-import com.example.cinephile.cinema.entity.Seat;
-import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.cinema.service.SeatTemplateService;
 import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.booking.dto.SeatInventory;
+import com.example.cinephile.booking.dto.SeatStatusView;
 import com.example.cinephile.booking.entity.BookingSeat;
 import com.example.cinephile.booking.entity.SeatStatus;
+import com.example.cinephile.booking.repository.BookingSeatJdbcRepository;
 import com.example.cinephile.booking.repository.BookingSeatRepository;
 import com.example.cinephile.showtime.dto.SeatAvailabilityStats;
 import com.example.cinephile.showtime.entity.Showtime;
@@ -22,29 +24,33 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class SeatAvailabilityService {
-    private final SeatRepository seatRepository;
+    private final SeatTemplateService seatTemplateService;
     private final BookingSeatRepository bookingSeatRepository;
+    private final BookingSeatJdbcRepository bookingSeatJdbcRepository;
 
     @Transactional
     public void initializeSeatsForShowtime(Showtime showtime, BigDecimal price) {
         log.info("Initializing seat availability for showtime {} in screen {}",
                 showtime.getId(), showtime.getScreen().getId());
+        List<UUID> seatIds = getSellableSeatIds(showtime.getScreen().getId());
+        initializeSeats(List.of(new SeatInventory(showtime.getId(), seatIds, price)));
+    }
+
+    // batch insert the `booking_seats` inventory of several showtimes at once
+    @Transactional
+    public void initializeSeats(List<SeatInventory> inventories) {
+        int inserted = bookingSeatJdbcRepository.insertAvailableSeats(inventories);
+        log.info("Initialized {} seats as available for {} showtimes", inserted, inventories.size());
+    }
 
-        List<Seat> screenSeats = seatRepository.findByScreenId(showtime.getScreen().getId());
-        if (screenSeats.isEmpty()) {
-            log.warn("No seats found for screen {}", showtime.getScreen().getId());
+    @Transactional(readOnly = true)
+    public List<UUID> getSellableSeatIds(UUID screenId) {
+        List<UUID> seatIds = seatTemplateService.getTemplate(screenId).seatIds();
+        if (seatIds.isEmpty()) {
+            log.warn("No seats found for screen {}", screenId);
             throw new CinephileException("No seats found for screen", HttpStatus.NOT_FOUND);
         }
-
-        List<BookingSeat> availableSeats = screenSeats.stream()
-                .filter(Seat::isActive)
-                .map(seat -> createAvailableBookedSeat(seat, showtime, price))
-                .toList();
-
-        bookingSeatRepository.saveAll(availableSeats);
-
-        log.info("Initialized {} seats as available for showtime {}",
-                availableSeats.size(), showtime.getId());
+        return seatIds;
     }
 
     @Transactional(readOnly = true)
@@ -54,6 +60,11 @@ public class SeatAvailabilityService {
         return bookingSeats;
     }
 
+    @Transactional(readOnly = true)
+    public List<SeatStatusView> getShowtimeSeatStatuses(UUID showtimeId) {
+        return bookingSeatRepository.findSeatStatusesByShowtimeId(showtimeId);
+    }
+
     @Transactional(readOnly = true)
     public SeatAvailabilityStats getAvailabilityStats(UUID showtimeId) {
         long available = bookingSeatRepository.countAvailableSeats(showtimeId);
@@ -67,18 +78,4 @@ public class SeatAvailabilityService {
 
         return new SeatAvailabilityStats(total, available, held, booked);
     }
-
-    private BookingSeat createAvailableBookedSeat(Seat seat, Showtime showtime, BigDecimal price) {
-        BookingSeat bookingSeat = new BookingSeat();
-        bookingSeat.setSeat(seat);
-        bookingSeat.setShowtime(showtime);
-        bookingSeat.setStatus(SeatStatus.AVAILABLE);
-        bookingSeat.setPrice(price);
-        return bookingSeat;
-    }
-
-    public void deleteSeatsForShowtime(UUID showtimeId) {
-        bookingSeatRepository.deleteByShowtimeId(showtimeId);
-        log.info("Deleted booked seats for showtime {}", showtimeId);
-    }
 }
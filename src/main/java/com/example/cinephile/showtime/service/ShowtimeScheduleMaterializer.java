@@ -0,0 +1,38 @@
+package com.example.cinephile.showtime.service;
+
+import com.example.cinephile.showtime.repository.ShowtimeScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// extends every active schedule a rolling horizon ahead, one transaction per schedule
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowtimeScheduleMaterializer {
+    private final ShowtimeScheduleRepository scheduleRepository;
+    private final ShowtimeScheduleService scheduleService;
+
+    @Value("${cinephile.schedules.horizon-days:14}")
+    private int horizonDays;
+
+    @Scheduled(cron = "${cinephile.schedules.materialize-cron:0 0 4 * * *}")
+    public void materializeDueSchedules() {
+        LocalDate horizon = LocalDate.now().plusDays(horizonDays);
+        int created = 0;
+        for (UUID scheduleId : scheduleRepository.findIdsDueForMaterialization(horizon)) {
+            try {
+                created += scheduleService.materialize(scheduleId, horizon);
+            } catch (RuntimeException e) {
+                // one broken schedule must not stop the rest
+                log.error("Failed to materialize schedule {}", scheduleId, e);
+            }
+        }
+        log.info("Materialized {} showtimes up to {}", created, horizon);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.cinephile.showtime.service;
+
+import com.example.cinephile.booking.repository.BookingSeatRepository;
+import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.repository.CinemaRepository;
+import com.example.cinephile.cinema.repository.ScreenRepository;
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.dto.*;
+import com.example.cinephile.showtime.entity.ShowtimeSchedule;
+import com.example.cinephile.showtime.event.ShowtimeChangedEvent;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.repository.ShowtimeScheduleRepository;
+import com.example.cinephile.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShowtimeScheduleService {
+    private static final int INITIAL_WINDOW_DAYS = 1; // today and tomorrow are created right away
+
+    private final ShowtimeScheduleRepository scheduleRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingSeatRepository bookingSeatRepository;
+    private final MovieRepository movieRepository;
+    private final ScreenRepository screenRepository;
+    private final CinemaRepository cinemaRepository;
+    private final BulkShowtimeService bulkShowtimeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<ShowtimeScheduleResponse> getManagedSchedulesByCinema(User user, UUID cinemaId) {
+        if (!cinemaRepository.existsByIdAndManagerId(cinemaId, user.getId())) {
+            throw new CinephileException("Cinema not found or access denied", HttpStatus.NOT_FOUND);
+        }
+        return scheduleRepository.findByCinemaIdOrderByStartDateAsc(cinemaId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public ShowtimeScheduleResponse createSchedule(User user, CreateShowtimeScheduleRequest request) {
+        Movie movie = movieRepository.findById(request.movieId())
+                .orElseThrow(() -> new CinephileException("Movie not found", HttpStatus.NOT_FOUND));
+        Screen screen = screenRepository.findById(request.screenId())
+                .orElseThrow(() -> new CinephileException("Screen not found", HttpStatus.NOT_FOUND));
+        if (!cinemaRepository.existsByIdAndManagerId(screen.getCinema().getId(), user.getId())) {
+            throw new CinephileException("Cinema not found or access denied", HttpStatus.NOT_FOUND);
+        }
+        if (movie.getRuntime() == null || movie.getRuntime() <= 0) {
+            throw new CinephileException("Movie has no runtime to schedule with", HttpStatus.BAD_REQUEST);
+        }
+        if (request.endDate().isBefore(request.startDate())) {
+            throw new CinephileException("End date must not be before start date", HttpStatus.BAD_REQUEST);
+        }
+        if (request.endDate().isBefore(LocalDate.now())) {
+            throw new CinephileException("Schedule ends in the past", HttpStatus.BAD_REQUEST);
+        }
+
+        ShowtimeSchedule schedule = new ShowtimeSchedule();
+        schedule.setMovie(movie);
+        schedule.setScreen(screen);
+        schedule.setCinema(screen.getCinema());
+        schedule.setStartDate(request.startDate());
+        schedule.setEndDate(request.endDate());
+        schedule.setShowTimes(joinShowTimes(request.showTimes()));
+        schedule.setPrice(request.price());
+        // flush so the batched showtime insert can reference the new row
+        scheduleRepository.saveAndFlush(schedule);
+
+        materializeThrough(schedule, LocalDate.now().plusDays(INITIAL_WINDOW_DAYS));
+        return toResponse(schedule);
+    }
+
+    // only future showtimes without bookings are regenerated; sold ones stay as they are
+    @Transactional
+    public ShowtimeScheduleResponse updateSchedule(User user, UUID scheduleId, UpdateShowtimeScheduleRequest request) {
+        ShowtimeSchedule schedule = getManagedSchedule(user, scheduleId);
+        if (!schedule.isActive()) {
+            throw new CinephileException("Schedule is no longer active", HttpStatus.BAD_REQUEST);
+        }
+        if (request.endDate() != null) {
+            if (request.endDate().isBefore(schedule.getStartDate())) {
+                throw new CinephileException("End date must not be before start date", HttpStatus.BAD_REQUEST);
+            }
+            schedule.setEndDate(request.endDate());
+        }
+        if (request.showTimes() != null) {
+            if (request.showTimes().isEmpty()) {
+                throw new CinephileException("At least one show time is required", HttpStatus.BAD_REQUEST);
+            }
+            schedule.setShowTimes(joinShowTimes(request.showTimes()));
+        }
+        if (request.price() != null) {
+            schedule.setPrice(request.price());
+        }
+
+        removeUnsoldShowtimes(schedule);
+        schedule.setMaterializedUntil(null);
+        scheduleRepository.saveAndFlush(schedule);
+
+        materializeThrough(schedule, LocalDate.now().plusDays(INITIAL_WINDOW_DAYS));
+        return toResponse(schedule);
+    }
+
+    @Transactional
+    public void deleteSchedule(User user, UUID scheduleId) {
+        ShowtimeSchedule schedule = getManagedSchedule(user, scheduleId);
+        removeUnsoldShowtimes(schedule);
+        // kept as inactive so already sold showtimes still point to their origin
+        schedule.setActive(false);
+        scheduleRepository.save(schedule);
+    }
+
+    // create the missing days of a schedule up to the horizon, called by the nightly job
+    @Transactional
+    public int materialize(UUID scheduleId, LocalDate horizon) {
+        ShowtimeSchedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new CinephileException("Schedule not found", HttpStatus.NOT_FOUND));
+        if (!schedule.isActive()) {
+            return 0;
+        }
+        return materializeThrough(schedule, horizon);
+    }
+
+    private int materializeThrough(ShowtimeSchedule schedule, LocalDate horizon) {
+        LocalDate from = schedule.getMaterializedUntil() != null
+                ? schedule.getMaterializedUntil().plusDays(1)
+                : schedule.getStartDate();
+        LocalDate today = LocalDate.now();
+        if (from.isBefore(today)) {
+            from = today;
+        }
+        LocalDate to = horizon.isBefore(schedule.getEndDate()) ? horizon : schedule.getEndDate();
+        if (from.isAfter(to)) {
+            return 0;
+        }
+
+        List<LocalTime> times = splitShowTimes(schedule.getShowTimes());
+        long runtime = schedule.getMovie().getRuntime();
+        LocalDateTime now = LocalDateTime.now();
+        List<CreateShowtimeRequest> items = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            for (LocalTime time : times) {
+                LocalDateTime start = day.atTime(time);
+                if (start.isBefore(now)) {
+                    continue;
+                }
+                items.add(new CreateShowtimeRequest(schedule.getMovie().getId(), schedule.getScreen().getId(),
+                        start, start.plusMinutes(runtime), schedule.getPrice()));
+            }
+        }
+
+        BulkShowtimeResponse result = bulkShowtimeService.materialize(schedule, items);
+        if (!result.conflicts().isEmpty()) {
+            log.warn("Schedule {} skipped {} conflicting slots", schedule.getId(), result.conflicts().size());
+        }
+        schedule.setMaterializedUntil(to);
+        scheduleRepository.save(schedule);
+        return result.created().size();
+    }
+
+    // set-based delete of the schedule's future showtimes that nobody has booked yet
+    private void removeUnsoldShowtimes(ShowtimeSchedule schedule) {
+        List<UUID> showtimeIds = showtimeRepository.findUnbookedScheduledShowtimeIds(
+                schedule.getId(), LocalDateTime.now());
+        if (showtimeIds.isEmpty()) {
+            return;
+        }
+        bookingSeatRepository.deleteAllByShowtimeIdIn(showtimeIds);
+        showtimeRepository.deleteAllByIdIn(showtimeIds);
+        showtimeIds.forEach(showtimeId -> eventPublisher.publishEvent(new ShowtimeChangedEvent(
+                showtimeId, schedule.getMovie().getId(), schedule.getCinema().getId())));
+        log.info("Removed {} unsold showtimes of schedule {}", showtimeIds.size(), schedule.getId());
+    }
+
+    private ShowtimeSchedule getManagedSchedule(User user, UUID scheduleId) {
+        ShowtimeSchedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new CinephileException("Schedule not found", HttpStatus.NOT_FOUND));
+        if (!cinemaRepository.existsByIdAndManagerId(schedule.getCinema().getId(), user.getId())) {
+            throw new CinephileException("Schedule not found", HttpStatus.NOT_FOUND);
+        }
+        return schedule;
+    }
+
+    private ShowtimeScheduleResponse toResponse(ShowtimeSchedule schedule) {
+        return new ShowtimeScheduleResponse(
+                schedule.getId(),
+                schedule.getMovie().getTitle(),
+                schedule.getCinema().getName(),
+                schedule.getScreen().getName(),
+                schedule.getStartDate(),
+                schedule.getEndDate(),
+                splitShowTimes(schedule.getShowTimes()),
+                schedule.getPrice(),
+                schedule.getMaterializedUntil(),
+                schedule.isActive()
+        );
+    }
+
+    private static String joinShowTimes(List<LocalTime> showTimes) {
+        return showTimes.stream()
+                .map(time -> time.withSecond(0).withNano(0))
+                .distinct()
+                .sorted()
+                .map(LocalTime::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    private static List<LocalTime> splitShowTimes(String showTimes) {
+        return Arrays.stream(showTimes.split(","))
+                .map(String::trim)
+                .map(LocalTime::parse)
+                .toList();
+    }
+}
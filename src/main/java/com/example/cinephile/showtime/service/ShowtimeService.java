@@ -1,18 +1,32 @@
 package com.example.cinephile.showtime.service;
 
+import com.example.cinephile.cinema.dto.SeatTemplate;
 import com.example.cinephile.cinema.entity.Cinema;
 import com.example.cinephile.cinema.entity.Screen;
 import com.example.cinephile.cinema.repository.CinemaRepository;
 import com.example.cinephile.cinema.repository.ScreenRepository;
+import com.example.cinephile.cinema.service.SeatTemplateService;
+import com.example.cinephile.common.dto.JobResponse;
 import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.common.job.ChunkedDeleter;
+import com.example.cinephile.common.job.JobService;
+import com.example.cinephile.config.CacheConfig;
 import com.example.cinephile.movie.entity.Movie;
 import com.example.cinephile.movie.repository.MovieRepository;
-import com.example.cinephile.booking.entity.BookingSeat;
+import com.example.cinephile.booking.dto.SeatStatusView;
+import com.example.cinephile.booking.repository.BookingRepository;
 import com.example.cinephile.showtime.dto.*;
 import com.example.cinephile.showtime.entity.Showtime;
+import com.example.cinephile.showtime.event.ShowtimeChangedEvent;
+import com.example.cinephile.showtime.event.ShowtimesCreatedEvent;
 import com.example.cinephile.showtime.repository.ShowtimeRepository;
 import com.example.cinephile.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -22,9 +36,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShowtimeService {
@@ -33,19 +51,16 @@ public class ShowtimeService {
     private final ScreenRepository screenRepository;
     private final CinemaRepository cinemaRepository;
     private final SeatAvailabilityService seatAvailabilityService;
+    private final SeatTemplateService seatTemplateService;
+    private final BookingRepository bookingRepository;
+    private final JobService jobService;
+    private final ChunkedDeleter chunkedDeleter;
+    private final NowShowingSnapshot nowShowingSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<ShowtimeCard> getAllShowtimes(Pageable pageable) {
-        Page<Showtime> page = showtimeRepository.findAll(pageable);
-        return page.map(showtime -> new ShowtimeCard(
-                showtime.getId(),
-                showtime.getMovie().getTitle(),
-                showtime.getMovie().getPosterUrl(),
-                showtime.getCinema().getName(),
-                showtime.getScreen().getName(),
-                showtime.getStartTime(),
-                showtime.getEndTime()
-        ));
+        return showtimeRepository.findAllCards(pageable);
     }
 
     @Transactional(readOnly = true)
@@ -53,16 +68,7 @@ public class ShowtimeService {
         if (!cinemaRepository.existsByIdAndManagerId(cinemaId, user.getId())) {
             throw new CinephileException("Cinema not found or access denied", HttpStatus.NOT_FOUND);
         }
-        Page<Showtime> page = showtimeRepository.findAllByCinemaId(cinemaId, pageable);
-        return page.map(showtime -> new ShowtimeCard(
-                showtime.getId(),
-                showtime.getMovie().getTitle(),
-                showtime.getMovie().getPosterUrl(),
-                showtime.getCinema().getName(),
-                showtime.getScreen().getName(),
-                showtime.getStartTime(),
-                showtime.getEndTime()
-        ));
+        return showtimeRepository.findCardsByCinemaId(cinemaId, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -75,9 +81,8 @@ public class ShowtimeService {
         );
     }
 
-    @Transactional(readOnly = true)
     public Page<ShowtimeMovieCard> getUpcomingShowtimes(String title, String genre, String rated, Pageable pageable) {
-        return movieRepository.findMoviesWithUpcomingShowtimes(title, genre, rated, pageable);
+        return nowShowingSnapshot.find(title, genre, rated, pageable);
     }
 
     @Transactional(readOnly = true) // get cinemas hosting a specific movie (booking start point)
@@ -94,10 +99,7 @@ public class ShowtimeService {
     @Transactional(readOnly = true) // get days when the movie is showing in the selected cinema
     public List<LocalDate> getShowtimeAvailableDates(UUID movieId, UUID cinemaId) {
         return showtimeRepository
-                .findViewingDaysByMovieAndCinema(movieId, cinemaId, LocalDateTime.now())
-                .stream()
-                .map(LocalDateTime::toLocalDate)
-                .toList();
+                .findViewingDaysByMovieAndCinema(movieId, cinemaId, LocalDateTime.now());
     }
 
     @Transactional(readOnly = true) // get times when the movie is showing in the selected cinema on the selected day
@@ -113,32 +115,93 @@ public class ShowtimeService {
     public List<ShowtimeScreenCard> getShowtimeAvailableScreens(UUID movieId, UUID cinemaId, LocalDateTime datetime) {
         LocalDateTime start = datetime.withNano(0);
         LocalDateTime end = start.plusSeconds(1);
-        List<Screen> screens = showtimeRepository.findScreensByMovieAndCinemaAndDateTime(movieId, cinemaId, start, end);
+        List<Screen> screens = showtimeRepository.findScreensByMovieAndCinemaAndDateTime(
+                movieId, cinemaId, start.toLocalDate(), start, end);
         return screens.stream()
                 .map(screen -> new ShowtimeScreenCard(screen.getId(), screen.getName()))
                 .toList();
     }
 
+    @Cacheable(cacheNames = CacheConfig.MOVIE_SCHEDULES, key = "#movieId")
+    @Transactional(readOnly = true) // whole cinema -> date -> time -> screen tree of a movie in one query
+    public MovieScheduleResponse getMovieSchedule(UUID movieId) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new CinephileException("Movie not found", HttpStatus.NOT_FOUND);
+        }
+
+        // rows arrive ordered by cinema, start time and screen, so insertion order is the display order
+        Map<UUID, String> cinemaNames = new LinkedHashMap<>();
+        Map<UUID, Map<LocalDate, Map<LocalTime, List<ScheduleScreenNode>>>> tree = new LinkedHashMap<>();
+        for (ScheduleRow row : showtimeRepository.findScheduleRowsByMovie(movieId, LocalDateTime.now())) {
+            cinemaNames.putIfAbsent(row.cinemaId(), row.cinemaName());
+            tree.computeIfAbsent(row.cinemaId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.startTime().toLocalDate(), day -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.startTime().toLocalTime(), time -> new ArrayList<>())
+                    .add(new ScheduleScreenNode(row.screenId(), row.screenName(), row.showtimeId()));
+        }
+
+        List<ScheduleCinemaNode> cinemas = tree.entrySet().stream()
+                .map(cinema -> new ScheduleCinemaNode(
+                        cinema.getKey(),
+                        cinemaNames.get(cinema.getKey()),
+                        cinema.getValue().entrySet().stream()
+                                .map(day -> new ScheduleDateNode(
+                                        day.getKey(),
+                                        day.getValue().entrySet().stream()
+                                                .map(time -> new ScheduleTimeNode(time.getKey(), List.copyOf(time.getValue())))
+                                                .toList()
+                                ))
+                                .toList()
+                ))
+                .toList();
+        return new MovieScheduleResponse(movieId, cinemas);
+    }
+
     @Transactional(readOnly = true)
     public ShowtimeLayoutResponse getShowtimeSeatLayout(UUID movieId, UUID cinemaId, UUID screenId, LocalDateTime datetime) {
         LocalDateTime start = datetime.withNano(0);
         LocalDateTime end = start.plusSeconds(1);
         Showtime showtime = showtimeRepository.findShowtimeByMovieIdAndCinemaIdAndScreenIdAndStartTime(
-                        movieId, cinemaId, screenId, start, end
+                        movieId, cinemaId, screenId, start.toLocalDate(), start, end
                 ).orElseThrow(() -> new CinephileException("Showtime not found", HttpStatus.NOT_FOUND));
 
-        List<BookingSeat> bookingSeats = seatAvailabilityService.getShowtimeSeats(showtime.getId());
-        List<BookedSeatResponse> seatResponses = bookingSeats.stream()
-                .map(seat -> new BookedSeatResponse(
-                        seat.getId(),
-                        seat.getSeat().getRowNumber(),
-                        seat.getSeat().getColNumber(),
-                        seat.getSeat().getSeatNumber(),
-                        seat.getPrice(),
-                        seat.getStatus()
-                ))
-                .toList();
-        return new ShowtimeLayoutResponse(showtime.getId(), seatResponses);
+        return buildSeatLayout(showtime.getId(), showtime.getScreen().getId());
+    }
+
+    @Transactional(readOnly = true)
+    public ShowtimeLayoutResponse getShowtimeSeatLayout(UUID showtimeId) {
+        UUID screenId = showtimeRepository.findActiveScreenIdById(showtimeId)
+                .orElseThrow(() -> new CinephileException("Showtime not found", HttpStatus.NOT_FOUND));
+        return buildSeatLayout(showtimeId, screenId);
+    }
+
+    // merge the cached screen template with the per-showtime seat statuses
+    private ShowtimeLayoutResponse buildSeatLayout(UUID showtimeId, UUID screenId) {
+        SeatTemplate template = seatTemplateService.getTemplate(screenId);
+        // statuses indexed by the seat's ordinal in the template, which is also the response order
+        SeatStatusView[] statuses = new SeatStatusView[template.size()];
+        for (SeatStatusView status : seatAvailabilityService.getShowtimeSeatStatuses(showtimeId)) {
+            int ordinal = template.ordinalOf(status.seatId());
+            if (ordinal >= 0) {
+                statuses[ordinal] = status;
+            }
+        }
+
+        List<BookedSeatResponse> seatResponses = new ArrayList<>(template.size());
+        for (int ordinal = 0; ordinal < statuses.length; ordinal++) {
+            SeatStatusView status = statuses[ordinal];
+            if (status != null) {
+                seatResponses.add(new BookedSeatResponse(
+                        status.bookingSeatId(),
+                        template.rowNumber(ordinal),
+                        template.colNumber(ordinal),
+                        template.seatNumber(ordinal),
+                        status.price(),
+                        status.status()
+                ));
+            }
+        }
+        return new ShowtimeLayoutResponse(showtimeId, seatResponses);
     }
 
     @Transactional
@@ -162,10 +225,15 @@ public class ShowtimeService {
         showtime.setCinema(cinema);
         showtime.setStartTime(request.startTime());
         showtime.setEndTime(request.endTime());
-        showtimeRepository.save(showtime);
+        // flush so the batched seat inventory insert can reference the new row
+        showtimeRepository.saveAndFlush(showtime);
 
         // create seats (`booked_seats`) for the showtime based on the screen's seating arrangement
         seatAvailabilityService.initializeSeatsForShowtime(showtime, request.price());
+        eventPublisher.publishEvent(new ShowtimeChangedEvent(showtime.getId(), movie.getId(), cinema.getId()));
+        eventPublisher.publishEvent(new ShowtimesCreatedEvent(List.of(new ShowtimesCreatedEvent.CreatedShowtime(
+                showtime.getId(), movie.getId(), movie.getTitle(), cinema.getId(), cinema.getName(),
+                showtime.getStartTime()))));
 
         return new ShowtimeResponse(
                 showtime.getId(), movie.getTitle(), cinema.getName(),
@@ -206,6 +274,8 @@ public class ShowtimeService {
         showtime.setStartTime(startTime);
         showtime.setEndTime(endTime);
         showtimeRepository.save(showtime);
+        eventPublisher.publishEvent(new ShowtimeChangedEvent(
+                showtime.getId(), showtime.getMovie().getId(), showtime.getCinema().getId()));
 
         return new ShowtimeResponse(
                 showtime.getId(), showtime.getMovie().getTitle(), showtime.getCinema().getName(),
@@ -213,11 +283,39 @@ public class ShowtimeService {
         );
     }
 
+    // the showtime is withdrawn right away, its rows are deleted by a background job
     @Transactional
-    public void deleteShowtime(UUID showtimeId) {
+    public JobResponse deleteShowtime(UUID showtimeId) {
         Showtime showtime = showtimeRepository.findById(showtimeId)
                 .orElseThrow(() -> new CinephileException("Showtime not found", HttpStatus.NOT_FOUND));
-        seatAvailabilityService.deleteSeatsForShowtime(showtimeId);
-        showtimeRepository.delete(showtime);
+        if (bookingRepository.existsByShowtimeId(showtimeId)) {
+            throw new CinephileException("Showtime has bookings and cannot be deleted", HttpStatus.CONFLICT);
+        }
+        showtime.setActive(false);
+        showtimeRepository.save(showtime);
+        eventPublisher.publishEvent(new ShowtimeChangedEvent(
+                showtimeId, showtime.getMovie().getId(), showtime.getCinema().getId()));
+        return submitDelete(showtimeId);
+    }
+
+    // deletes cut short by a restart, the showtime is still withdrawn and its rows are still there
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedDeletes() {
+        for (UUID showtimeId : showtimeRepository.findInactiveIdsOnActiveScreens()) {
+            log.info("Resuming delete of showtime {}", showtimeId);
+            submitDelete(showtimeId);
+        }
+    }
+
+    private JobResponse submitDelete(UUID showtimeId) {
+        String id = showtimeId.toString();
+        return jobService.submit("DELETE_SHOWTIME", showtimeId, job -> {
+            // a booking that raced the withdrawal keeps every row, deleting its seats would leave it half gone
+            if (bookingRepository.existsByShowtimeId(showtimeId)) {
+                throw new CinephileException("Showtime was booked before it was withdrawn", HttpStatus.CONFLICT);
+            }
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM booking_seats WHERE showtime_id = ?", id);
+            chunkedDeleter.deleteInChunks(job, "DELETE FROM showtimes WHERE id = ?", id);
+        });
     }
 }
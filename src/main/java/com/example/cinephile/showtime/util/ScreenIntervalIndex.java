@@ -0,0 +1,34 @@
+package com.example.cinephile.showtime.util;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// occupied time slots per screen ordered by start time; slots on a screen never overlap (a conflicting
+// slot is never added), so only the last slot starting before a new interval ends can overlap it
+public class ScreenIntervalIndex {
+    private final Map<UUID, TreeMap<LocalDateTime, Slot>> screens = new HashMap<>();
+
+    // showtimeId is null for items of the current batch, requestIndex is -1 for already scheduled showtimes
+    public record Slot(LocalDateTime start, LocalDateTime end, UUID showtimeId, int requestIndex) {
+    }
+
+    public void add(UUID screenId, Slot slot) {
+        screens.computeIfAbsent(screenId, id -> new TreeMap<>()).put(slot.start(), slot);
+    }
+
+    public Optional<Slot> findOverlap(UUID screenId, LocalDateTime start, LocalDateTime end) {
+        TreeMap<LocalDateTime, Slot> slots = screens.get(screenId);
+        if (slots == null) {
+            return Optional.empty();
+        }
+        Map.Entry<LocalDateTime, Slot> candidate = slots.lowerEntry(end);
+        if (candidate != null && candidate.getValue().end().isAfter(start)) {
+            return Optional.of(candidate.getValue());
+        }
+        return Optional.empty();
+    }
+}
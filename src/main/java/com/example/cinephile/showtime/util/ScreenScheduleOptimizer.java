@@ -0,0 +1,231 @@
+package com.example.cinephile.showtime.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// packs film screenings into free screen windows; every extra screening of a film on the same day is worth
+// less (weight / n for the n-th), so the optimum spreads demand instead of repeating the best film everywhere.
+// a greedy pass fills windows by marginal value per minute, then local search swaps films and refills
+public class ScreenScheduleOptimizer {
+    private static final int MAX_ROUNDS = 50;
+
+    private final List<Film> films;
+    private final int granularityMinutes;
+    private final int[] blocks; // runtime + cleaning, rounded up so every start lands on the granularity
+    private final int shortestRuntime;
+
+    // runtime and cleaning in minutes; weight is the value of the first screening of the day
+    public record Film(int runtimeMinutes, double weight) {
+    }
+
+    // free time on one screen for one day, in minutes from that day's midnight (may run past 24:00)
+    public record Window(int screen, int day, int startMinute, int endMinute) {
+    }
+
+    public record Placement(int window, int film, int startMinute) {
+    }
+
+    public record Result(List<Placement> placements, double value, int improvingMoves) {
+    }
+
+    public ScreenScheduleOptimizer(List<Film> films, int cleaningMinutes, int granularityMinutes) {
+        if (films.isEmpty()) {
+            throw new IllegalArgumentException("At least one film is required");
+        }
+        this.films = List.copyOf(films);
+        this.granularityMinutes = granularityMinutes;
+        this.blocks = new int[films.size()];
+        int shortest = Integer.MAX_VALUE;
+        for (int f = 0; f < films.size(); f++) {
+            blocks[f] = roundUp(films.get(f).runtimeMinutes() + cleaningMinutes);
+            shortest = Math.min(shortest, films.get(f).runtimeMinutes());
+        }
+        this.shortestRuntime = shortest;
+    }
+
+    public Result optimize(List<Window> windows, int days) {
+        State state = new State(windows, days);
+        for (int day = 0; day < days; day++) {
+            greedyFill(state, day);
+        }
+        int moves = 0;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            int improved = improve(state);
+            if (improved == 0) {
+                break;
+            }
+            moves += improved;
+        }
+        return new Result(state.placements(), state.value(), moves);
+    }
+
+    // repeatedly add the (window, film) pair with the best marginal value per minute until nothing fits
+    private void greedyFill(State state, int day) {
+        List<Integer> dayWindows = state.windowsByDay.get(day);
+        while (true) {
+            int bestWindow = -1;
+            int bestFilm = -1;
+            double bestScore = 0;
+            for (int w : dayWindows) {
+                for (int f = 0; f < films.size(); f++) {
+                    if (!state.fitsAdding(w, f)) {
+                        continue;
+                    }
+                    double score = state.marginalGain(day, f) / blocks[f];
+                    if (score > bestScore) {
+                        bestScore = score;
+                        bestWindow = w;
+                        bestFilm = f;
+                    }
+                }
+            }
+            if (bestWindow < 0) {
+                return;
+            }
+            state.add(bestWindow, bestFilm);
+        }
+    }
+
+    // one sweep of first-improvement replacements, then refill any room the swaps opened up
+    private int improve(State state) {
+        int improved = 0;
+        for (int w = 0; w < state.windows.size(); w++) {
+            int day = state.windows.get(w).day();
+            List<Integer> slots = state.slots.get(w);
+            for (int s = 0; s < slots.size(); s++) {
+                int current = slots.get(s);
+                int bestFilm = -1;
+                double bestDelta = 1e-9;
+                for (int f = 0; f < films.size(); f++) {
+                    if (f == current || !state.fitsReplacing(w, s, f)) {
+                        continue;
+                    }
+                    double delta = state.marginalGain(day, f) - state.marginalLoss(day, current);
+                    // prefer shorter films on ties, they leave room for the refill
+                    if (delta > bestDelta || (bestFilm >= 0 && delta == bestDelta && blocks[f] < blocks[bestFilm])) {
+                        bestDelta = delta;
+                        bestFilm = f;
+                    }
+                }
+                if (bestFilm >= 0) {
+                    state.replace(w, s, bestFilm);
+                    improved++;
+                }
+            }
+        }
+        for (int day = 0; day < state.windowsByDay.size(); day++) {
+            double before = state.value();
+            greedyFill(state, day);
+            if (state.value() > before) {
+                improved++;
+            }
+        }
+        return improved;
+    }
+
+    private int roundUp(int minutes) {
+        return (minutes + granularityMinutes - 1) / granularityMinutes * granularityMinutes;
+    }
+
+    private final class State {
+        private final List<Window> windows;
+        private final List<List<Integer>> windowsByDay = new ArrayList<>();
+        private final List<List<Integer>> slots = new ArrayList<>();
+        private final int[] usedBlocks; // sum of blocks per window
+        private final int[][] counts; // screenings per day and film
+
+        private State(List<Window> windows, int days) {
+            this.windows = windows;
+            for (int day = 0; day < days; day++) {
+                windowsByDay.add(new ArrayList<>());
+            }
+            for (int w = 0; w < windows.size(); w++) {
+                slots.add(new ArrayList<>());
+                Window window = windows.get(w);
+                if (window.endMinute() - window.startMinute() >= shortestRuntime) {
+                    windowsByDay.get(window.day()).add(w);
+                }
+            }
+            this.usedBlocks = new int[windows.size()];
+            this.counts = new int[days][films.size()];
+        }
+
+        // the last screening of a window does not need its cleaning buffer or rounding before closing
+        private boolean fits(int window, int sumBlocks, int maxSlack) {
+            Window w = windows.get(window);
+            return sumBlocks - maxSlack <= w.endMinute() - w.startMinute();
+        }
+
+        private int maxSlack(List<Integer> filmIds, int extraFilm, int skipIndex) {
+            int slack = extraFilm >= 0 ? blocks[extraFilm] - films.get(extraFilm).runtimeMinutes() : 0;
+            for (int i = 0; i < filmIds.size(); i++) {
+                if (i != skipIndex) {
+                    int f = filmIds.get(i);
+                    slack = Math.max(slack, blocks[f] - films.get(f).runtimeMinutes());
+                }
+            }
+            return slack;
+        }
+
+        private boolean fitsAdding(int window, int film) {
+            return fits(window, usedBlocks[window] + blocks[film], maxSlack(slots.get(window), film, -1));
+        }
+
+        private boolean fitsReplacing(int window, int index, int film) {
+            List<Integer> filmIds = slots.get(window);
+            int sum = usedBlocks[window] - blocks[filmIds.get(index)] + blocks[film];
+            return fits(window, sum, maxSlack(filmIds, film, index));
+        }
+
+        private double marginalGain(int day, int film) {
+            return films.get(film).weight() / (counts[day][film] + 1);
+        }
+
+        private double marginalLoss(int day, int film) {
+            return films.get(film).weight() / counts[day][film];
+        }
+
+        private void add(int window, int film) {
+            slots.get(window).add(film);
+            usedBlocks[window] += blocks[film];
+            counts[windows.get(window).day()][film]++;
+        }
+
+        private void replace(int window, int index, int film) {
+            int day = windows.get(window).day();
+            int previous = slots.get(window).set(index, film);
+            usedBlocks[window] += blocks[film] - blocks[previous];
+            counts[day][previous]--;
+            counts[day][film]++;
+        }
+
+        private double value() {
+            double value = 0;
+            for (int[] day : counts) {
+                for (int f = 0; f < day.length; f++) {
+                    for (int n = 1; n <= day[f]; n++) {
+                        value += films.get(f).weight() / n;
+                    }
+                }
+            }
+            return value;
+        }
+
+        // the film with the largest slack goes last, so its buffer is the one absorbed by closing time
+        private List<Placement> placements() {
+            List<Placement> placements = new ArrayList<>();
+            for (int w = 0; w < windows.size(); w++) {
+                Integer[] ordered = slots.get(w).toArray(Integer[]::new);
+                Arrays.sort(ordered, Comparator.comparingInt(f -> blocks[f] - films.get(f).runtimeMinutes()));
+                int start = windows.get(w).startMinute();
+                for (int film : ordered) {
+                    placements.add(new Placement(w, film, start));
+                    start += blocks[film];
+                }
+            }
+            return placements;
+        }
+    }
+}
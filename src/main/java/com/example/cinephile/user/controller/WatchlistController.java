@@ -0,0 +1,39 @@
+package com.example.cinephile.user.controller;
+
+import com.example.cinephile.user.dto.WatchlistItem;
+import com.example.cinephile.user.service.WatchlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/users/me/watchlist")
+@RequiredArgsConstructor
+public class WatchlistController {
+    private final WatchlistService watchlistService;
+
+    @GetMapping
+    public ResponseEntity<Page<WatchlistItem>> getWatchlist(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        page = Math.max(page, 0);
+        size = size < 0 ? 20 : Math.min(size, 20);
+        return ResponseEntity.ok(watchlistService.getWatchlist(PageRequest.of(page, size)));
+    }
+
+    @PutMapping("/{movieId}")
+    public ResponseEntity<?> addToWatchlist(@PathVariable UUID movieId) {
+        watchlistService.addToWatchlist(movieId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{movieId}")
+    public ResponseEntity<?> removeFromWatchlist(@PathVariable UUID movieId) {
+        watchlistService.removeFromWatchlist(movieId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.cinephile.user.dto;
+
+import java.util.UUID;
+
+public record Watcher(UUID userId, String email) {
+}
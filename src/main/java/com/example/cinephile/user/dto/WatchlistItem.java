@@ -0,0 +1,12 @@
+package com.example.cinephile.user.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record WatchlistItem(UUID movieId,
+                            String title,
+                            String posterUrl,
+                            Integer year,
+                            Double rating,
+                            LocalDateTime addedAt
+) {}
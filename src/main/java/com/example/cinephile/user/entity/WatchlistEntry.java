@@ -0,0 +1,40 @@
+package com.example.cinephile.user.entity;
+
+import com.example.cinephile.movie.entity.Movie;
+import com.fasterxml.uuid.Generators;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "movie_lists")
+@Getter @Setter
+public class WatchlistEntry {
+    @Id
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "movie_id")
+    private Movie movie;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (id == null) {
+            id = Generators.timeBasedEpochGenerator().generate();
+        }
+        createdAt = LocalDateTime.now();
+    }
+}
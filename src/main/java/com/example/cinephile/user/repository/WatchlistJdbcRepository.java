@@ -0,0 +1,30 @@
+package com.example.cinephile.user.repository;
+
+import com.example.cinephile.user.dto.Watcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class WatchlistJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // one page of a movie's enabled watchers after the given user id; the (movie_id, user_id) index serves both
+    // the filter and the order, so each page is a short range scan however many people watch the movie
+    public List<Watcher> findWatchers(UUID movieId, UUID afterUserId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT ml.user_id, u.email
+                FROM movie_lists ml
+                JOIN users u ON u.id = ml.user_id
+                WHERE ml.movie_id = ? AND ml.user_id > ? AND u.enabled = TRUE
+                ORDER BY ml.user_id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new Watcher(UUID.fromString(rs.getString("user_id")), rs.getString("email")),
+                movieId.toString(), afterUserId != null ? afterUserId.toString() : "", limit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.cinephile.user.repository;
+
+import com.example.cinephile.user.dto.WatchlistItem;
+import com.example.cinephile.user.entity.WatchlistEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface WatchlistRepository extends JpaRepository<WatchlistEntry, UUID> {
+    boolean existsByUserIdAndMovieId(UUID userId, UUID movieId);
+
+    @Query(value = """
+            SELECT new com.example.cinephile.user.dto.WatchlistItem(
+                m.id, m.title, m.posterUrl, m.year, m.rating, w.createdAt)
+            FROM WatchlistEntry w JOIN w.movie m
+            WHERE w.user.id = :userId
+            ORDER BY w.createdAt DESC, w.id DESC
+            """,
+            countQuery = "SELECT COUNT(w) FROM WatchlistEntry w WHERE w.user.id = :userId")
+    Page<WatchlistItem> findItemsByUserId(UUID userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM WatchlistEntry w WHERE w.user.id = :userId AND w.movie.id = :movieId")
+    int deleteByUserIdAndMovieId(UUID userId, UUID movieId);
+}
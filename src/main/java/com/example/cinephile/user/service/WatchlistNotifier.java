@@ -0,0 +1,79 @@
+package com.example.cinephile.user.service;
+
+import com.example.cinephile.auth.service.EmailService;
+import com.example.cinephile.common.job.Job;
+import com.example.cinephile.common.job.JobService;
+import com.example.cinephile.showtime.dto.MovieAtCinema;
+import com.example.cinephile.showtime.event.ShowtimesCreatedEvent;
+import com.example.cinephile.showtime.repository.ShowtimeJdbcRepository;
+import com.example.cinephile.user.dto.Watcher;
+import com.example.cinephile.user.repository.WatchlistJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// tells watchers that a movie got its first showtime at a cinema, whichever path scheduled it. the work runs as a
+// background job that only starts after the scheduling transaction commits, so the manager's request never waits
+// on the mail server
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WatchlistNotifier {
+    private static final String JOB_TYPE = "WATCHLIST_NOTIFY";
+
+    private final WatchlistJdbcRepository watchlistJdbcRepository;
+    private final ShowtimeJdbcRepository showtimeJdbcRepository;
+    private final EmailService emailService;
+    private final JobService jobService;
+
+    @Value("${cinephile.watchlist.notify-batch-size:100}")
+    private int batchSize;
+
+    // runs inside the creating transaction, so the new rows are already counted. a pair is new to the cinema when
+    // every one of its showtimes belongs to this batch, and watchers hear about the earliest of them
+    @EventListener
+    public void onShowtimesCreated(ShowtimesCreatedEvent event) {
+        Map<MovieAtCinema, ShowtimesCreatedEvent.CreatedShowtime> earliest = new HashMap<>();
+        Map<MovieAtCinema, Long> created = new HashMap<>();
+        for (ShowtimesCreatedEvent.CreatedShowtime showtime : event.showtimes()) {
+            MovieAtCinema pair = new MovieAtCinema(showtime.movieId(), showtime.cinemaId());
+            earliest.merge(pair, showtime, (a, b) -> b.startTime().isBefore(a.startTime()) ? b : a);
+            created.merge(pair, 1L, Long::sum);
+        }
+        showtimeJdbcRepository.countByMovieAndCinema(created.keySet()).forEach((pair, total) -> {
+            if (total.equals(created.get(pair))) {
+                ShowtimesCreatedEvent.CreatedShowtime first = earliest.get(pair);
+                movieScheduledAtCinema(first.movieId(), first.movieTitle(), first.cinemaName(), first.startTime());
+            }
+        });
+    }
+
+    private void movieScheduledAtCinema(UUID movieId, String movieTitle, String cinemaName, LocalDateTime startTime) {
+        jobService.submit(JOB_TYPE, movieId, job -> notifyWatchers(job, movieId, movieTitle, cinemaName, startTime));
+    }
+
+    // one mail per batch of watchers, each addressed in bcc
+    private void notifyWatchers(Job job, UUID movieId, String movieTitle, String cinemaName, LocalDateTime startTime) {
+        UUID after = null;
+        List<Watcher> watchers;
+        do {
+            watchers = watchlistJdbcRepository.findWatchers(movieId, after, batchSize);
+            if (watchers.isEmpty()) {
+                break;
+            }
+            emailService.sendShowtimeAnnouncementEmail(
+                    watchers.stream().map(Watcher::email).toList(), movieTitle, cinemaName, startTime);
+            job.addProcessedRows(watchers.size());
+            after = watchers.getLast().userId();
+        } while (watchers.size() == batchSize);
+        log.info("Notified {} watchers of {} at {}", job.getProcessedRows().get(), movieTitle, cinemaName);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.cinephile.user.service;
+
+import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.common.exception.CinephileException;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.user.dto.WatchlistItem;
+import com.example.cinephile.user.entity.User;
+import com.example.cinephile.user.entity.WatchlistEntry;
+import com.example.cinephile.user.repository.WatchlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class WatchlistService {
+    private final WatchlistRepository watchlistRepository;
+    private final MovieRepository movieRepository;
+
+    @Transactional(readOnly = true)
+    public Page<WatchlistItem> getWatchlist(Pageable pageable) {
+        return watchlistRepository.findItemsByUserId(currentUser().getId(), pageable);
+    }
+
+    // adding a movie that is already on the list is a no-op
+    @Transactional
+    public void addToWatchlist(UUID movieId) {
+        User user = currentUser();
+        if (!movieRepository.existsById(movieId)) {
+            throw new CinephileException("Movie not found", HttpStatus.NOT_FOUND);
+        }
+        if (watchlistRepository.existsByUserIdAndMovieId(user.getId(), movieId)) {
+            return;
+        }
+        WatchlistEntry entry = new WatchlistEntry();
+        entry.setUser(user);
+        entry.setMovie(movieRepository.getReferenceById(movieId));
+        watchlistRepository.save(entry);
+    }
+
+    @Transactional
+    public void removeFromWatchlist(UUID movieId) {
+        if (watchlistRepository.deleteByUserIdAndMovieId(currentUser().getId(), movieId) == 0) {
+            throw new CinephileException("Movie is not on the watchlist", HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private static User currentUser() {
+        AuthUser authUser = (AuthUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return authUser.getUser();
+    }
+}
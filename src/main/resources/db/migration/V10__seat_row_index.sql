@@ -0,0 +1,11 @@
+-- rows are labelled A..Z, AA, AB, ... past 26 rows, so the label alone no longer sorts. row_index is the
+-- row's position from the front (A = 1, AA = 27)
+ALTER TABLE `seats` ADD COLUMN `row_index` INT NOT NULL DEFAULT 0 AFTER `row_num`;
+
+UPDATE `seats`
+SET `row_index` = CASE CHAR_LENGTH(`row_num`)
+                      WHEN 1 THEN ASCII(UPPER(`row_num`)) - 64
+                      ELSE (ASCII(UPPER(`row_num`)) - 64) * 26 + ASCII(UPPER(SUBSTRING(`row_num`, 2, 1))) - 64
+                  END;
+
+CREATE INDEX `idx_seats_screen_row_col` ON `seats` (`screen_id`, `row_index`, `col_num`);
@@ -0,0 +1,2 @@
+-- Lets the manager dashboard range-scan a cinema's showtimes by day instead of walking its whole history
+CREATE INDEX `idx_showtimes_cinema_date` ON `showtimes` (`cinema_id`, `show_date`);
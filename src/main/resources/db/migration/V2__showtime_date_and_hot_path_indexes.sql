@@ -0,0 +1,14 @@
+-- Stored copy of DATE(start_time) so day lookups can use an index instead of wrapping start_time in a function
+ALTER TABLE `showtimes`
+    ADD COLUMN `show_date` DATE AS (DATE(`start_time`)) STORED AFTER `end_time`;
+
+CREATE INDEX `idx_showtimes_movie_cinema_date` ON `showtimes` (`movie_id`, `cinema_id`, `show_date`, `start_time`);
+
+-- Seat availability per showtime (layout, counts, stats)
+CREATE INDEX `idx_booking_seats_showtime_status` ON `booking_seats` (`showtime_id`, `status`);
+
+-- Expired pending bookings cleanup
+CREATE INDEX `idx_bookings_status_expires` ON `bookings` (`status`, `expires_at`);
+
+-- User booking history
+CREATE INDEX `idx_bookings_user_created` ON `bookings` (`user_id`, `created_at`);
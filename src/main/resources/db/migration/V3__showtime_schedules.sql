@@ -0,0 +1,24 @@
+-- Recurring showtime templates, materialized into `showtimes` for a rolling window of days ahead
+CREATE TABLE `showtime_schedules` (
+    `id` VARCHAR(255) PRIMARY KEY,
+    `cinema_id` VARCHAR(255) NOT NULL,
+    `screen_id` VARCHAR(255) NOT NULL,
+    `movie_id` VARCHAR(255) NOT NULL,
+    `start_date` DATE NOT NULL,
+    `end_date` DATE NOT NULL,
+    `show_times` VARCHAR(255) NOT NULL, -- e.g., "13:00,16:00,19:00"
+    `price` DECIMAL(5, 2) NOT NULL,
+    `materialized_until` DATE NULL, -- last day whose showtimes were created
+    `is_active` BOOLEAN DEFAULT TRUE,
+    `created_at` DATETIME,
+    `updated_at` DATETIME,
+
+    CONSTRAINT `ss_cinema_FK` FOREIGN KEY (`cinema_id`) REFERENCES `cinemas`(`id`),
+    CONSTRAINT `ss_screen_FK` FOREIGN KEY (`screen_id`) REFERENCES `screens`(`id`),
+    CONSTRAINT `ss_movie_FK` FOREIGN KEY (`movie_id`) REFERENCES `movies`(`id`),
+    INDEX `idx_schedules_active_materialized` (`is_active`, `materialized_until`)
+);
+
+ALTER TABLE `showtimes`
+    ADD COLUMN `schedule_id` VARCHAR(255) NULL AFTER `movie_id`,
+    ADD CONSTRAINT `st_schedule_FK` FOREIGN KEY (`schedule_id`) REFERENCES `showtime_schedules`(`id`);
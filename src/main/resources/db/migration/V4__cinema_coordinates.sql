@@ -0,0 +1,4 @@
+-- Optional coordinates for nearest-cinema search, served from an in-memory grid index
+ALTER TABLE `cinemas`
+    ADD COLUMN `latitude` DOUBLE NULL,
+    ADD COLUMN `longitude` DOUBLE NULL;
@@ -0,0 +1,120 @@
+-- Genres, people, languages and countries normalized out of the comma separated movie columns.
+-- The columns stay as the display values; these tables are the ones to join, filter and count on
+CREATE TABLE `genres` (
+    `id` INT AUTO_INCREMENT PRIMARY KEY,
+    `name` VARCHAR(255) NOT NULL,
+    UNIQUE KEY `uk_genres_name` (`name`)
+);
+
+CREATE TABLE `people` (
+    `id` INT AUTO_INCREMENT PRIMARY KEY,
+    `name` VARCHAR(255) NOT NULL,
+    UNIQUE KEY `uk_people_name` (`name`)
+);
+
+CREATE TABLE `languages` (
+    `id` INT AUTO_INCREMENT PRIMARY KEY,
+    `name` VARCHAR(255) NOT NULL,
+    UNIQUE KEY `uk_languages_name` (`name`)
+);
+
+CREATE TABLE `countries` (
+    `id` INT AUTO_INCREMENT PRIMARY KEY,
+    `name` VARCHAR(255) NOT NULL,
+    UNIQUE KEY `uk_countries_name` (`name`)
+);
+
+CREATE TABLE `movie_genres` (
+    `movie_id` VARCHAR(255) NOT NULL,
+    `genre_id` INT NOT NULL,
+    PRIMARY KEY (`movie_id`, `genre_id`),
+    INDEX `idx_movie_genres_genre` (`genre_id`, `movie_id`),
+    CONSTRAINT `mg_movie_FK` FOREIGN KEY (`movie_id`) REFERENCES `movies`(`id`) ON DELETE CASCADE,
+    CONSTRAINT `mg_genre_FK` FOREIGN KEY (`genre_id`) REFERENCES `genres`(`id`)
+);
+
+CREATE TABLE `movie_people` (
+    `movie_id` VARCHAR(255) NOT NULL,
+    `person_id` INT NOT NULL,
+    `role` VARCHAR(20) NOT NULL, -- ACTOR, DIRECTOR or WRITER
+    `position` INT NOT NULL, -- billing order within the role, from 1
+    PRIMARY KEY (`movie_id`, `role`, `person_id`),
+    INDEX `idx_movie_people_person` (`person_id`, `role`, `movie_id`),
+    CONSTRAINT `mp_movie_FK` FOREIGN KEY (`movie_id`) REFERENCES `movies`(`id`) ON DELETE CASCADE,
+    CONSTRAINT `mp_person_FK` FOREIGN KEY (`person_id`) REFERENCES `people`(`id`)
+);
+
+CREATE TABLE `movie_languages` (
+    `movie_id` VARCHAR(255) NOT NULL,
+    `language_id` INT NOT NULL,
+    PRIMARY KEY (`movie_id`, `language_id`),
+    INDEX `idx_movie_languages_language` (`language_id`, `movie_id`),
+    CONSTRAINT `mla_movie_FK` FOREIGN KEY (`movie_id`) REFERENCES `movies`(`id`) ON DELETE CASCADE,
+    CONSTRAINT `mla_language_FK` FOREIGN KEY (`language_id`) REFERENCES `languages`(`id`)
+);
+
+CREATE TABLE `movie_countries` (
+    `movie_id` VARCHAR(255) NOT NULL,
+    `country_id` INT NOT NULL,
+    PRIMARY KEY (`movie_id`, `country_id`),
+    INDEX `idx_movie_countries_country` (`country_id`, `movie_id`),
+    CONSTRAINT `mco_movie_FK` FOREIGN KEY (`movie_id`) REFERENCES `movies`(`id`) ON DELETE CASCADE,
+    CONSTRAINT `mco_country_FK` FOREIGN KEY (`country_id`) REFERENCES `countries`(`id`)
+);
+
+-- Backfill: split every list column once into a scratch table, then fill lookups and join tables from it
+CREATE TABLE `movie_attribute_backfill` (
+    `movie_id` VARCHAR(255) NOT NULL,
+    `kind` VARCHAR(20) NOT NULL,
+    `position` INT NOT NULL,
+    `value` VARCHAR(255) NOT NULL,
+    INDEX `idx_backfill_kind_value` (`kind`, `value`)
+);
+
+INSERT INTO `movie_attribute_backfill` (`movie_id`, `kind`, `position`, `value`)
+WITH RECURSIVE `source` AS (
+    SELECT `id`, 'GENRE' AS `kind`, `genre` AS `list` FROM `movies`
+    UNION ALL SELECT `id`, 'ACTOR', `actors` FROM `movies`
+    UNION ALL SELECT `id`, 'DIRECTOR', `director` FROM `movies`
+    UNION ALL SELECT `id`, 'WRITER', `writer` FROM `movies`
+    UNION ALL SELECT `id`, 'LANGUAGE', `language` FROM `movies`
+    UNION ALL SELECT `id`, 'COUNTRY', `country` FROM `movies`
+), `split` AS (
+    SELECT `id`, `kind`, 1 AS `position`,
+           TRIM(SUBSTRING_INDEX(`list`, ',', 1)) AS `value`,
+           SUBSTRING(`list`, CHAR_LENGTH(SUBSTRING_INDEX(`list`, ',', 1)) + 2) AS `rest`
+    FROM `source`
+    WHERE `list` IS NOT NULL
+    UNION ALL
+    SELECT `id`, `kind`, `position` + 1,
+           TRIM(SUBSTRING_INDEX(`rest`, ',', 1)),
+           SUBSTRING(`rest`, CHAR_LENGTH(SUBSTRING_INDEX(`rest`, ',', 1)) + 2)
+    FROM `split`
+    WHERE `rest` <> ''
+)
+SELECT `id`, `kind`, `position`, `value` FROM `split` WHERE `value` <> '';
+
+INSERT IGNORE INTO `genres` (`name`)
+SELECT DISTINCT `value` FROM `movie_attribute_backfill` WHERE `kind` = 'GENRE';
+INSERT IGNORE INTO `people` (`name`)
+SELECT DISTINCT `value` FROM `movie_attribute_backfill` WHERE `kind` IN ('ACTOR', 'DIRECTOR', 'WRITER');
+INSERT IGNORE INTO `languages` (`name`)
+SELECT DISTINCT `value` FROM `movie_attribute_backfill` WHERE `kind` = 'LANGUAGE';
+INSERT IGNORE INTO `countries` (`name`)
+SELECT DISTINCT `value` FROM `movie_attribute_backfill` WHERE `kind` = 'COUNTRY';
+
+-- IGNORE drops a value repeated within one movie's list, the first position wins
+INSERT IGNORE INTO `movie_genres` (`movie_id`, `genre_id`)
+SELECT b.`movie_id`, g.`id` FROM `movie_attribute_backfill` b JOIN `genres` g ON g.`name` = b.`value`
+WHERE b.`kind` = 'GENRE' ORDER BY b.`movie_id`, b.`position`;
+INSERT IGNORE INTO `movie_people` (`movie_id`, `person_id`, `role`, `position`)
+SELECT b.`movie_id`, p.`id`, b.`kind`, b.`position` FROM `movie_attribute_backfill` b JOIN `people` p ON p.`name` = b.`value`
+WHERE b.`kind` IN ('ACTOR', 'DIRECTOR', 'WRITER') ORDER BY b.`movie_id`, b.`kind`, b.`position`;
+INSERT IGNORE INTO `movie_languages` (`movie_id`, `language_id`)
+SELECT b.`movie_id`, l.`id` FROM `movie_attribute_backfill` b JOIN `languages` l ON l.`name` = b.`value`
+WHERE b.`kind` = 'LANGUAGE' ORDER BY b.`movie_id`, b.`position`;
+INSERT IGNORE INTO `movie_countries` (`movie_id`, `country_id`)
+SELECT b.`movie_id`, c.`id` FROM `movie_attribute_backfill` b JOIN `countries` c ON c.`name` = b.`value`
+WHERE b.`kind` = 'COUNTRY' ORDER BY b.`movie_id`, b.`position`;
+
+DROP TABLE `movie_attribute_backfill`;
@@ -0,0 +1,18 @@
+-- Bulk catalog imports; the counters are committed together with each inserted batch, so an interrupted
+-- import resumes after the last committed record
+CREATE TABLE `movie_imports` (
+    `id` VARCHAR(255) PRIMARY KEY,
+    `file_name` VARCHAR(255) NOT NULL, -- as uploaded
+    `file_path` VARCHAR(1024) NOT NULL, -- server-side copy, removed once completed
+    `format` VARCHAR(10) NOT NULL, -- JSON or TSV
+    `status` VARCHAR(20) NOT NULL, -- PENDING, RUNNING, COMPLETED or FAILED
+    `records_read` BIGINT NOT NULL DEFAULT 0,
+    `imported` BIGINT NOT NULL DEFAULT 0,
+    `duplicates` BIGINT NOT NULL DEFAULT 0, -- imdb_id already in the catalog or earlier in the file
+    `skipped` BIGINT NOT NULL DEFAULT 0, -- invalid or filtered records
+    `error` VARCHAR(1024) NULL,
+    `created_at` DATETIME,
+    `updated_at` DATETIME,
+
+    INDEX `idx_movie_imports_status` (`status`)
+);
@@ -0,0 +1,16 @@
+-- Watchlists on the movie_lists table. The old unique key (id, movie_id) did not stop a user from adding the
+-- same movie twice; uniqueness is now per (user_id, movie_id), and (movie_id, user_id) lets the showtime
+-- notifier page through a movie's watchers on the index alone. Entries go away with their user or movie
+ALTER TABLE `movie_lists`
+    DROP FOREIGN KEY `ml_user_FK`,
+    DROP FOREIGN KEY `ml_movie_FK`;
+
+ALTER TABLE `movie_lists`
+    DROP INDEX `unique_user_movie`,
+    DROP INDEX `ml_user_FK`,
+    DROP INDEX `ml_movie_FK`,
+    ADD COLUMN `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD UNIQUE KEY `uk_movie_lists_user_movie` (`user_id`, `movie_id`),
+    ADD INDEX `idx_movie_lists_movie_user` (`movie_id`, `user_id`),
+    ADD CONSTRAINT `ml_user_FK` FOREIGN KEY (`user_id`) REFERENCES `users`(`id`) ON DELETE CASCADE,
+    ADD CONSTRAINT `ml_movie_FK` FOREIGN KEY (`movie_id`) REFERENCES `movies`(`id`) ON DELETE CASCADE;
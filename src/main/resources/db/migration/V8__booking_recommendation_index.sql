@@ -0,0 +1,2 @@
+-- Lets the similar-movies batch read confirmed bookings grouped by user straight off an index, without a sort
+CREATE INDEX `idx_bookings_status_user` ON `bookings` (`status`, `user_id`, `showtime_id`);
@@ -0,0 +1,2 @@
+-- Lets the trending counters replay the last day of confirmations at startup with a range scan
+CREATE INDEX `idx_bookings_status_confirmed` ON `bookings` (`status`, `confirmed_at`);
@@ -17,7 +17,14 @@ import com.example.cinephile.cinema.repository.CinemaRepository;
 import com.example.cinephile.cinema.repository.ScreenRepository;
 import com.example.cinephile.cinema.repository.SeatRepository;
 import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.dto.MovieCard;
+import com.example.cinephile.movie.dto.TrendingMovie;
+import com.example.cinephile.movie.dto.TrendingWindow;
+import com.example.cinephile.movie.repository.MovieJdbcRepository;
 import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.movie.search.MovieSearchIndex;
+import com.example.cinephile.movie.search.SimilarMoviesIndex;
+import com.example.cinephile.movie.search.TrendingMoviesIndex;
 import com.example.cinephile.showtime.entity.Showtime;
 import com.example.cinephile.showtime.repository.ShowtimeRepository;
 import com.example.cinephile.user.entity.Role;
@@ -69,6 +76,9 @@ class BookingControllerIntegrationTest {
     @Autowired
     private MovieRepository movieRepository;
 
+    @Autowired
+    private MovieJdbcRepository movieJdbcRepository;
+
     @Autowired
     private CinemaRepository cinemaRepository;
 
@@ -81,6 +91,12 @@ class BookingControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MovieSearchIndex movieSearchIndex;
+
+    @Autowired
+    private SimilarMoviesIndex similarMoviesIndex;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -135,7 +151,7 @@ class BookingControllerIntegrationTest {
 
         testSeat = new Seat();
         testSeat.setColNumber(1);
-        testSeat.setRowNumber('A');
+        testSeat.setRowNumber("A");
         testSeat.setSeatNumber("A1");
         testSeat.setType(SeatType.STANDARD);
         testSeat.setScreen(testScreen);
@@ -192,6 +208,42 @@ class BookingControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @Test
+    void createBooking_ForWithdrawnShowtime_ShouldReturnConflict() {
+        testShowtime.setActive(false);
+        showtimeRepository.save(testShowtime);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/" + testShowtime.getId(),
+                HttpMethod.POST,
+                new HttpEntity<>(createAuthHeaders(testUserToken)),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(bookingRepository.existsByShowtimeId(testShowtime.getId())).isFalse();
+    }
+
+    @Test
+    void lockSeat_InWithdrawnScreen_ShouldReturnConflict() {
+        Booking booking = createTestBooking(testUser);
+        BookingSeat bookingSeat = createAvailableBookedSeat();
+        testScreen.setActive(false);
+        screenRepository.save(testScreen);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/" + booking.getId() + "/lock-seat",
+                HttpMethod.POST,
+                new HttpEntity<>(new SeatRequest(bookingSeat.getId(), testShowtime.getId()),
+                        createAuthHeaders(testUserToken)),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(bookingSeatRepository.findById(bookingSeat.getId()).orElseThrow().getStatus())
+                .isEqualTo(SeatStatus.AVAILABLE);
+    }
+
     @Test
     void lockSeat_WithValidRequest_ShouldReturnOk() throws Exception {
         Booking booking = createTestBooking(testUser);
@@ -518,6 +570,65 @@ class BookingControllerIntegrationTest {
         assertThat(bookingsWithSeats).isEqualTo(1);
     }
 
+    @Test
+    void similarMovies_ShouldRankMoviesBookedByTheSameUsers() {
+        Movie alsoBooked = movieRepository.save(createTestMovie("Also Booked", "Drama", "PG", 7.0));
+        Movie onceBooked = movieRepository.save(createTestMovie("Once Booked", "Drama", "PG", 9.0));
+        Showtime alsoBookedShowtime = createTestShowtime(alsoBooked, 2);
+        Showtime onceBookedShowtime = createTestShowtime(onceBooked, 3);
+        for (int i = 0; i < 3; i++) {
+            User fan = userRepository.save(createTestUser("fan" + i + "@test.com", "Fan " + i, Role.USER));
+            createConfirmedBooking(fan, testShowtime);
+            createConfirmedBooking(fan, i < 2 ? alsoBookedShowtime : onceBookedShowtime);
+        }
+        movieSearchIndex.rebuild();
+        similarMoviesIndex.rebuild();
+
+        ResponseEntity<MovieCard[]> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/movies/" + testMovie.getId() + "/similar", MovieCard[].class);
+
+        // a single shared booker is below the co-booking threshold
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(MovieCard::title).containsExactly("Also Booked");
+    }
+
+    @Test
+    void trendingMovies_ShouldCountSeatsOfConfirmedBookings() {
+        Booking booking = createTestBooking(testUser);
+        createHeldBookedSeat(booking);
+        movieSearchIndex.rebuild();
+
+        restTemplate.exchange(baseUrl + "/" + booking.getId() + "/confirm", HttpMethod.POST,
+                new HttpEntity<>(createAuthHeaders(testUserToken)), BookingConfirmResponse.class);
+        ResponseEntity<TrendingMovie[]> response = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/movies/trending?window=HOUR", TrendingMovie[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .filteredOn(trending -> trending.movie().id().equals(testMovie.getId()))
+                .extracting(TrendingMovie::seats)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void trendingMovies_AfterRestart_ShouldBeReplayedFromConfirmedBookings() {
+        Booking booking = createTestBooking(testUser);
+        createHeldBookedSeat(booking);
+        restTemplate.exchange(baseUrl + "/" + booking.getId() + "/confirm", HttpMethod.POST,
+                new HttpEntity<>(createAuthHeaders(testUserToken)), BookingConfirmResponse.class);
+        // the replay counts booked seats, not the booking's own seat count
+        Booking confirmed = bookingRepository.findById(booking.getId()).orElseThrow();
+        confirmed.setNumberOfSeats(0);
+        bookingRepository.save(confirmed);
+
+        // a fresh index stands in for one after a restart
+        TrendingMoviesIndex restarted = new TrendingMoviesIndex(movieJdbcRepository);
+        restarted.warmUp();
+
+        assertThat(restarted.top(TrendingWindow.HOUR, 10))
+                .containsExactly(new TrendingMoviesIndex.Entry(testMovie.getId(), 1));
+    }
+
     // helper methods
     private HttpHeaders createAuthHeaders(String token) {
         HttpHeaders headers = new HttpHeaders();
@@ -547,6 +658,28 @@ class BookingControllerIntegrationTest {
         return bookingRepository.save(booking);
     }
 
+    private Showtime createTestShowtime(Movie movie, int daysAhead) {
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setScreen(testScreen);
+        showtime.setCinema(testCinema);
+        showtime.setActive(true);
+        showtime.setStartTime(LocalDateTime.now().plusDays(daysAhead));
+        showtime.setEndTime(LocalDateTime.now().plusDays(daysAhead).plusHours(2));
+        return showtimeRepository.save(showtime);
+    }
+
+    private Booking createConfirmedBooking(User user, Showtime showtime) {
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setShowtime(showtime);
+        booking.setNumberOfSeats(1);
+        booking.setTotalPrice(BigDecimal.valueOf(15.00));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setConfirmedAt(LocalDateTime.now());
+        return bookingRepository.save(booking);
+    }
+
     private BookingSeat createAvailableBookedSeat() {
         BookingSeat bookingSeat = new BookingSeat();
         bookingSeat.setSeat(testSeat);
@@ -2,12 +2,25 @@ package com.example.cinephile.cinema.controller;
 
 import com.example.cinephile.auth.entity.AuthUser;
 import com.example.cinephile.auth.util.JwtUtil;
+import com.example.cinephile.booking.entity.BookingSeat;
+import com.example.cinephile.booking.entity.SeatStatus;
+import com.example.cinephile.booking.repository.BookingSeatRepository;
 import com.example.cinephile.cinema.dto.*;
 import com.example.cinephile.cinema.entity.Cinema;
 import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.entity.Seat;
+import com.example.cinephile.cinema.entity.SeatType;
 import com.example.cinephile.cinema.repository.CinemaRepository;
 import com.example.cinephile.cinema.repository.ScreenRepository;
 import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.cinema.service.ScreenService;
+import com.example.cinephile.common.dto.JobResponse;
+import com.example.cinephile.common.job.JobStatus;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.dto.ShowtimeOccupancy;
+import com.example.cinephile.showtime.entity.Showtime;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
 import com.example.cinephile.user.entity.Role;
 import com.example.cinephile.user.entity.User;
 import com.example.cinephile.user.repository.UserRepository;
@@ -22,9 +35,14 @@ import org.springframework.http.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,6 +68,18 @@ class CinemaControllerIntegrationTest {
     @Autowired
     private SeatRepository seatRepository;
 
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingSeatRepository bookingSeatRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ScreenService screenService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -65,9 +95,12 @@ class CinemaControllerIntegrationTest {
     void setUp() {
         baseUrl = "http://localhost:" + port + "/api/cinemas";
 
+        bookingSeatRepository.deleteAll();
+        showtimeRepository.deleteAll();
         seatRepository.deleteAll();
         screenRepository.deleteAll();
         cinemaRepository.deleteAll();
+        movieRepository.deleteAll();
         userRepository.deleteAll();
 
         testManager = createTestUser("manager@example.com", "Test Manager", Role.MANAGER);
@@ -162,12 +195,79 @@ class CinemaControllerIntegrationTest {
         assertThat(response.getBody()).hasSize(1);
     }
 
+    @Test
+    void getManagerDashboard_ShouldCountSeatsAndRevenuePerShowtimeAndCinema() {
+        Cinema emptyCinema = cinemaRepository.save(
+                createTestCinema("Another Cinema", "456 Test Ave", "987-654-3210", testManager));
+        User otherManager = userRepository.save(createTestUser("other@example.com", "Other Manager", Role.MANAGER));
+        Cinema otherCinema = cinemaRepository.save(
+                createTestCinema("Other Cinema", "789 Test Blvd", "555-555-5555", otherManager));
+        Movie movie = movieRepository.save(createTestMovie("Dune"));
+        Screen screen = screenRepository.save(createTestScreen("Screen 1", 4, testCinema));
+        Screen otherScreen = screenRepository.save(createTestScreen("Screen 1", 4, otherCinema));
+        List<Seat> seats = createTestSeats(screen, 4);
+        LocalDate today = LocalDate.now();
+        Showtime tonight = createTestShowtime(movie, screen, today.atTime(20, 0));
+        Showtime tomorrow = createTestShowtime(movie, screen, today.plusDays(1).atTime(18, 0));
+        Showtime later = createTestShowtime(movie, screen, today.plusDays(2).atTime(18, 0));
+        createTestShowtime(movie, otherScreen, today.atTime(21, 0));
+        createTestBookingSeats(tonight, seats,
+                SeatStatus.BOOKED, SeatStatus.BOOKED, SeatStatus.HELD, SeatStatus.AVAILABLE);
+        createTestBookingSeats(tomorrow, seats,
+                SeatStatus.AVAILABLE, SeatStatus.AVAILABLE, SeatStatus.AVAILABLE, SeatStatus.AVAILABLE);
+        createTestBookingSeats(later, seats,
+                SeatStatus.BOOKED, SeatStatus.BOOKED, SeatStatus.BOOKED, SeatStatus.BOOKED);
+
+        ResponseEntity<ManagerDashboard> response = restTemplate.exchange(
+                baseUrl + "/managed/dashboard",
+                HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(managerToken)),
+                ManagerDashboard.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ManagerDashboard dashboard = response.getBody();
+        assertThat(dashboard.from()).isEqualTo(today);
+        assertThat(dashboard.to()).isEqualTo(today.plusDays(1));
+        // only the manager's own cinemas, the one without showtimes included
+        assertThat(dashboard.cinemas()).extracting(CinemaDashboard::cinemaId)
+                .containsExactly(emptyCinema.getId(), testCinema.getId());
+        CinemaDashboard empty = dashboard.cinemas().getFirst();
+        assertThat(empty.showtimes()).isEmpty();
+        assertThat(empty.sold() + empty.held() + empty.available()).isZero();
+        assertThat(empty.revenue()).isEqualByComparingTo("0");
+        CinemaDashboard cinema = dashboard.cinemas().get(1);
+        assertThat(cinema.sold()).isEqualTo(2);
+        assertThat(cinema.held()).isEqualTo(1);
+        assertThat(cinema.available()).isEqualTo(5);
+        assertThat(cinema.revenue()).isEqualByComparingTo("25.00");
+        // the showtime two days out is not on the dashboard
+        assertThat(cinema.showtimes()).extracting(ShowtimeOccupancy::showtimeId)
+                .containsExactly(tonight.getId(), tomorrow.getId());
+        ShowtimeOccupancy first = cinema.showtimes().getFirst();
+        assertThat(first.movieTitle()).isEqualTo("Dune");
+        assertThat(first.screenName()).isEqualTo("Screen 1");
+        assertThat(first.sold()).isEqualTo(2);
+        assertThat(first.held()).isEqualTo(1);
+        assertThat(first.available()).isEqualTo(1);
+        assertThat(first.revenue()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void getManagerDashboard_WithoutAuth_ShouldReturnUnauthorized() {
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/managed/dashboard", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
     @Test
     void createCinema_WithValidDataAndAuth_ShouldCreateCinema() {
         CinemaRequest request = new CinemaRequest(
                 "New Cinema",
                 "789 New St",
-                "555-123-4567"
+                "555-123-4567",
+                40.7128,
+                -74.0060
         );
 
         HttpHeaders headers = createAuthHeaders(managerToken);
@@ -187,7 +287,7 @@ class CinemaControllerIntegrationTest {
 
     @Test
     void createCinema_WithInvalidData_ShouldReturnBadRequest() {
-        CinemaRequest request = new CinemaRequest("", "", "");
+        CinemaRequest request = new CinemaRequest("", "", "", null, null);
 
         HttpHeaders headers = createAuthHeaders(managerToken);
         HttpEntity<CinemaRequest> entity = new HttpEntity<>(request, headers);
@@ -202,9 +302,23 @@ class CinemaControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
+    @Test
+    void createCinema_WithOutOfRangeCoordinates_ShouldReturnBadRequest() {
+        CinemaRequest request = new CinemaRequest("New Cinema", "789 New St", "555-123-4567", 91.0, 0.0);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl,
+                HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void createCinema_WithoutAuth_ShouldReturnUnauthorized() {
-        CinemaRequest request = new CinemaRequest("New Cinema", "789 New St", "555-123-4567");
+        CinemaRequest request = new CinemaRequest("New Cinema", "789 New St", "555-123-4567", null, null);
 
         ResponseEntity<String> response = restTemplate.postForEntity(
                 baseUrl,
@@ -220,7 +334,9 @@ class CinemaControllerIntegrationTest {
         CinemaRequest request = new CinemaRequest(
                 "Updated Cinema",
                 "Updated Address",
-                "999-888-7777"
+                "999-888-7777",
+                null,
+                null
         );
 
         HttpHeaders headers = createAuthHeaders(managerToken);
@@ -242,7 +358,7 @@ class CinemaControllerIntegrationTest {
 
     @Test
     void updateCinema_WithInvalidId_ShouldReturnNotFound() {
-        CinemaRequest request = new CinemaRequest("Updated Cinema", "Updated Address", "999-888-7777");
+        CinemaRequest request = new CinemaRequest("Updated Cinema", "Updated Address", "999-888-7777", null, null);
         UUID nonExistentId = UUID.randomUUID();
 
         HttpHeaders headers = createAuthHeaders(managerToken);
@@ -259,19 +375,29 @@ class CinemaControllerIntegrationTest {
     }
 
     @Test
-    void deleteCinema_WithValidIdAndAuth_ShouldDeleteCinema() {
+    void deleteCinema_WithValidIdAndAuth_ShouldDeleteCinemaInBackground() throws InterruptedException {
+        Screen testScreen = createTestScreen("Screen 1", 100, testCinema);
+        screenRepository.save(testScreen);
+
         HttpHeaders headers = createAuthHeaders(managerToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<String> response = restTemplate.exchange(
+        ResponseEntity<JobResponse> response = restTemplate.exchange(
                 baseUrl + "/" + testCinema.getId(),
                 HttpMethod.DELETE,
                 entity,
-                String.class
+                JobResponse.class
         );
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().targetId()).isEqualTo(testCinema.getId());
+
+        JobResponse job = awaitJob(response.getBody().id());
+        assertThat(job.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.processedRows()).isEqualTo(2); // the screen and the cinema
         assertThat(cinemaRepository.findById(testCinema.getId())).isEmpty();
+        assertThat(screenRepository.findById(testScreen.getId())).isEmpty();
     }
 
     @Test
@@ -337,7 +463,8 @@ class CinemaControllerIntegrationTest {
                 "New Screen",
                 180,
                 12,
-                15
+                15,
+                null
         );
 
         HttpHeaders headers = createAuthHeaders(managerToken);
@@ -355,9 +482,59 @@ class CinemaControllerIntegrationTest {
         assertThat(screenRepository.findByCinemaId(testCinema.getId())).hasSize(1);
     }
 
+    @Test
+    void createScreen_WithLayout_ShouldGenerateLabelledSeatsPastRowZ() {
+        // 30 rows of 40 seats with an aisle after seat 20, premium middle rows and two wheelchair spaces up front
+        ScreenLayout layout = new ScreenLayout(List.of(
+                new RowBlock(1, 40, 0, SeatType.STANDARD, List.of(
+                        new SeatRange(1, 2, SeatType.WHEELCHAIR), new SeatRange(3, 4, null))),
+                new RowBlock(27, 40, 0, null, List.of(new SeatRange(11, 30, SeatType.PREMIUM))),
+                new RowBlock(2, 40, 0, SeatType.BALCONY, null)
+        ), List.of(20));
+        CreateScreenRequest request = new CreateScreenRequest("Hall 1", null, null, null, layout);
+
+        ResponseEntity<Void> response = restTemplate.exchange(
+                baseUrl + "/" + testCinema.getId() + "/screens",
+                HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                void.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Screen screen = screenRepository.findByCinemaId(testCinema.getId()).getFirst();
+        assertThat(screen.getCapacity()).isEqualTo(30 * 40 - 2);
+        Map<String, Seat> seats = seatRepository.findByScreenId(screen.getId()).stream()
+                .collect(Collectors.toMap(Seat::getSeatNumber, seat -> seat));
+        assertThat(seats).hasSize(30 * 40 - 2);
+        assertThat(seats.get("A1").getType()).isEqualTo(SeatType.WHEELCHAIR);
+        // the gap takes no seat number, the aisle pushes later seats one column right
+        assertThat(seats.get("A3").getColNumber()).isEqualTo(5);
+        assertThat(seats.get("A38").getColNumber()).isEqualTo(41);
+        assertThat(seats.get("B11").getType()).isEqualTo(SeatType.PREMIUM);
+        assertThat(seats.get("AB40").getType()).isEqualTo(SeatType.STANDARD);
+        assertThat(seats.get("AD1").getType()).isEqualTo(SeatType.BALCONY);
+        assertThat(seats.get("AD1").getRowIndex()).isEqualTo(30);
+    }
+
+    @Test
+    void createScreen_WithCapacityNotMatchingLayout_ShouldReturnBadRequest() {
+        ScreenLayout layout = new ScreenLayout(List.of(new RowBlock(2, 10, 0, null, null)), null);
+        CreateScreenRequest request = new CreateScreenRequest("Hall 2", 25, null, null, layout);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/" + testCinema.getId() + "/screens",
+                HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(screenRepository.findByCinemaId(testCinema.getId())).isEmpty();
+    }
+
     @Test
     void createScreen_WithInvalidData_ShouldReturnBadRequest() {
-        CreateScreenRequest request = new CreateScreenRequest("", -1, 0, 50);
+        CreateScreenRequest request = new CreateScreenRequest("", -1, 0, 50, null);
 
         HttpHeaders headers = createAuthHeaders(managerToken);
         HttpEntity<CreateScreenRequest> entity = new HttpEntity<>(request, headers);
@@ -372,6 +549,99 @@ class CinemaControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
+    @Test
+    void updateSeatTypes_WithRowAndColumnRanges_ShouldUpdateMatchingSeatsOnly() {
+        restTemplate.exchange(baseUrl + "/" + testCinema.getId() + "/screens", HttpMethod.POST,
+                new HttpEntity<>(new CreateScreenRequest("Hall 3", 52, 13, 4, null), createAuthHeaders(managerToken)),
+                void.class);
+        Screen screen = screenRepository.findByCinemaId(testCinema.getId()).getFirst();
+        String screenUrl = baseUrl + "/screens/" + screen.getId();
+        HttpEntity<Void> get = new HttpEntity<>(createAuthHeaders(managerToken));
+        ScreenDetail before = restTemplate.exchange(screenUrl, HttpMethod.GET, get, ScreenDetail.class).getBody();
+        UpdateSeatTypesRequest request = new UpdateSeatTypesRequest(List.of(
+                new SeatTypeRangeUpdate("A", "C", null, null, SeatType.PREMIUM),
+                new SeatTypeRangeUpdate("M", null, 1, 2, SeatType.WHEELCHAIR),
+                new SeatTypeRangeUpdate("C", null, 4, 4, SeatType.STANDARD)
+        ));
+
+        ResponseEntity<SeatTypesUpdated> response = restTemplate.exchange(
+                baseUrl + "/screens/" + screen.getId() + "/seats",
+                HttpMethod.PATCH,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                SeatTypesUpdated.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().updatedSeats()).isEqualTo(12 + 2 + 1);
+        Map<String, SeatType> types = seatRepository.findByScreenId(screen.getId()).stream()
+                .collect(Collectors.toMap(Seat::getSeatNumber, Seat::getType));
+        assertThat(types.values()).filteredOn(type -> type == SeatType.PREMIUM).hasSize(11);
+        assertThat(types.get("C3")).isEqualTo(SeatType.PREMIUM);
+        assertThat(types.get("C4")).isEqualTo(SeatType.STANDARD);
+        assertThat(types.get("D1")).isEqualTo(SeatType.STANDARD);
+        assertThat(types.get("M2")).isEqualTo(SeatType.WHEELCHAIR);
+        assertThat(types.get("M3")).isEqualTo(SeatType.STANDARD);
+        // the cached layout was rebuilt, not served stale
+        ScreenDetail after = restTemplate.exchange(screenUrl, HttpMethod.GET, get, ScreenDetail.class).getBody();
+        assertThat(before.list()).extracting(SeatDTO::type).containsOnly(SeatType.STANDARD);
+        assertThat(after.list()).extracting(SeatDTO::seatNumber).startsWith("A1", "A2", "A3", "A4", "B1");
+        assertThat(after.list()).filteredOn(seat -> seat.seatNumber().equals("M2"))
+                .extracting(SeatDTO::type).containsExactly(SeatType.WHEELCHAIR);
+    }
+
+    @Test
+    void updateSeatTypes_OnLayoutWithAisle_ShouldMatchSeatNumbersNotGridColumns() {
+        // row A is centered on row B, so its seats sit in grid columns 3, 4, 6 and 7 around the aisle
+        ScreenLayout layout = new ScreenLayout(List.of(
+                new RowBlock(1, 4, 0, null, null),
+                new RowBlock(1, 8, 0, null, null)
+        ), List.of(4));
+        restTemplate.exchange(baseUrl + "/" + testCinema.getId() + "/screens", HttpMethod.POST,
+                new HttpEntity<>(new CreateScreenRequest("Hall 4", null, null, null, layout),
+                        createAuthHeaders(managerToken)),
+                void.class);
+        Screen screen = screenRepository.findByCinemaId(testCinema.getId()).getFirst();
+        UpdateSeatTypesRequest request = new UpdateSeatTypesRequest(List.of(
+                new SeatTypeRangeUpdate("A", null, 1, 2, SeatType.PREMIUM),
+                new SeatTypeRangeUpdate("B", null, 5, 5, SeatType.WHEELCHAIR)
+        ));
+
+        ResponseEntity<SeatTypesUpdated> response = restTemplate.exchange(
+                baseUrl + "/screens/" + screen.getId() + "/seats",
+                HttpMethod.PATCH,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                SeatTypesUpdated.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().updatedSeats()).isEqualTo(3);
+        Map<String, Seat> seats = seatRepository.findByScreenId(screen.getId()).stream()
+                .collect(Collectors.toMap(Seat::getSeatNumber, seat -> seat));
+        assertThat(seats.get("A1").getColNumber()).isEqualTo(3);
+        assertThat(seats.get("A1").getType()).isEqualTo(SeatType.PREMIUM);
+        assertThat(seats.get("A2").getType()).isEqualTo(SeatType.PREMIUM);
+        assertThat(seats.get("A3").getType()).isEqualTo(SeatType.STANDARD);
+        assertThat(seats.get("B4").getType()).isEqualTo(SeatType.STANDARD);
+        assertThat(seats.get("B5").getType()).isEqualTo(SeatType.WHEELCHAIR);
+        assertThat(seats.get("B5").getColNumber()).isEqualTo(6);
+    }
+
+    @Test
+    void updateSeatTypes_WithInvalidRow_ShouldReturnBadRequest() {
+        Screen screen = screenRepository.save(createTestScreen("Screen 1", 100, testCinema));
+        UpdateSeatTypesRequest request = new UpdateSeatTypesRequest(List.of(
+                new SeatTypeRangeUpdate("C", "A", null, null, SeatType.PREMIUM)));
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/screens/" + screen.getId() + "/seats",
+                HttpMethod.PATCH,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void updateScreen_WithValidDataAndAuth_ShouldUpdateScreen() {
         Screen testScreen = createTestScreen("Screen 1", 100, testCinema);
@@ -398,22 +668,76 @@ class CinemaControllerIntegrationTest {
     }
 
     @Test
-    void deleteScreen_WithValidIdAndAuth_ShouldDeleteScreen() {
+    void deleteScreen_WithValidIdAndAuth_ShouldDeleteScreenInBackground() throws InterruptedException {
         Screen testScreen = createTestScreen("Screen 1", 100, testCinema);
         screenRepository.save(testScreen);
 
         HttpHeaders headers = createAuthHeaders(managerToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<String> response = restTemplate.exchange(
+        ResponseEntity<JobResponse> response = restTemplate.exchange(
                 baseUrl + "/screens/" + testScreen.getId(),
                 HttpMethod.DELETE,
                 entity,
+                JobResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(awaitJob(response.getBody().id()).status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(screenRepository.findById(testScreen.getId())).isEmpty();
+    }
+
+    @Test
+    void getJob_WithUnknownId_ShouldReturnNotFound() {
+        ResponseEntity<String> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/jobs/" + UUID.randomUUID(),
+                HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(managerToken)),
                 String.class
         );
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getJob_SubmittedByAnotherManager_ShouldReturnNotFound() throws InterruptedException {
+        Screen testScreen = screenRepository.save(createTestScreen("Screen 1", 100, testCinema));
+        ResponseEntity<JobResponse> deleted = restTemplate.exchange(
+                baseUrl + "/screens/" + testScreen.getId(),
+                HttpMethod.DELETE,
+                new HttpEntity<>(createAuthHeaders(managerToken)),
+                JobResponse.class
+        );
+        assertThat(deleted.getBody()).isNotNull();
+        awaitJob(deleted.getBody().id());
+
+        User otherManager = userRepository.save(createTestUser("other@example.com", "Other Manager", Role.MANAGER));
+        ResponseEntity<String> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/jobs/" + deleted.getBody().id(),
+                HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(jwtUtil.generateAccessToken(new AuthUser(otherManager)))),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void resumeInterruptedDeletes_WithWithdrawnScreen_ShouldDeleteItsRows() throws InterruptedException {
+        Screen testScreen = createTestScreen("Screen 1", 100, testCinema);
+        testScreen.setActive(false);
+        screenRepository.save(testScreen);
+        createTestSeats(testScreen, 3);
+
+        screenService.resumeInterruptedDeletes();
+
+        for (int attempt = 0; attempt < 50 && screenRepository.existsById(testScreen.getId()); attempt++) {
+            Thread.sleep(100);
+        }
         assertThat(screenRepository.findById(testScreen.getId())).isEmpty();
+        assertThat(seatRepository.findAll()).isEmpty();
+        assertThat(cinemaRepository.findById(testCinema.getId())).isPresent();
     }
 
     // helper methods
@@ -446,6 +770,72 @@ class CinemaControllerIntegrationTest {
         return screen;
     }
 
+    private Movie createTestMovie(String title) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setPlot("Test plot for " + title);
+        movie.setImdbId("tt" + UUID.randomUUID().toString().substring(0, 8));
+        movie.setPosterUrl("http://test.poster/" + title.toLowerCase());
+        movie.setRuntime(120);
+        movie.setYear(2021);
+        movie.setGenre("Sci-Fi");
+        return movie;
+    }
+
+    private List<Seat> createTestSeats(Screen screen, int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (int number = 1; number <= count; number++) {
+            Seat seat = new Seat();
+            seat.setRowNumber("A");
+            seat.setColNumber(number);
+            seat.setSeatNumber("A" + number);
+            seat.setType(SeatType.STANDARD);
+            seat.setScreen(screen);
+            seat.setActive(true);
+            seats.add(seat);
+        }
+        return seatRepository.saveAll(seats);
+    }
+
+    private Showtime createTestShowtime(Movie movie, Screen screen, LocalDateTime startTime) {
+        Showtime showtime = new Showtime();
+        showtime.setMovie(movie);
+        showtime.setScreen(screen);
+        showtime.setCinema(screen.getCinema());
+        showtime.setStartTime(startTime);
+        showtime.setEndTime(startTime.plusHours(2));
+        showtime.setActive(true);
+        return showtimeRepository.save(showtime);
+    }
+
+    // one booking seat per seat, in the given statuses, at 12.50 each
+    private void createTestBookingSeats(Showtime showtime, List<Seat> seats, SeatStatus... statuses) {
+        List<BookingSeat> bookingSeats = new ArrayList<>();
+        for (int i = 0; i < statuses.length; i++) {
+            BookingSeat bookingSeat = new BookingSeat();
+            bookingSeat.setSeat(seats.get(i));
+            bookingSeat.setShowtime(showtime);
+            bookingSeat.setStatus(statuses[i]);
+            bookingSeat.setPrice(new BigDecimal("12.50"));
+            bookingSeats.add(bookingSeat);
+        }
+        bookingSeatRepository.saveAll(bookingSeats);
+    }
+
+    private JobResponse awaitJob(UUID jobId) throws InterruptedException {
+        String jobUrl = "http://localhost:" + port + "/api/jobs/" + jobId;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            ResponseEntity<JobResponse> response = restTemplate.exchange(
+                    jobUrl, HttpMethod.GET, new HttpEntity<>(createAuthHeaders(managerToken)), JobResponse.class);
+            JobResponse job = response.getBody();
+            if (job != null && (job.status() == JobStatus.COMPLETED || job.status() == JobStatus.FAILED)) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish in time");
+    }
+
     private HttpHeaders createAuthHeaders(String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
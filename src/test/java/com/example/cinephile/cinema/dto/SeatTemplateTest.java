@@ -0,0 +1,57 @@
+package com.example.cinephile.cinema.dto;
+
+import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.cinema.util.RowLabels;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatTemplateTest {
+
+    @Test
+    void build_ShouldKeepSeatsInOrderAndFindThemById() {
+        UUID screenId = UUID.randomUUID();
+        SeatTemplate.Builder builder = SeatTemplate.builder(screenId, 7);
+        List<UUID> ids = new ArrayList<>();
+        for (int row = 1; row <= 30; row++) {
+            for (int column = 1; column <= 40; column++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                String label = RowLabels.label(row);
+                builder.add(id, label + column, label, row, column, column <= 2 ? SeatType.WHEELCHAIR : SeatType.STANDARD);
+            }
+        }
+
+        SeatTemplate template = builder.build();
+
+        assertThat(template.screenId()).isEqualTo(screenId);
+        assertThat(template.version()).isEqualTo(7);
+        assertThat(template.size()).isEqualTo(1200);
+        assertThat(template.seatIds()).isEqualTo(ids);
+        for (int ordinal = 0; ordinal < ids.size(); ordinal++) {
+            assertThat(template.ordinalOf(ids.get(ordinal))).isEqualTo(ordinal);
+        }
+        assertThat(template.ordinalOf(UUID.randomUUID())).isEqualTo(-1);
+        int last = template.ordinalOf(ids.getLast());
+        assertThat(template.seatNumber(last)).isEqualTo("AD40");
+        assertThat(template.rowIndex(last)).isEqualTo(30);
+        assertThat(template.colNumber(last)).isEqualTo(40);
+        assertThat(template.seats().getFirst())
+                .isEqualTo(new SeatDTO(ids.getFirst(), "A1", "A", 1, SeatType.WHEELCHAIR));
+        // one label instance per row
+        assertThat(template.rowNumber(0)).isSameAs(template.rowNumber(39));
+    }
+
+    @Test
+    void build_WithoutSeats_ShouldBeEmpty() {
+        SeatTemplate template = SeatTemplate.builder(UUID.randomUUID(), 1).build();
+
+        assertThat(template.size()).isZero();
+        assertThat(template.seats()).isEmpty();
+        assertThat(template.ordinalOf(UUID.randomUUID())).isEqualTo(-1);
+    }
+}
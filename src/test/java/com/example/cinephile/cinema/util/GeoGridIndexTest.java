@@ -0,0 +1,65 @@
+package com.example.cinephile.cinema.util;
+
+import com.example.cinephile.cinema.dto.CinemaLocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridIndexTest {
+    private static final double CELL_DEGREES = 0.1;
+
+    @Test
+    void nearest_ShouldMatchAFullScanFromTheEquatorToThePoles() {
+        Random random = new Random(42);
+        List<CinemaLocation> locations = new ArrayList<>();
+        double[][] centers = {{0, 10}, {45, 5}, {69.6, 18.9}, {-70, -60}, {85, 40}, {10, 179.9}};
+        for (double[] center : centers) {
+            for (int i = 0; i < 400; i++) {
+                double latitude = Math.max(-90, Math.min(90, center[0] + (random.nextDouble() - 0.5) * 12));
+                double longitude = center[1] + (random.nextDouble() - 0.5) * 40;
+                longitude = longitude > 180 ? longitude - 360 : longitude < -180 ? longitude + 360 : longitude;
+                locations.add(new CinemaLocation(UUID.randomUUID(), "Cinema " + locations.size(), "", latitude,
+                        longitude));
+            }
+        }
+        GeoGridIndex index = new GeoGridIndex(CELL_DEGREES, locations);
+
+        for (double[] center : centers) {
+            for (double radiusKm : new double[]{5, 50, 500}) {
+                double latitude = center[0] + (random.nextDouble() - 0.5) * 2;
+                double longitude = center[1] + (random.nextDouble() - 0.5) * 2;
+                List<CinemaLocation> expected = locations.stream()
+                        .filter(location -> distance(latitude, longitude, location) <= radiusKm)
+                        .sorted(Comparator.comparingDouble(location -> distance(latitude, longitude, location)))
+                        .limit(10)
+                        .toList();
+
+                List<GeoGridIndex.Hit> hits = index.nearest(latitude, longitude, 10, radiusKm, location -> true);
+
+                assertThat(hits).extracting(GeoGridIndex.Hit::location)
+                        .as("%s km around %s, %s", radiusKm, latitude, longitude)
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void nearest_ShouldSkipLocationsTheFilterRejects() {
+        CinemaLocation near = new CinemaLocation(UUID.randomUUID(), "Near", "", 69.60, 18.90);
+        CinemaLocation far = new CinemaLocation(UUID.randomUUID(), "Far", "", 69.70, 19.50);
+        GeoGridIndex index = new GeoGridIndex(CELL_DEGREES, List.of(near, far));
+
+        assertThat(index.nearest(69.6, 18.9, 5, 500, location -> location != near))
+                .extracting(GeoGridIndex.Hit::location).containsExactly(far);
+    }
+
+    private static double distance(double latitude, double longitude, CinemaLocation location) {
+        return GeoGridIndex.haversineKm(latitude, longitude, location.latitude(), location.longitude());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.cinephile.cinema.util;
+
+import com.example.cinephile.cinema.dto.RowBlock;
+import com.example.cinephile.cinema.dto.ScreenLayout;
+import com.example.cinephile.cinema.dto.SeatRange;
+import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.cinema.util.SeatLayoutGenerator.PlannedSeat;
+import com.example.cinephile.common.exception.CinephileException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatLayoutGeneratorTest {
+
+    @Test
+    void rowLabels_ShouldContinuePastZ() {
+        assertThat(RowLabels.label(1)).isEqualTo("A");
+        assertThat(RowLabels.label(26)).isEqualTo("Z");
+        assertThat(RowLabels.label(27)).isEqualTo("AA");
+        assertThat(RowLabels.label(702)).isEqualTo("ZZ");
+        assertThat(RowLabels.label(703)).isEqualTo("AAA");
+        for (int index = 1; index <= 1000; index++) {
+            assertThat(RowLabels.index(RowLabels.label(index))).isEqualTo(index);
+        }
+        assertThat(RowLabels.index("A1")).isZero();
+    }
+
+    @Test
+    void generate_WithRectangle_ShouldNumberSeatsRowByRow() {
+        List<PlannedSeat> seats = SeatLayoutGenerator.generate(SeatLayoutGenerator.rectangle(2, 3));
+
+        assertThat(seats).containsExactly(
+                new PlannedSeat("A", 1, 1, "A1", SeatType.STANDARD),
+                new PlannedSeat("A", 1, 2, "A2", SeatType.STANDARD),
+                new PlannedSeat("A", 1, 3, "A3", SeatType.STANDARD),
+                new PlannedSeat("B", 2, 1, "B1", SeatType.STANDARD),
+                new PlannedSeat("B", 2, 2, "B2", SeatType.STANDARD),
+                new PlannedSeat("B", 2, 3, "B3", SeatType.STANDARD));
+    }
+
+    @Test
+    void generate_WithCurveGapsAndAisle_ShouldCenterRowsAndSkipEmptyPositions() {
+        ScreenLayout layout = new ScreenLayout(List.of(
+                new RowBlock(3, 4, 2, SeatType.PREMIUM, List.of(new SeatRange(2, 2, null)))
+        ), List.of(4));
+
+        List<PlannedSeat> seats = SeatLayoutGenerator.generate(layout);
+
+        // rows of 4, 6 and 8 positions centered on an 8 wide hall, the gap stays above grid column 4 and the
+        // aisle after column 4 shifts everything right of it
+        assertThat(seats).filteredOn(seat -> seat.rowIndex() == 1).extracting(PlannedSeat::colNumber)
+                .containsExactly(3, 6, 7);
+        assertThat(seats).filteredOn(seat -> seat.rowIndex() == 2).extracting(PlannedSeat::colNumber)
+                .containsExactly(2, 3, 6, 7, 8);
+        assertThat(seats).filteredOn(seat -> seat.rowIndex() == 3).extracting(PlannedSeat::seatNumber)
+                .containsExactly("C1", "C2", "C3", "C4", "C5", "C6", "C7");
+        assertThat(seats).filteredOn(seat -> seat.rowIndex() == 3).extracting(PlannedSeat::colNumber)
+                .containsExactly(1, 2, 3, 6, 7, 8, 9);
+        assertThat(seats).extracting(PlannedSeat::type).containsOnly(SeatType.PREMIUM);
+    }
+
+    @Test
+    void generate_WithInvalidLayout_ShouldReject() {
+        ScreenLayout rangeOutsideRow = new ScreenLayout(List.of(
+                new RowBlock(1, 10, 0, null, List.of(new SeatRange(9, 11, SeatType.PREMIUM)))), null);
+        ScreenLayout aisleOutsideHall = new ScreenLayout(List.of(new RowBlock(1, 10, 0, null, null)), List.of(10));
+        ScreenLayout tooManyRows = SeatLayoutGenerator.rectangle(SeatLayoutGenerator.MAX_ROWS + 1, 10);
+
+        assertThatThrownBy(() -> SeatLayoutGenerator.generate(rangeOutsideRow)).isInstanceOf(CinephileException.class);
+        assertThatThrownBy(() -> SeatLayoutGenerator.generate(aisleOutsideHall)).isInstanceOf(CinephileException.class);
+        assertThatThrownBy(() -> SeatLayoutGenerator.generate(tooManyRows)).isInstanceOf(CinephileException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.cinephile.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazySnapshotTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_ShouldLoadOnceUntilInvalidated() {
+        LazySnapshot<Integer> snapshot = new LazySnapshot<>(loads::incrementAndGet);
+
+        assertThat(snapshot.get()).isEqualTo(1);
+        assertThat(snapshot.get()).isEqualTo(1);
+        snapshot.invalidate();
+        assertThat(snapshot.get()).isEqualTo(2);
+        assertThat(snapshot.refresh()).isEqualTo(3);
+    }
+
+    @Test
+    void get_FromConcurrentReadersOfAStaleValue_ShouldLoadOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LazySnapshot<Integer> snapshot = new LazySnapshot<>(() -> {
+            loading.countDown();
+            await(release);
+            return loads.incrementAndGet();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> reads = new ArrayList<>();
+            reads.add(executor.submit(snapshot::get));
+            loading.await();
+            for (int i = 0; i < 7; i++) {
+                reads.add(executor.submit(snapshot::get));
+            }
+            Thread.sleep(50); // let the other readers block on the reload in progress
+            release.countDown();
+
+            for (Future<Integer> read : reads) {
+                assertThat(read.get()).isEqualTo(1);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_AfterAFailedLoad_ShouldRetry() {
+        LazySnapshot<Integer> snapshot = new LazySnapshot<>(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return loads.get();
+        });
+
+        assertThatThrownBy(snapshot::get).isInstanceOf(IllegalStateException.class);
+        assertThat(snapshot.get()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
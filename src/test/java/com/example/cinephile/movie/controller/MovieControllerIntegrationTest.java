@@ -2,14 +2,26 @@ package com.example.cinephile.movie.controller;
 
 import com.example.cinephile.auth.entity.AuthUser;
 import com.example.cinephile.auth.util.JwtUtil;
+import com.example.cinephile.common.dto.CacheRegionStats;
+import com.example.cinephile.config.CacheConfig;
 import com.example.cinephile.movie.dto.MovieCard;
 import com.example.cinephile.movie.dto.MoviePage;
 import com.example.cinephile.movie.dto.MovieRequest;
+import com.example.cinephile.movie.dto.MovieSlice;
 import com.example.cinephile.movie.entity.Movie;
 import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.movie.search.MovieSearchIndex;
+import com.example.cinephile.movie.search.MovieSuggestIndex;
+import com.example.cinephile.movie.search.SimilarMoviesIndex;
 import com.example.cinephile.user.entity.Role;
 import com.example.cinephile.user.entity.User;
 import com.example.cinephile.user.repository.UserRepository;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,11 +29,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,25 +61,107 @@ class MovieControllerIntegrationTest {
     @Autowired
     private MovieRepository movieRepository;
 
+    @Autowired
+    private MovieSearchIndex movieSearchIndex;
+
+    @Autowired
+    private MovieSuggestIndex movieSuggestIndex;
+
+    @Autowired
+    private SimilarMoviesIndex similarMoviesIndex;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    // stands in for the third-party poster host, serving one 600x900 png under any path but /missing, and
+    // misbehaving under /declared-huge, /endless and /bomb
+    private static HttpServer posterServer;
+    private static String posterOrigin;
+    private static final AtomicInteger originHits = new AtomicInteger();
+
     private String baseUrl;
     private User testAdmin;
     private String adminToken;
 
+    @BeforeAll
+    static void startPosterOrigin() throws IOException {
+        BufferedImage image = new BufferedImage(600, 900, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        byte[] bomb = pngHeaderOnly(100_000, 100_000);
+        posterServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        posterServer.createContext("/declared-huge", exchange -> {
+            exchange.sendResponseHeaders(200, 21L * 1024 * 1024);
+            exchange.close();
+        });
+        posterServer.createContext("/endless", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try {
+                byte[] chunk = new byte[64 * 1024];
+                for (int i = 0; i < 512; i++) { // 32 MB, past the 20 MB limit
+                    exchange.getResponseBody().write(chunk);
+                }
+            } catch (IOException e) {
+                // the service hung up once it had read enough
+            }
+            exchange.close();
+        });
+        posterServer.createContext("/bomb", exchange -> {
+            exchange.sendResponseHeaders(200, bomb.length);
+            exchange.getResponseBody().write(bomb);
+            exchange.close();
+        });
+        posterServer.createContext("/", exchange -> {
+            originHits.incrementAndGet();
+            boolean missing = exchange.getRequestURI().getPath().startsWith("/missing");
+            exchange.sendResponseHeaders(missing ? 404 : 200, missing ? -1 : png.size());
+            if (!missing) {
+                exchange.getResponseBody().write(png.toByteArray());
+            }
+            exchange.close();
+        });
+        posterServer.start();
+        posterOrigin = "http://localhost:" + posterServer.getAddress().getPort();
+    }
+
+    @AfterAll
+    static void stopPosterOrigin() {
+        posterServer.stop(0);
+    }
+
+    // a png that is no more than its signature and an IHDR chunk claiming the given size
+    private static byte[] pngHeaderOnly(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17).put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width).putInt(height).put(new byte[]{8, 2, 0, 0, 0});
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'})
+                .putInt(13).put(ihdr.array()).putInt((int) crc.getValue())
+                .array();
+    }
+
     @BeforeEach
     void setUp() {
         baseUrl = "http://localhost:" + port + "/api/movies";
+        originHits.set(0);
 
         movieRepository.deleteAll();
         userRepository.deleteAll();
+        movieSearchIndex.rebuild();
+        movieSuggestIndex.rebuild();
 
         testAdmin = createTestUser("adminone@cinephile.com", "Admin One", Role.ADMIN);
         userRepository.save(testAdmin);
@@ -75,7 +181,7 @@ class MovieControllerIntegrationTest {
     void getAllMovies_WhenMoviesExist_ShouldReturnPageOfMovies() {
         Movie movie1 = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
         Movie movie2 = createTestMovie("Inception", "Action", "PG-13", 8.8);
-        movieRepository.saveAll(List.of(movie1, movie2));
+        saveAndIndex(List.of(movie1, movie2));
 
         ResponseEntity<String> response = restTemplate.getForEntity(baseUrl, String.class);
 
@@ -89,7 +195,7 @@ class MovieControllerIntegrationTest {
     void getAllMovies_WithTitleFilter_ShouldReturnFilteredMovies() {
         Movie matrix = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
         Movie inception = createTestMovie("Inception", "Action", "PG-13", 8.8);
-        movieRepository.saveAll(List.of(matrix, inception));
+        saveAndIndex(List.of(matrix, inception));
 
         ResponseEntity<String> response = restTemplate.getForEntity(
             baseUrl + "?title=Matrix", String.class);
@@ -103,7 +209,7 @@ class MovieControllerIntegrationTest {
     void getAllMovies_WithGenreFilter_ShouldReturnFilteredMovies() {
         Movie matrix = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
         Movie inception = createTestMovie("Inception", "Action", "PG-13", 8.8);
-        movieRepository.saveAll(List.of(matrix, inception));
+        saveAndIndex(List.of(matrix, inception));
 
         ResponseEntity<String> response = restTemplate.getForEntity(
             baseUrl + "?genre=Action", String.class);
@@ -117,7 +223,7 @@ class MovieControllerIntegrationTest {
     void getAllMovies_WithRatingFilter_ShouldReturnFilteredMovies() {
         Movie goodMovie = createTestMovie("Great Movie", "Drama", "PG", 9.0);
         Movie okMovie = createTestMovie("OK Movie", "Comedy", "PG", 7.0);
-        movieRepository.saveAll(List.of(goodMovie, okMovie));
+        saveAndIndex(List.of(goodMovie, okMovie));
 
         ResponseEntity<String> response = restTemplate.getForEntity(
             baseUrl + "?rating=8.0", String.class);
@@ -134,7 +240,7 @@ class MovieControllerIntegrationTest {
             createTestMovie("Movie 2", "Drama", "PG-13", 8.0),
             createTestMovie("Movie 3", "Comedy", "R", 6.5)
         );
-        movieRepository.saveAll(movies);
+        saveAndIndex(movies);
 
         ResponseEntity<String> response = restTemplate.getForEntity(
             baseUrl + "?page=0&size=2", String.class);
@@ -306,7 +412,7 @@ class MovieControllerIntegrationTest {
         Movie matrix = createTestMovie("The Matrix", "Sci-Fi,Action", "R", 8.7);
         Movie inception = createTestMovie("Inception", "Action,Thriller", "PG-13", 8.8);
         Movie comedy = createTestMovie("Funny Movie", "Comedy", "PG", 7.5);
-        movieRepository.saveAll(List.of(matrix, inception, comedy));
+        saveAndIndex(List.of(matrix, inception, comedy));
 
         // filter by genre=Action and rating>=8.0
         ResponseEntity<String> response = restTemplate.getForEntity(
@@ -318,7 +424,479 @@ class MovieControllerIntegrationTest {
         assertThat(response.getBody()).doesNotContain("Funny Movie");
     }
 
+    @Test
+    void getAllMovies_WithQuery_ShouldMatchPeople() {
+        Movie matrix = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
+        matrix.setActors("Keanu Reeves, Carrie-Anne Moss");
+        Movie inception = createTestMovie("Inception", "Action", "PG-13", 8.8);
+        inception.setDirector("Christopher Nolan");
+        saveAndIndex(List.of(matrix, inception));
+
+        ResponseEntity<String> byActor = restTemplate.getForEntity(baseUrl + "?q=keanu", String.class);
+        ResponseEntity<String> byDirector = restTemplate.getForEntity(baseUrl + "?q=nolan", String.class);
+
+        assertThat(byActor.getBody()).contains("The Matrix").doesNotContain("Inception");
+        assertThat(byDirector.getBody()).contains("Inception").doesNotContain("The Matrix");
+    }
+
+    @Test
+    void getAllMovies_WithQuery_ShouldFoldAccentsAndMatchPrefixes() {
+        Movie amelie = createTestMovie("Amélie", "Comedy", "R", 8.3);
+        Movie matrix = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
+        saveAndIndex(List.of(amelie, matrix));
+
+        ResponseEntity<String> folded = restTemplate.getForEntity(baseUrl + "?q=amelie", String.class);
+        ResponseEntity<String> prefix = restTemplate.getForEntity(baseUrl + "?q=ame", String.class);
+
+        assertThat(folded.getBody()).contains("\"totalElements\":1").doesNotContain("The Matrix");
+        assertThat(prefix.getBody()).contains("\"totalElements\":1").doesNotContain("The Matrix");
+    }
+
+    @Test
+    void getAllMovies_WithQuery_ShouldRankTitleMatchesFirst() {
+        Movie actorMatch = createTestMovie("Speed", "Action", "R", 9.0);
+        actorMatch.setActors("Matrix Smith");
+        Movie titleMatch = createTestMovie("The Matrix", "Sci-Fi", "R", 7.0);
+        saveAndIndex(List.of(actorMatch, titleMatch));
+
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "?q=matrix", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"totalElements\":2");
+        assertThat(response.getBody().indexOf("The Matrix")).isLessThan(response.getBody().indexOf("Speed"));
+    }
+
+    @Test
+    void addMovie_ShouldBeSearchableImmediately() {
+        MovieRequest request = new MovieRequest("Arrival", "Linguist meets aliens", "tt2543164",
+            "http://test.poster/arrival", 116, 2016, "Sci-Fi", "PG-13", 7.9,
+            "Denis Villeneuve", "Eric Heisserer", "Amy Adams", "English", "USA");
+
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(request, createAuthHeaders(adminToken)),
+            String.class);
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "?q=villeneuve", String.class);
+
+        assertThat(response.getBody()).contains("Arrival");
+    }
+
+    @Test
+    void suggest_ShouldCompleteTitlesAndPeopleByAnyWord() {
+        Movie matrix = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
+        matrix.setActors("Keanu Reeves, Carrie-Anne Moss");
+        Movie memento = createTestMovie("Memento", "Thriller", "R", 8.4);
+        memento.setDirector("Christopher Nolan");
+        saveAndIndex(List.of(matrix, memento));
+
+        ResponseEntity<String> byWord = restTemplate.getForEntity(baseUrl + "/suggest?q=mat", String.class);
+        ResponseEntity<String> byLastName = restTemplate.getForEntity(baseUrl + "/suggest?q=reev", String.class);
+        ResponseEntity<String> best = restTemplate.getForEntity(baseUrl + "/suggest?q=m", String.class);
+
+        assertThat(byWord.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(byWord.getBody()).contains("The Matrix").doesNotContain("Memento");
+        assertThat(byLastName.getBody()).contains("Keanu Reeves").contains("\"type\":\"PERSON\"");
+        // both titles and Carrie-Anne Moss start a word with m, the best rated come first
+        assertThat(best.getBody().indexOf("The Matrix")).isLessThan(best.getBody().indexOf("Memento"));
+        assertThat(best.getBody()).contains("Carrie-Anne Moss");
+    }
+
+    @Test
+    void suggest_ShouldFollowMovieChanges() {
+        HttpHeaders headers = createAuthHeaders(adminToken);
+        MovieRequest request = new MovieRequest("Arrival", "Linguist meets aliens", "tt2543164",
+            "http://test.poster/arrival", 116, 2016, "Sci-Fi", "PG-13", 7.9,
+            "Denis Villeneuve", "Eric Heisserer", "Amy Adams", "English", "USA");
+        ResponseEntity<MovieCard> created = restTemplate.exchange(baseUrl, HttpMethod.POST,
+            new HttpEntity<>(request, headers), MovieCard.class);
+
+        assertThat(restTemplate.getForEntity(baseUrl + "/suggest?q=villen", String.class).getBody())
+            .contains("Denis Villeneuve");
+
+        restTemplate.exchange(baseUrl + "/" + created.getBody().id(), HttpMethod.DELETE,
+            new HttpEntity<>(headers), String.class);
+
+        assertThat(restTemplate.getForEntity(baseUrl + "/suggest?q=villen", String.class).getBody())
+            .isEqualTo("[]");
+        assertThat(restTemplate.getForEntity(baseUrl + "/suggest?q=arr", String.class).getBody())
+            .isEqualTo("[]");
+    }
+
+    @Test
+    void searchMovies_ShouldCountFacetsOverTheCurrentQuery() {
+        Movie matrix = createTestMovie("The Matrix", "Sci-Fi, Action", "R", 8.7);
+        matrix.setYear(1999);
+        Movie inception = createTestMovie("Inception", "Action, Thriller", "PG-13", 8.8);
+        inception.setYear(2010);
+        inception.setLanguage("English, Japanese");
+        Movie amelie = createTestMovie("Amélie", "Comedy", "R", 8.3);
+        amelie.setYear(2001);
+        amelie.setLanguage("French");
+        saveAndIndex(List.of(matrix, inception, amelie));
+
+        ResponseEntity<String> all = restTemplate.getForEntity(baseUrl + "/search", String.class);
+        ResponseEntity<String> action = restTemplate.getForEntity(baseUrl + "/search?genre=action", String.class);
+
+        assertThat(all.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(all.getBody())
+            .contains("{\"value\":\"Action\",\"count\":2}")
+            .contains("{\"value\":\"Comedy\",\"count\":1}")
+            .contains("\"rated\":[{\"value\":\"R\",\"count\":2},{\"value\":\"PG-13\",\"count\":1}]")
+            .contains("{\"value\":\"1990\",\"count\":1}")
+            .contains("{\"value\":\"English\",\"count\":2}")
+            .contains("{\"value\":\"French\",\"count\":1}");
+
+        // the selected genre narrows the results and the other facets, but not its own counts
+        assertThat(action.getBody())
+            .contains("\"totalElements\":2")
+            .contains("{\"value\":\"Comedy\",\"count\":1}")
+            .contains("\"rated\":[{\"value\":\"PG-13\",\"count\":1},{\"value\":\"R\",\"count\":1}]")
+            .doesNotContain("French");
+    }
+
+    @Test
+    void getAllMovies_WithDecadeAndLanguageFilters_ShouldReturnFilteredMovies() {
+        Movie matrix = createTestMovie("The Matrix", "Sci-Fi", "R", 8.7);
+        matrix.setYear(1999);
+        Movie amelie = createTestMovie("Amélie", "Comedy", "R", 8.3);
+        amelie.setYear(2001);
+        amelie.setLanguage("French");
+        saveAndIndex(List.of(matrix, amelie));
+
+        ResponseEntity<String> nineties = restTemplate.getForEntity(baseUrl + "?decade=1990", String.class);
+        ResponseEntity<String> french = restTemplate.getForEntity(baseUrl + "?language=french", String.class);
+
+        assertThat(nineties.getBody()).contains("The Matrix").contains("\"totalElements\":1");
+        assertThat(french.getBody()).doesNotContain("The Matrix").contains("\"totalElements\":1");
+    }
+
+    @Test
+    void addAndUpdateMovie_ShouldKeepNormalizedAttributesInSync() {
+        HttpHeaders headers = createAuthHeaders(adminToken);
+        MovieRequest request = new MovieRequest("Arrival", "Linguist meets aliens", "tt2543164",
+            "http://test.poster/arrival", 116, 2016, "Sci-Fi, Drama", "PG-13", 7.9,
+            "Denis Villeneuve", "Eric Heisserer", "Amy Adams, Jeremy Renner", "English", "USA");
+        UUID id = restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(request, headers),
+            MovieCard.class).getBody().id();
+
+        assertThat(genresOf(id)).containsExactly("Drama", "Sci-Fi");
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT p.name FROM movie_people mp JOIN people p ON p.id = mp.person_id
+            WHERE mp.movie_id = ? AND mp.role = 'ACTOR' ORDER BY mp.position
+            """, String.class, id.toString())).containsExactly("Amy Adams", "Jeremy Renner");
+
+        MovieRequest update = new MovieRequest(null, null, null, null, null, null, "Sci-Fi, Mystery",
+            null, null, null, null, null, null, null);
+        restTemplate.exchange(baseUrl + "/" + id, HttpMethod.PUT, new HttpEntity<>(update, headers), String.class);
+
+        assertThat(genresOf(id)).containsExactly("Mystery", "Sci-Fi");
+    }
+
+    @Test
+    void getMovieById_WithMatchingETag_ShouldReturnNotModifiedWithoutQueries() {
+        Movie movie = movieRepository.save(createTestMovie("The Matrix", "Sci-Fi", "R", 8.7));
+        ResponseEntity<MoviePage> first = restTemplate.getForEntity(baseUrl + "/" + movie.getId(), MoviePage.class);
+        String eTag = first.getHeaders().getETag();
+
+        assertThat(eTag).isNotBlank();
+        assertThat(first.getHeaders().getLastModified()).isPositive();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        Statistics statistics = resetStatistics();
+        ResponseEntity<String> second = restTemplate.exchange(baseUrl + "/" + movie.getId(), HttpMethod.GET,
+            new HttpEntity<>(headers), String.class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void getMovieById_AfterUpdate_ShouldServeTheNewVersion() {
+        Movie movie = movieRepository.save(createTestMovie("The Matrix", "Sci-Fi", "R", 8.7));
+        String eTag = restTemplate.getForEntity(baseUrl + "/" + movie.getId(), MoviePage.class)
+            .getHeaders().getETag();
+
+        MovieRequest update = new MovieRequest("The Matrix Reloaded", null, null, null, null, null, null,
+            null, null, null, null, null, null, null);
+        restTemplate.exchange(baseUrl + "/" + movie.getId(), HttpMethod.PUT,
+            new HttpEntity<>(update, createAuthHeaders(adminToken)), String.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<MoviePage> response = restTemplate.exchange(baseUrl + "/" + movie.getId(), HttpMethod.GET,
+            new HttpEntity<>(headers), MoviePage.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().title()).isEqualTo("The Matrix Reloaded");
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void getMovieById_AfterDelete_ShouldReturn404() {
+        Movie movie = movieRepository.save(createTestMovie("The Matrix", "Sci-Fi", "R", 8.7));
+        restTemplate.getForEntity(baseUrl + "/" + movie.getId(), MoviePage.class);
+
+        restTemplate.exchange(baseUrl + "/" + movie.getId(), HttpMethod.DELETE,
+            new HttpEntity<>(createAuthHeaders(adminToken)), String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/" + movie.getId(), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void scrollMovies_ShouldWalkTheCatalogByCursorWithoutRepeats() {
+        List<Movie> movies = List.of(
+            createTestMovie("Movie A", "Action", "PG", 7.5),
+            createTestMovie("Movie B", "Drama", "PG-13", 8.0),
+            createTestMovie("Movie C", "Comedy", "R", 7.5),
+            createTestMovie("Movie D", "Action", "R", null),
+            createTestMovie("Movie E", "Drama", "PG", 9.1)
+        );
+        saveAndIndex(movies);
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MovieSlice slice = restTemplate.getForObject(baseUrl + "/scroll?sort=RATING&size=2"
+                + (cursor != null ? "&cursor=" + cursor : ""), MovieSlice.class);
+            slice.content().forEach(movie -> titles.add(movie.title()));
+            assertThat(slice.hasNext()).isEqualTo(slice.nextCursor() != null);
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // best rated first, ties in a stable order, unrated movies last
+        assertThat(pages).isEqualTo(3);
+        assertThat(titles).hasSize(5).doesNotHaveDuplicates();
+        assertThat(titles.subList(0, 2)).containsExactly("Movie E", "Movie B");
+        assertThat(titles.subList(2, 4)).containsExactlyInAnyOrder("Movie A", "Movie C");
+        assertThat(titles.get(4)).isEqualTo("Movie D");
+    }
+
+    @Test
+    void scrollMovies_ByTitle_ShouldApplyFiltersAndDirection() {
+        Movie zodiac = createTestMovie("Zodiac", "Thriller", "R", 7.7);
+        zodiac.setYear(2007);
+        Movie alien = createTestMovie("Alien", "Thriller, Horror", "R", 8.5);
+        alien.setYear(1979);
+        Movie memento = createTestMovie("Memento", "Thriller", "R", 8.4);
+        memento.setYear(2000);
+        Movie up = createTestMovie("Up", "Animation", "PG", 8.3);
+        up.setYear(2009);
+        saveAndIndex(List.of(zodiac, alien, memento, up));
+
+        MovieSlice first = restTemplate.getForObject(
+            baseUrl + "/scroll?sort=TITLE&genre=thriller&size=2", MovieSlice.class);
+        MovieSlice second = restTemplate.getForObject(
+            baseUrl + "/scroll?sort=TITLE&genre=thriller&size=2&cursor=" + first.nextCursor(), MovieSlice.class);
+        MovieSlice byYear = restTemplate.getForObject(
+            baseUrl + "/scroll?sort=YEAR&direction=ASC", MovieSlice.class);
+
+        assertThat(first.content()).extracting(MovieCard::title).containsExactly("Alien", "Memento");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(MovieCard::title).containsExactly("Zodiac");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        assertThat(byYear.content()).extracting(MovieCard::title)
+            .containsExactly("Alien", "Memento", "Zodiac", "Up");
+    }
+
+    @Test
+    void scrollMovies_WithMalformedCursor_ShouldReturn400() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            baseUrl + "/scroll?sort=YEAR&cursor=not-a-cursor", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getSimilarMovies_WithoutBookings_ShouldFallBackToGenresAndCast() {
+        UUID matrix = addMovie("The Matrix", "tt0133093", "Sci-Fi, Action", "Keanu Reeves, Carrie-Anne Moss");
+        addMovie("John Wick", "tt2911666", "Action, Thriller", "Keanu Reeves");
+        addMovie("Aliens", "tt0090605", "Sci-Fi, Action", "Sigourney Weaver");
+        addMovie("Amélie", "tt0211915", "Comedy, Romance", "Audrey Tautou");
+        similarMoviesIndex.rebuild();
+
+        ResponseEntity<MovieCard[]> response = restTemplate.getForEntity(
+            baseUrl + "/" + matrix + "/similar", MovieCard[].class);
+
+        // a shared actor outweighs a shared genre, nothing in common means no match
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(MovieCard::title).containsExactly("John Wick", "Aliens");
+    }
+
+    @Test
+    void getSimilarMovies_WhenMovieNotExists_ShouldReturn404() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            baseUrl + "/" + UUID.randomUUID() + "/similar", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getPoster_ShouldFetchTheOriginOnceAndServeResizedVariants() throws IOException {
+        Movie movie = createTestMovie("Poster Movie", "Drama", "PG", 7.0);
+        movie.setPosterUrl(posterOrigin + "/" + UUID.randomUUID() + ".png");
+        saveAndIndex(List.of(movie));
+
+        ResponseEntity<byte[]> small = restTemplate.getForEntity(
+            baseUrl + "/" + movie.getId() + "/poster?w=150", byte[].class);
+        ResponseEntity<byte[]> again = restTemplate.getForEntity(
+            baseUrl + "/" + movie.getId() + "/poster?w=154", byte[].class);
+        ResponseEntity<byte[]> large = restTemplate.getForEntity(
+            baseUrl + "/" + movie.getId() + "/poster?w=400", byte[].class);
+
+        assertThat(small.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(small.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_JPEG);
+        assertThat(small.getHeaders().getETag()).isNotNull().isEqualTo(again.getHeaders().getETag());
+        assertThat(large.getHeaders().getETag()).isNotEqualTo(small.getHeaders().getETag());
+        // widths snap up to the next supported one
+        assertThat(ImageIO.read(new ByteArrayInputStream(small.getBody())).getWidth()).isEqualTo(154);
+        assertThat(ImageIO.read(new ByteArrayInputStream(large.getBody())).getWidth()).isEqualTo(500);
+        assertThat(originHits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getPoster_WithMatchingETag_ShouldReturn304() {
+        Movie movie = createTestMovie("Cached Poster", "Drama", "PG", 7.0);
+        movie.setPosterUrl(posterOrigin + "/" + UUID.randomUUID() + ".png");
+        saveAndIndex(List.of(movie));
+        String url = baseUrl + "/" + movie.getId() + "/poster?w=92";
+        String etag = restTemplate.getForEntity(url, byte[].class).getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers),
+            byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void getPoster_WhenOriginFails_ShouldReturn502() {
+        Movie movie = createTestMovie("Broken Poster", "Drama", "PG", 7.0);
+        movie.setPosterUrl(posterOrigin + "/missing/" + UUID.randomUUID() + ".png");
+        saveAndIndex(List.of(movie));
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            baseUrl + "/" + movie.getId() + "/poster", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void getPoster_WhenOriginDeclaresAnOversizedBody_ShouldReturn502() {
+        assertThat(posterStatus("/declared-huge/")).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void getPoster_WhenOriginStreamsAnOversizedBody_ShouldReturn502() {
+        assertThat(posterStatus("/endless/")).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void getPoster_WhenOriginImageHasTooManyPixels_ShouldReturn502() {
+        assertThat(posterStatus("/bomb/")).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void addMovie_WithExistingImdbId_ShouldReturn409FromTheNaturalIdCache() {
+        addMovie("Heat", "tt0113277", "Crime", "Al Pacino");
+        Statistics statistics = resetStatistics();
+
+        MovieRequest duplicate = new MovieRequest("Heat (1995)", null, "tt0113277", null, null, null, null,
+            null, null, null, null, null, null, null);
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl, HttpMethod.POST,
+            new HttpEntity<>(duplicate, createAuthHeaders(adminToken)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        // the insert cached the imdb id, so the duplicate check never reached the database
+        assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.MOVIE_IMDB_IDS_REGION).getHitCount())
+            .isPositive();
+        assertThat(movieRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void updateMovie_ToAnotherMoviesImdbId_ShouldReturn409() {
+        addMovie("Heat", "tt0113277", "Crime", "Al Pacino");
+        UUID other = addMovie("Ronin", "tt0122690", "Action", "Robert De Niro");
+
+        MovieRequest update = new MovieRequest(null, null, "tt0113277", null, null, null, null,
+            null, null, null, null, null, null, null);
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/" + other, HttpMethod.PUT,
+            new HttpEntity<>(update, createAuthHeaders(adminToken)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(movieRepository.findById(other).orElseThrow().getImdbId()).isEqualTo("tt0122690");
+    }
+
+    @Test
+    void updateMovie_ShouldLoadTheMovieFromTheSecondLevelCache() {
+        Movie movie = movieRepository.save(createTestMovie("The Matrix", "Sci-Fi", "R", 8.7));
+        Statistics statistics = resetStatistics();
+
+        MovieRequest update = new MovieRequest("The Matrix Reloaded", null, null, null, null, null, null,
+            null, null, null, null, null, null, null);
+        restTemplate.exchange(baseUrl + "/" + movie.getId(), HttpMethod.PUT,
+            new HttpEntity<>(update, createAuthHeaders(adminToken)), MovieCard.class);
+
+        // the service and the index listeners all load the movie, none of them from the database
+        long hits = statistics.getDomainDataRegionStatistics(CacheConfig.MOVIES_REGION).getHitCount();
+        assertThat(hits).isPositive();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // the update wrote through, a later load sees the new title without a query either
+        assertThat(movieRepository.findById(movie.getId()).orElseThrow().getTitle()).isEqualTo("The Matrix Reloaded");
+        assertThat(statistics.getDomainDataRegionStatistics(CacheConfig.MOVIES_REGION).getHitCount()).isEqualTo(hits + 1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        ResponseEntity<CacheRegionStats[]> regions = restTemplate.exchange(
+            "http://localhost:" + port + "/api/cache/regions", HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(adminToken)), CacheRegionStats[].class);
+        assertThat(regions.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(regions.getBody())
+            .filteredOn(region -> region.region().equals(CacheConfig.MOVIES_REGION))
+            .singleElement()
+            .satisfies(region -> assertThat(region.hits()).isEqualTo(hits + 1));
+    }
+
     // helper methods
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private List<String> genresOf(UUID movieId) {
+        return jdbcTemplate.queryForList("""
+            SELECT g.name FROM movie_genres mg JOIN genres g ON g.id = mg.genre_id
+            WHERE mg.movie_id = ? ORDER BY g.name
+            """, String.class, movieId.toString());
+    }
+
+    private UUID addMovie(String title, String imdbId, String genre, String actors) {
+        MovieRequest request = new MovieRequest(title, "Test plot for " + title, imdbId,
+            "http://test.poster/" + imdbId, 120, 2020, genre, "PG-13", 7.5, "Test Director", "Test Writer",
+            actors, "English", "USA");
+        return restTemplate.exchange(baseUrl, HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(adminToken)), MovieCard.class).getBody().id();
+    }
+
+    private HttpStatusCode posterStatus(String path) {
+        Movie movie = createTestMovie("Hostile Poster", "Drama", "PG", 7.0);
+        movie.setPosterUrl(posterOrigin + path + UUID.randomUUID() + ".png");
+        saveAndIndex(List.of(movie));
+        return restTemplate.getForEntity(baseUrl + "/" + movie.getId() + "/poster", String.class).getStatusCode();
+    }
+
+    private void saveAndIndex(List<Movie> movies) {
+        movieRepository.saveAll(movies);
+        // fixtures bypass MovieService, so the indexes would not hear about them otherwise
+        movieSearchIndex.rebuild();
+        movieSuggestIndex.rebuild();
+    }
+
     private User createTestUser(String email, String name, Role role) {
         User user = new User();
         user.setEmail(email);
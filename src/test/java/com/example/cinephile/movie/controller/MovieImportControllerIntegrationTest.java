@@ -0,0 +1,257 @@
+package com.example.cinephile.movie.controller;
+
+import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.auth.util.JwtUtil;
+import com.example.cinephile.movie.dto.MovieImportResponse;
+import com.example.cinephile.movie.entity.ImportFormat;
+import com.example.cinephile.movie.entity.ImportStatus;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.entity.MovieImport;
+import com.example.cinephile.movie.repository.MovieImportRepository;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.user.entity.Role;
+import com.example.cinephile.user.entity.User;
+import com.example.cinephile.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class MovieImportControllerIntegrationTest {
+    private static final String MOVIES_JSON = """
+            [
+              {"title": "The Matrix", "imdbId": "tt0133093", "year": 1999, "runtime": 136,
+               "genre": "Action, Sci-Fi", "actors": "Keanu Reeves", "rating": 8.7},
+              {"title": "Memento", "imdbId": "tt0209144", "year": 2000, "runtime": 113, "genre": "Mystery"},
+              {"title": "The Matrix again", "imdbId": "tt0133093", "year": 1999, "runtime": 136},
+              {"title": "No runtime", "imdbId": "tt0000001", "year": 2001},
+              {"title": "Arrival", "imdbId": "tt2543164", "year": 2016, "runtime": 116}
+            ]
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieImportRepository movieImportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @TempDir
+    private Path tempDir;
+
+    private String baseUrl;
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/movies/imports";
+
+        movieImportRepository.deleteAll();
+        movieRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User admin = userRepository.save(createTestUser("importadmin@cinephile.com", Role.ADMIN));
+        User user = userRepository.save(createTestUser("importuser@cinephile.com", Role.USER));
+        adminToken = jwtUtil.generateAccessToken(new AuthUser(admin));
+        userToken = jwtUtil.generateAccessToken(new AuthUser(user));
+    }
+
+    @Test
+    void startImport_WithJson_ShouldInsertNewMoviesAndCountTheRest() throws InterruptedException {
+        ResponseEntity<MovieImportResponse> response = upload("movies.json", MOVIES_JSON, adminToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().format()).isEqualTo(ImportFormat.JSON);
+
+        MovieImportResponse finished = awaitImport(response.getBody().id());
+        assertThat(finished.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(finished.recordsRead()).isEqualTo(5);
+        assertThat(finished.imported()).isEqualTo(3);
+        assertThat(finished.duplicates()).isEqualTo(1);
+        assertThat(finished.skipped()).isEqualTo(1);
+        assertThat(movieRepository.findAll()).extracting(Movie::getTitle)
+                .containsExactlyInAnyOrder("The Matrix", "Memento", "Arrival");
+
+        // imported movies are searchable once the import finishes
+        ResponseEntity<String> search = restTemplate.getForEntity(
+                "http://localhost:" + port + "/api/movies?q=keanu", String.class);
+        assertThat(search.getBody()).contains("The Matrix");
+    }
+
+    @Test
+    void startImport_WithWrongValueTypeAfterTheFirstBatch_ShouldSkipItAndComplete() throws InterruptedException {
+        String json = """
+                [
+                  {"title": "The Matrix", "imdbId": "tt0133093", "year": 1999, "runtime": 136},
+                  {"title": "Memento", "imdbId": "tt0209144", "year": 2000, "runtime": 113},
+                  {"title": "Broken", "imdbId": "tt0000001", "year": "abc", "runtime": 90},
+                  {"title": "Arrival", "imdbId": "tt2543164", "year": 2016, "runtime": 116}
+                ]
+                """;
+
+        ResponseEntity<MovieImportResponse> response = upload("movies.json", json, adminToken);
+
+        MovieImportResponse finished = awaitImport(response.getBody().id());
+        assertThat(finished.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(finished.recordsRead()).isEqualTo(4);
+        assertThat(finished.imported()).isEqualTo(3);
+        assertThat(finished.skipped()).isEqualTo(1);
+        assertThat(movieRepository.findAll()).extracting(Movie::getTitle)
+                .containsExactlyInAnyOrder("The Matrix", "Memento", "Arrival");
+    }
+
+    @Test
+    void startImport_WithImdbTsv_ShouldOnlyImportMovies() throws InterruptedException {
+        String tsv = """
+                tconst\ttitleType\tprimaryTitle\toriginalTitle\tisAdult\tstartYear\tendYear\truntimeMinutes\tgenres
+                tt0133093\tmovie\tThe Matrix\tThe Matrix\t0\t1999\t\\N\t136\tAction,Sci-Fi
+                tt0903747\ttvSeries\tBreaking Bad\tBreaking Bad\t0\t2008\t2013\t49\tCrime,Drama
+                """;
+
+        ResponseEntity<MovieImportResponse> response = upload("title.basics.tsv", tsv, adminToken);
+
+        MovieImportResponse finished = awaitImport(response.getBody().id());
+        assertThat(finished.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(finished.imported()).isEqualTo(1);
+        assertThat(finished.skipped()).isEqualTo(1);
+        assertThat(movieRepository.findAll()).extracting(Movie::getGenre).containsExactly("Action,Sci-Fi");
+    }
+
+    @Test
+    void resumeImport_ShouldContinueAfterTheCheckpoint() throws IOException, InterruptedException {
+        Path file = Files.writeString(tempDir.resolve("interrupted.json"), MOVIES_JSON);
+        MovieImport interrupted = new MovieImport();
+        interrupted.setFileName("interrupted.json");
+        interrupted.setFilePath(file.toString());
+        interrupted.setFormat(ImportFormat.JSON);
+        interrupted.setStatus(ImportStatus.FAILED);
+        interrupted.setRecordsRead(2); // the first batch was committed before the failure
+        interrupted = movieImportRepository.save(interrupted);
+
+        ResponseEntity<MovieImportResponse> response = restTemplate.exchange(
+                baseUrl + "/" + interrupted.getId() + "/resume", HttpMethod.POST,
+                new HttpEntity<>(createAuthHeaders(adminToken)), MovieImportResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        MovieImportResponse finished = awaitImport(interrupted.getId());
+        assertThat(finished.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(finished.recordsRead()).isEqualTo(5);
+        // the duplicate of a record before the checkpoint is a new movie now that its original was skipped
+        assertThat(movieRepository.findAll()).extracting(Movie::getTitle)
+                .containsExactlyInAnyOrder("The Matrix again", "Arrival");
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void resumeImport_WhenNotFailed_ShouldReturnConflict() {
+        MovieImport completed = new MovieImport();
+        completed.setFileName("done.json");
+        completed.setFilePath(tempDir.resolve("done.json").toString());
+        completed.setFormat(ImportFormat.JSON);
+        completed.setStatus(ImportStatus.COMPLETED);
+        completed = movieImportRepository.save(completed);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl + "/" + completed.getId() + "/resume", HttpMethod.POST,
+                new HttpEntity<>(createAuthHeaders(adminToken)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void startImport_WithUnknownExtension_ShouldReturnBadRequest() {
+        ResponseEntity<MovieImportResponse> response = upload("movies.csv", "title,imdbId", adminToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void imports_AsRegularUser_ShouldBeForbidden() {
+        ResponseEntity<MovieImportResponse> upload = upload("movies.json", MOVIES_JSON, userToken);
+        ResponseEntity<String> status = restTemplate.exchange(baseUrl + "/" + UUID.randomUUID(), HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(userToken)), String.class);
+
+        assertThat(upload.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(status.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    // helper methods
+    private ResponseEntity<MovieImportResponse> upload(String fileName, String content, String token) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        });
+        HttpHeaders headers = createAuthHeaders(token);
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(body, headers),
+                MovieImportResponse.class);
+    }
+
+    private MovieImportResponse awaitImport(UUID importId) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            ResponseEntity<MovieImportResponse> response = restTemplate.exchange(baseUrl + "/" + importId,
+                    HttpMethod.GET, new HttpEntity<>(createAuthHeaders(adminToken)), MovieImportResponse.class);
+            MovieImportResponse movieImport = response.getBody();
+            if (movieImport != null && (movieImport.status() == ImportStatus.COMPLETED
+                    || movieImport.status() == ImportStatus.FAILED)) {
+                return movieImport;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import " + importId + " did not finish in time");
+    }
+
+    private User createTestUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Import Tester");
+        user.setPassword(passwordEncoder.encode("Password123"));
+        user.setRole(role);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private HttpHeaders createAuthHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
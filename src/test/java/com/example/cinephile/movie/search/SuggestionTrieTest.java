@@ -0,0 +1,105 @@
+package com.example.cinephile.movie.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+    private static final int K = 5;
+    private static final Comparator<SuggestionTrie.Entry<String>> BY_SCORE =
+            Comparator.comparingDouble((SuggestionTrie.Entry<String> entry) -> entry.score()).reversed();
+
+    @Test
+    void complete_ShouldReturnBestCompletionsOfThePrefix() {
+        SuggestionTrie<String> trie = new SuggestionTrie<>(K, BY_SCORE);
+        trie.put(new SuggestionTrie.Entry<>("1", "The Matrix", 8.7), List.of("the matrix", "matrix"));
+        trie.put(new SuggestionTrie.Entry<>("2", "Mad Max", 8.1), List.of("mad max", "max"));
+        trie.put(new SuggestionTrie.Entry<>("3", "Memento", 8.4), List.of("memento"));
+
+        assertThat(trie.complete("m", K)).extracting(SuggestionTrie.Entry::value)
+                .containsExactly("The Matrix", "Memento", "Mad Max");
+        assertThat(trie.complete("ma", K)).extracting(SuggestionTrie.Entry::value)
+                .containsExactly("The Matrix", "Mad Max");
+        assertThat(trie.complete("max", K)).extracting(SuggestionTrie.Entry::value)
+                .containsExactly("Mad Max");
+        assertThat(trie.complete("x", K)).isEmpty();
+    }
+
+    @Test
+    void complete_ShouldListAnEntryOnceWhenSeveralOfItsKeysShareThePrefix() {
+        SuggestionTrie<String> trie = new SuggestionTrie<>(K, BY_SCORE);
+        trie.put(new SuggestionTrie.Entry<>("1", "New York, New York", 7.0),
+                List.of("new york new york", "york new york", "new york", "york"));
+
+        assertThat(trie.complete("new", K)).hasSize(1);
+        assertThat(trie.complete("", K)).hasSize(1);
+    }
+
+    @Test
+    void putAndRemove_ShouldKeepTopListsEqualToAFullScan() {
+        Random random = new Random(42);
+        SuggestionTrie<String> trie = new SuggestionTrie<>(K, BY_SCORE);
+        Map<String, SuggestionTrie.Entry<String>> live = new HashMap<>();
+        Map<String, List<String>> keysById = new HashMap<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            String id = String.valueOf(random.nextInt(300));
+            if (live.containsKey(id) && random.nextInt(3) == 0) {
+                trie.remove(id, keysById.remove(id));
+                live.remove(id);
+                continue;
+            }
+            if (live.containsKey(id)) {
+                trie.remove(id, keysById.get(id));
+            }
+            List<String> keys = List.of(randomWord(random), randomWord(random));
+            SuggestionTrie.Entry<String> entry = new SuggestionTrie.Entry<>(id, "entry " + id, random.nextInt(100));
+            trie.put(entry, keys);
+            live.put(id, entry);
+            keysById.put(id, keys);
+        }
+
+        for (String prefix : List.of("", "a", "b", "ab", "ca", "abc")) {
+            List<SuggestionTrie.Entry<String>> expected = live.values().stream()
+                    .filter(entry -> keysById.get(entry.id()).stream().anyMatch(key -> key.startsWith(prefix)))
+                    .sorted(BY_SCORE.thenComparing(SuggestionTrie.Entry::id))
+                    .limit(K)
+                    .toList();
+            assertThat(trie.complete(prefix, K)).as("prefix '%s'", prefix).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void builder_ShouldProduceTheSameTopListsAsPuttingOneByOne() {
+        Random random = new Random(7);
+        SuggestionTrie<String> oneByOne = new SuggestionTrie<>(K, BY_SCORE);
+        SuggestionTrie.Builder<String> builder = SuggestionTrie.builder(K, BY_SCORE);
+        for (int id = 0; id < 2_000; id++) {
+            List<String> keys = List.of(randomWord(random), randomWord(random) + " " + randomWord(random));
+            SuggestionTrie.Entry<String> entry = new SuggestionTrie.Entry<>(String.valueOf(id), "entry " + id,
+                    random.nextInt(100));
+            oneByOne.put(entry, keys);
+            builder.put(entry, keys);
+        }
+        SuggestionTrie<String> built = builder.build();
+        // the built trie keeps taking incremental changes
+        SuggestionTrie.Entry<String> top = new SuggestionTrie.Entry<>("top", "top", 1_000);
+        oneByOne.put(top, List.of("ab"));
+        built.put(top, List.of("ab"));
+
+        for (String prefix : List.of("", "a", "b", "ab", "ca", "abc", "a b", "c ca")) {
+            assertThat(built.complete(prefix, K)).as("prefix '%s'", prefix).isEqualTo(oneByOne.complete(prefix, K));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
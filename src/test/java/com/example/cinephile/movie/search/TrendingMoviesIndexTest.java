@@ -0,0 +1,76 @@
+package com.example.cinephile.movie.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingMoviesIndexTest {
+    private static final long NOW = 29_000_000; // an epoch minute
+    private static final int HOUR = 60;
+    private static final int DAY = 1440;
+
+    private final TrendingMoviesIndex index = new TrendingMoviesIndex(null);
+    private final UUID matrix = new UUID(0, 1);
+    private final UUID inception = new UUID(0, 2);
+    private final UUID memento = new UUID(0, 3);
+
+    @Test
+    void top_ShouldRankBySeatsWithinTheWindow() {
+        index.record(matrix, 2, NOW, NOW);
+        index.record(matrix, 1, NOW - 90, NOW);
+        index.record(inception, 4, NOW - 120, NOW);
+        index.record(memento, 1, NOW - 5, NOW);
+
+        assertThat(index.top(HOUR, 10, NOW)).containsExactly(
+                new TrendingMoviesIndex.Entry(matrix, 2), new TrendingMoviesIndex.Entry(memento, 1));
+        assertThat(index.top(DAY, 10, NOW)).containsExactly(
+                new TrendingMoviesIndex.Entry(inception, 4), new TrendingMoviesIndex.Entry(matrix, 3),
+                new TrendingMoviesIndex.Entry(memento, 1));
+        assertThat(index.top(DAY, 1, NOW)).extracting(TrendingMoviesIndex.Entry::movieId).containsExactly(inception);
+    }
+
+    @Test
+    void record_ShouldRecycleBucketsFromThePreviousLap() {
+        index.record(matrix, 5, NOW, NOW);
+        // a full day later the same slot of the ring counts the new minute from zero
+        index.record(matrix, 1, NOW + DAY, NOW + DAY);
+
+        assertThat(index.top(DAY, 10, NOW + DAY)).containsExactly(new TrendingMoviesIndex.Entry(matrix, 1));
+        assertThat(index.top(HOUR, 10, NOW + DAY + HOUR)).isEmpty();
+    }
+
+    @Test
+    void record_WithCancellation_ShouldTakeSeatsBackOutOfTheConfirmationMinute() {
+        index.record(matrix, 3, NOW - 10, NOW);
+        index.record(inception, 1, NOW - 10, NOW);
+        index.record(matrix, -3, NOW - 10, NOW);
+        // a cancellation of a confirmation that already left the ring changes nothing
+        index.record(inception, -1, NOW - DAY - 10, NOW);
+
+        assertThat(index.top(HOUR, 10, NOW)).containsExactly(new TrendingMoviesIndex.Entry(inception, 1));
+    }
+
+    @Test
+    void record_FromConcurrentThreads_ShouldNotLoseUpdates() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    index.record(i % 2 == 0 ? matrix : inception, 1, NOW - i % 3, NOW);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<TrendingMoviesIndex.Entry> top = index.top(HOUR, 10, NOW);
+        assertThat(top).containsExactlyInAnyOrder(
+                new TrendingMoviesIndex.Entry(matrix, 40_000), new TrendingMoviesIndex.Entry(inception, 40_000));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.cinephile.movie.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntHashMapTest {
+
+    @Test
+    void addTo_ShouldCountLikeAHashMapThroughResizes() {
+        LongIntHashMap counts = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            // packed int pairs, the way co-occurrence counters use the map, plus negative keys
+            long key = random.nextBoolean()
+                    ? ((long) random.nextInt(300) << 32) | random.nextInt(300)
+                    : -random.nextInt(1_000) - 1;
+            int delta = random.nextInt(5) - 1;
+            assertThat(counts.addTo(key, delta)).isEqualTo(expected.merge(key, delta, Integer::sum));
+        }
+
+        assertThat(counts.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(counts.get(key)).isEqualTo(value));
+        Map<Long, Integer> visited = new HashMap<>();
+        counts.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    void get_WhenKeyMissing_ShouldReturnZero() {
+        LongIntHashMap counts = new LongIntHashMap(0);
+        counts.addTo(0L, 3);
+
+        assertThat(counts.get(0L)).isEqualTo(3);
+        assertThat(counts.get(1L)).isZero();
+        assertThatThrownBy(() -> counts.addTo(Long.MIN_VALUE, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
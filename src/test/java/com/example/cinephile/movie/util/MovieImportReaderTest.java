@@ -0,0 +1,122 @@
+package com.example.cinephile.movie.util;
+
+import com.example.cinephile.movie.dto.MovieRequest;
+import com.example.cinephile.movie.entity.ImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovieImportReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void json_ShouldReadArraysAndObjectsPerLine() throws IOException {
+        Path array = write("movies.json", """
+                [{"title": "The Matrix", "imdbId": "tt0133093", "year": 1999, "runtime": 136},
+                 {"title": "Memento", "imdbId": "tt0209144", "year": 2000, "runtime": 113}]
+                """);
+        Path lines = write("movies.ndjson", """
+                {"title": "The Matrix", "imdbId": "tt0133093", "year": 1999, "runtime": 136}
+                {"title": "Memento", "imdbId": "tt0209144", "year": 2000, "runtime": 113}
+                """);
+
+        assertThat(readAll(array, ImportFormat.JSON)).extracting(MovieRequest::title)
+                .containsExactly("The Matrix", "Memento");
+        assertThat(readAll(lines, ImportFormat.JSON)).extracting(MovieRequest::imdbId)
+                .containsExactly("tt0133093", "tt0209144");
+    }
+
+    @Test
+    void json_WithWrongValueType_ShouldSkipTheRecordAndKeepReading() throws IOException {
+        Path array = write("movies.json", """
+                [{"title": "The Matrix", "imdbId": "tt0133093", "year": 1999},
+                 {"title": "Memento", "imdbId": "tt0209144", "year": 2000},
+                 {"title": "Broken", "imdbId": "tt0000001", "year": "abc", "cast": {"lead": ["nested"]}},
+                 {"title": "Arrival", "imdbId": "tt2543164", "year": 2016}]
+                """);
+        Path lines = write("movies.ndjson", """
+                {"title": "The Matrix", "imdbId": "tt0133093", "year": 1999}
+                {"title": "Broken", "imdbId": "tt0000001", "runtime": [1, 2]}
+                {"title": "Arrival", "imdbId": "tt2543164", "year": 2016}
+                """);
+
+        List<MovieRequest> fromArray = readAll(array, ImportFormat.JSON);
+        List<MovieRequest> fromLines = readAll(lines, ImportFormat.JSON);
+
+        assertThat(fromArray).hasSize(4);
+        assertThat(fromArray.get(2)).isNull();
+        assertThat(fromArray.get(3).title()).isEqualTo("Arrival");
+        assertThat(fromLines).hasSize(3);
+        assertThat(fromLines.get(1)).isNull();
+        assertThat(fromLines.get(2).title()).isEqualTo("Arrival");
+    }
+
+    @Test
+    void tsv_ShouldMapImdbColumnsAndSkipNonMovies() throws IOException {
+        Path file = write("title.basics.tsv", """
+                tconst\ttitleType\tprimaryTitle\toriginalTitle\tisAdult\tstartYear\tendYear\truntimeMinutes\tgenres
+                tt0133093\tmovie\tThe Matrix\tThe Matrix\t0\t1999\t\\N\t136\tAction,Sci-Fi
+                tt0903747\ttvSeries\tBreaking Bad\tBreaking Bad\t0\t2008\t2013\t49\tCrime,Drama
+                tt0209144\tmovie\tMemento\tMemento\t0\t2000\t\\N\t\\N\tMystery,Thriller
+                tt0000001\tmovie\tBroken\tBroken\t0\tnot-a-year\t\\N\t1\tShort
+                """);
+
+        List<MovieRequest> records = readAll(file, ImportFormat.TSV);
+
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0)).isEqualTo(new MovieRequest("The Matrix", null, "tt0133093", null, 136, 1999,
+                "Action,Sci-Fi", null, null, null, null, null, null, null));
+        assertThat(records.get(1)).isNull();
+        assertThat(records.get(2).runtime()).isNull();
+        assertThat(records.get(3)).isNull();
+    }
+
+    @Test
+    void open_ShouldDetectGzipFromContent() throws IOException {
+        Path file = dir.resolve("movies.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write("""
+                    [{"title": "Arrival", "imdbId": "tt2543164", "year": 2016, "runtime": 116}]
+                    """.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(readAll(file, ImportFormat.JSON)).extracting(MovieRequest::title).containsExactly("Arrival");
+    }
+
+    @Test
+    void tsv_WithoutRequiredColumns_ShouldFail() throws IOException {
+        Path file = write("movies.tsv", "name\tyear\nThe Matrix\t1999\n");
+
+        assertThatThrownBy(() -> MovieImportReader.open(file, ImportFormat.TSV, objectMapper))
+                .isInstanceOf(IOException.class);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+
+    private List<MovieRequest> readAll(Path file, ImportFormat format) throws IOException {
+        List<MovieRequest> records = new ArrayList<>();
+        try (MovieImportReader reader = MovieImportReader.open(file, format, objectMapper)) {
+            while (reader.hasNext()) {
+                records.add(reader.next());
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cinephile.movie.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PosterDiskCacheTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void put_OverTheLimit_ShouldEvictTheLeastRecentlyUsedFiles() throws IOException {
+        PosterDiskCache cache = new PosterDiskCache(dir, 250);
+        put(cache, "a", 100);
+        put(cache, "b", 100);
+        try (FileChannel ignored = cache.open("a")) {
+            // a is now more recently used than b
+        }
+        put(cache, "c", 100);
+
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.totalBytes()).isEqualTo(200);
+        assertThat(Files.exists(dir.resolve("b"))).isFalse();
+    }
+
+    @Test
+    void open_AfterEviction_ShouldKeepReadingTheOpenedFile() throws IOException {
+        PosterDiskCache cache = new PosterDiskCache(dir, 100);
+        put(cache, "a", 100);
+        try (FileChannel channel = cache.open("a")) {
+            put(cache, "b", 100);
+
+            assertThat(cache.open("a")).isNull();
+            assertThat(channel.size()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void constructor_ShouldPickUpFilesOfAPreviousRunAndDropTempFiles() throws IOException {
+        PosterDiskCache previous = new PosterDiskCache(dir, 1000);
+        put(previous, "a", 100);
+        Path partial = previous.newTempFile();
+
+        PosterDiskCache cache = new PosterDiskCache(dir, 1000);
+
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.totalBytes()).isEqualTo(100);
+        assertThat(Files.exists(partial)).isFalse();
+    }
+
+    private static void put(PosterDiskCache cache, String key, int size) throws IOException {
+        Path temp = cache.newTempFile();
+        Files.write(temp, new byte[size]);
+        cache.put(key, temp);
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.cinephile.showtime.controller;
 
 import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.auth.service.EmailService;
 import com.example.cinephile.auth.util.JwtUtil;
 import com.example.cinephile.booking.repository.BookingSeatRepository;
+import com.example.cinephile.cinema.dto.NearbyCinemaCard;
 import com.example.cinephile.cinema.entity.Cinema;
 import com.example.cinephile.cinema.entity.Screen;
 import com.example.cinephile.cinema.entity.Seat;
@@ -10,14 +12,23 @@ import com.example.cinephile.cinema.entity.SeatType;
 import com.example.cinephile.cinema.repository.CinemaRepository;
 import com.example.cinephile.cinema.repository.ScreenRepository;
 import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.cinema.service.CinemaLocator;
+import com.example.cinephile.common.dto.JobResponse;
+import com.example.cinephile.common.job.JobStatus;
 import com.example.cinephile.movie.entity.Movie;
 import com.example.cinephile.movie.repository.MovieRepository;
 import com.example.cinephile.showtime.dto.*;
 import com.example.cinephile.showtime.entity.Showtime;
 import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.service.NowShowingSnapshot;
 import com.example.cinephile.user.entity.Role;
 import com.example.cinephile.user.entity.User;
+import com.example.cinephile.user.entity.WatchlistEntry;
 import com.example.cinephile.user.repository.UserRepository;
+import com.example.cinephile.user.repository.WatchlistRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +39,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,6 +50,8 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -70,6 +84,21 @@ class ShowtimeControllerIntegrationTest {
     @Autowired
     private BookingSeatRepository bookingSeatRepository;
 
+    @Autowired
+    private WatchlistRepository watchlistRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Autowired
+    private NowShowingSnapshot nowShowingSnapshot;
+
+    @Autowired
+    private CinemaLocator cinemaLocator;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -92,6 +121,7 @@ class ShowtimeControllerIntegrationTest {
 
         bookingSeatRepository.deleteAll();
         showtimeRepository.deleteAll();
+        watchlistRepository.deleteAll();
         seatRepository.deleteAll();
         screenRepository.deleteAll();
         cinemaRepository.deleteAll();
@@ -106,6 +136,8 @@ class ShowtimeControllerIntegrationTest {
         movieRepository.save(testMovie);
 
         testCinema = createTestCinema("Test Cinema", "123 Test St", "123-456-7890", testManager);
+        testCinema.setLatitude(40.7128);
+        testCinema.setLongitude(-74.0060);
         cinemaRepository.save(testCinema);
 
         testScreen = createTestScreen("Screen 1", 10, 15, testCinema);
@@ -119,6 +151,10 @@ class ShowtimeControllerIntegrationTest {
 
         managerToken = jwtUtil.generateAccessToken(new AuthUser(testManager));
         userToken = jwtUtil.generateAccessToken(new AuthUser(testUser));
+
+        // fixtures are written straight to the repositories, bypassing the change events
+        nowShowingSnapshot.refresh();
+        cinemaLocator.rebuild();
     }
 
     @Test
@@ -173,6 +209,85 @@ class ShowtimeControllerIntegrationTest {
         assertThat(content).hasSize(1);
     }
 
+    @Test
+    void getAllShowtimes_ShouldNotIssueQueriesPerRow() {
+        seedShowtimesAcrossMovies(10);
+        Statistics statistics = resetStatistics();
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            baseUrl + "?page=0&size=20",
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) response.getBody().get("content")).hasSize(11);
+        // page query + count query, no matter how many movies, cinemas or screens are on the page
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getManagedShowtimesByCinema_ShouldNotIssueQueriesPerRow() {
+        seedShowtimesAcrossMovies(10);
+        Statistics statistics = resetStatistics();
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            baseUrl + "/managed/" + testCinema.getId() + "?page=0&size=20",
+            HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(managerToken)),
+            new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) response.getBody().get("content")).hasSize(11);
+        // principal lookup + ownership check + page query + count query
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void optimizeSchedule_WithoutApply_ShouldProposeShowtimesOnly() {
+        ScheduleOptimizationRequest request = optimizationRequest(false);
+
+        ResponseEntity<ScheduleOptimizationResponse> response = restTemplate.exchange(
+            baseUrl + "/optimize",
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            ScheduleOptimizationResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).isNull();
+        // 10:00 to 22:00 fits five 120 minute screenings with a 20 minute buffer
+        assertThat(response.getBody().showtimes()).hasSize(5)
+            .allSatisfy(showtime -> assertThat(showtime.screenId()).isEqualTo(testScreen.getId()));
+        assertThat(showtimeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void optimizeSchedule_WithApply_ShouldCreateShowtimes() {
+        ResponseEntity<ScheduleOptimizationResponse> response = restTemplate.exchange(
+            baseUrl + "/optimize",
+            HttpMethod.POST,
+            new HttpEntity<>(optimizationRequest(true), createAuthHeaders(managerToken)),
+            ScheduleOptimizationResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created().created()).hasSize(response.getBody().showtimes().size());
+        assertThat(response.getBody().created().conflicts()).isEmpty();
+    }
+
+    @Test
+    void optimizeSchedule_AsUser_ShouldReturnForbidden() {
+        ResponseEntity<String> response = restTemplate.exchange(
+            baseUrl + "/optimize",
+            HttpMethod.POST,
+            new HttpEntity<>(optimizationRequest(false), createAuthHeaders(userToken)),
+            String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
     @Test
     void getShowtimeById_WithExistingId_ShouldReturnShowtime() {
         ResponseEntity<ShowtimeResponse> response = restTemplate.getForEntity(
@@ -249,6 +364,88 @@ class ShowtimeControllerIntegrationTest {
         assertThat(content).hasSize(1);
     }
 
+    @Test
+    void getUpcomingShowtimes_ShouldBeServedFromSnapshot() {
+        Statistics statistics = resetStatistics();
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            baseUrl + "/now?genre=action&page=0&size=10",
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) response.getBody().get("content")).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void getUpcomingShowtimes_AfterShowtimeCreated_ShouldIncludeNewMovie() {
+        Movie newMovie = movieRepository.save(createTestMovie("New Release", "Comedy", "PG", 100));
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        CreateShowtimeRequest request = new CreateShowtimeRequest(
+            newMovie.getId(), testScreen.getId(), start, start.plusHours(2), new BigDecimal("15.00"));
+        restTemplate.exchange(baseUrl, HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)), ShowtimeResponse.class);
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            baseUrl + "/now?title=release&page=0&size=10",
+            HttpMethod.GET,
+            null,
+            new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((List<?>) response.getBody().get("content")).hasSize(1);
+    }
+
+    @Test
+    void getNearestCinemas_ShouldReturnCinemasShowingMovieByDistance() {
+        Cinema farCinema = cinemaRepository.save(createTestCinema("Far Cinema", "1 Boston St", "555-000-0001", testManager));
+        farCinema.setLatitude(42.3601);
+        farCinema.setLongitude(-71.0589);
+        cinemaRepository.save(farCinema);
+        Screen farScreen = screenRepository.save(createTestScreen("Far Screen", 1, 1, farCinema));
+        showtimeRepository.save(createTestShowtime(testMovie, farScreen,
+            LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2)));
+
+        // closest of all, but not showing the movie
+        Cinema idleCinema = createTestCinema("Idle Cinema", "2 Broadway", "555-000-0002", testManager);
+        idleCinema.setLatitude(40.7500);
+        idleCinema.setLongitude(-73.9900);
+        cinemaRepository.save(idleCinema);
+        cinemaLocator.rebuild();
+
+        ResponseEntity<List<NearbyCinemaCard>> response = restTemplate.exchange(
+            baseUrl + "/movie/" + testMovie.getId() + "/cinemas/nearby?lat=40.7484&lon=-73.9857&radiusKm=500",
+            HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(userToken)),
+            new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(NearbyCinemaCard::name)
+            .containsExactly("Test Cinema", "Far Cinema");
+        assertThat(response.getBody().getFirst().distanceKm()).isBetween(3.0, 5.0);
+
+        ResponseEntity<List<NearbyCinemaCard>> withinRadius = restTemplate.exchange(
+            baseUrl + "/movie/" + testMovie.getId() + "/cinemas/nearby?lat=40.7484&lon=-73.9857&radiusKm=50",
+            HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(userToken)),
+            new ParameterizedTypeReference<>() {});
+
+        assertThat(withinRadius.getBody()).extracting(NearbyCinemaCard::name).containsExactly("Test Cinema");
+    }
+
+    @Test
+    void getNearestCinemas_WithInvalidCoordinates_ShouldReturnBadRequest() {
+        ResponseEntity<String> response = restTemplate.exchange(
+            baseUrl + "/movie/" + testMovie.getId() + "/cinemas/nearby?lat=95&lon=0",
+            HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(userToken)),
+            String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void getShowtimeHostingCinemas_WithValidMovieId_ShouldReturnCinemas() {
         HttpHeaders headers = createAuthHeaders(userToken);
@@ -350,6 +547,120 @@ class ShowtimeControllerIntegrationTest {
         assertThat(response.getBody().showtimeId()).isEqualTo(testShowtime.getId());
     }
 
+    @Test
+    void getShowtimeLayoutById_WithInitializedSeats_ShouldReturnAllSeats() {
+        CreateShowtimeRequest request = new CreateShowtimeRequest(
+            testMovie.getId(),
+            testScreen.getId(),
+            LocalDateTime.now().plusDays(2),
+            LocalDateTime.now().plusDays(2).plusHours(2),
+            new BigDecimal("18.00")
+        );
+        ResponseEntity<ShowtimeResponse> created = restTemplate.exchange(
+            baseUrl,
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            ShowtimeResponse.class);
+        assertThat(created.getBody()).isNotNull();
+
+        ResponseEntity<ShowtimeLayoutResponse> response = restTemplate.exchange(
+            baseUrl + "/" + created.getBody().id() + "/layout",
+            HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(userToken)),
+            ShowtimeLayoutResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().showtimeId()).isEqualTo(created.getBody().id());
+        assertThat(response.getBody().seatResponses()).hasSize(150);
+        BookedSeatResponse first = response.getBody().seatResponses().get(0);
+        assertThat(first.seatNumber()).isEqualTo("A1");
+        assertThat(first.price()).isEqualByComparingTo("18.00");
+    }
+
+    @Test
+    void getShowtimeLayoutById_WithNonExistentId_ShouldReturnNotFound() {
+        ResponseEntity<String> response = restTemplate.exchange(
+            baseUrl + "/" + UUID.randomUUID() + "/layout",
+            HttpMethod.GET,
+            new HttpEntity<>(createAuthHeaders(userToken)),
+            String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getMovieSchedule_WithUpcomingShowtime_ShouldReturnScheduleTree() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+
+        ResponseEntity<MovieScheduleResponse> response = restTemplate.exchange(
+            baseUrl + "/movie/" + testMovie.getId() + "/schedule",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            MovieScheduleResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().cinemas()).hasSize(1);
+
+        ScheduleCinemaNode cinema = response.getBody().cinemas().get(0);
+        assertThat(cinema.cinemaId()).isEqualTo(testCinema.getId());
+        assertThat(cinema.dates()).hasSize(1);
+        assertThat(cinema.dates().get(0).date()).isEqualTo(testShowtime.getStartTime().toLocalDate());
+
+        ScheduleTimeNode time = cinema.dates().get(0).times().get(0);
+        assertThat(time.screens()).hasSize(1);
+        assertThat(time.screens().get(0).screenId()).isEqualTo(testScreen.getId());
+        assertThat(time.screens().get(0).showtimeId()).isEqualTo(testShowtime.getId());
+    }
+
+    @Test
+    void getMovieSchedule_AfterCreatingShowtime_ShouldNotServeStaleSchedule() {
+        HttpHeaders userHeaders = createAuthHeaders(userToken);
+        String scheduleUrl = baseUrl + "/movie/" + testMovie.getId() + "/schedule";
+
+        ResponseEntity<MovieScheduleResponse> before = restTemplate.exchange(
+            scheduleUrl, HttpMethod.GET, new HttpEntity<>(userHeaders), MovieScheduleResponse.class);
+        assertThat(before.getBody()).isNotNull();
+        assertThat(before.getBody().cinemas().get(0).dates()).hasSize(1);
+
+        CreateShowtimeRequest request = new CreateShowtimeRequest(
+            testMovie.getId(),
+            testScreen.getId(),
+            LocalDateTime.now().plusDays(2),
+            LocalDateTime.now().plusDays(2).plusHours(2),
+            new BigDecimal("18.00")
+        );
+        ResponseEntity<ShowtimeResponse> created = restTemplate.exchange(
+            baseUrl,
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            ShowtimeResponse.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        ResponseEntity<MovieScheduleResponse> after = restTemplate.exchange(
+            scheduleUrl, HttpMethod.GET, new HttpEntity<>(userHeaders), MovieScheduleResponse.class);
+        assertThat(after.getBody()).isNotNull();
+        assertThat(after.getBody().cinemas().get(0).dates()).hasSize(2);
+    }
+
+    @Test
+    void getMovieSchedule_WithNonExistentMovieId_ShouldReturnNotFound() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            baseUrl + "/movie/" + UUID.randomUUID() + "/schedule",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
     @Test
     void createShowtime_WithValidRequest_ShouldCreateShowtime() {
         CreateShowtimeRequest request = new CreateShowtimeRequest(
@@ -413,6 +724,124 @@ class ShowtimeControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
     }
 
+    @Test
+    void createShowtimes_WithNonConflictingBatch_ShouldCreateShowtimesAndSeats() {
+        LocalDateTime base = LocalDateTime.now().plusDays(3).withHour(12).withMinute(0).withSecond(0).withNano(0);
+        BulkShowtimeRequest request = new BulkShowtimeRequest(List.of(
+            bulkItem(base, base.plusHours(2)),
+            bulkItem(base.plusHours(3), base.plusHours(5)),
+            bulkItem(base.plusDays(1), base.plusDays(1).plusHours(2))
+        ), false);
+
+        ResponseEntity<BulkShowtimeResponse> response = restTemplate.exchange(
+            baseUrl + "/bulk",
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            BulkShowtimeResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).hasSize(3);
+        assertThat(response.getBody().conflicts()).isEmpty();
+        assertThat(showtimeRepository.count()).isEqualTo(4);
+        UUID createdId = response.getBody().created().get(0).id();
+        assertThat(bookingSeatRepository.findByShowtimeId(createdId)).hasSize(150);
+    }
+
+    @Test
+    void createShowtimes_WithConflicts_ShouldRejectWholeBatch() {
+        LocalDateTime base = LocalDateTime.now().plusDays(3).withHour(12).withMinute(0).withSecond(0).withNano(0);
+        BulkShowtimeRequest request = new BulkShowtimeRequest(List.of(
+            bulkItem(testShowtime.getStartTime().plusMinutes(30), testShowtime.getEndTime().plusMinutes(30)),
+            bulkItem(base, base.plusHours(2)),
+            bulkItem(base.plusHours(1), base.plusHours(3))
+        ), false);
+
+        ResponseEntity<BulkShowtimeResponse> response = restTemplate.exchange(
+            baseUrl + "/bulk",
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            BulkShowtimeResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).isEmpty();
+        assertThat(response.getBody().conflicts()).hasSize(2);
+        assertThat(response.getBody().conflicts().get(0).conflictingShowtimeId()).isEqualTo(testShowtime.getId());
+        assertThat(response.getBody().conflicts().get(1).conflictingIndex()).isEqualTo(1);
+        assertThat(showtimeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createShowtimes_WithSkipConflicts_ShouldCreateNonConflictingShowtimes() {
+        LocalDateTime base = LocalDateTime.now().plusDays(3).withHour(12).withMinute(0).withSecond(0).withNano(0);
+        BulkShowtimeRequest request = new BulkShowtimeRequest(List.of(
+            bulkItem(base, base.plusHours(2)),
+            bulkItem(base.plusHours(1), base.plusHours(3))
+        ), true);
+
+        ResponseEntity<BulkShowtimeResponse> response = restTemplate.exchange(
+            baseUrl + "/bulk",
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            BulkShowtimeResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).hasSize(1);
+        assertThat(response.getBody().conflicts()).hasSize(1);
+        assertThat(showtimeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void createShowtimes_OverWithdrawnShowtime_ShouldNotConflict() {
+        testShowtime.setActive(false);
+        showtimeRepository.save(testShowtime);
+        BulkShowtimeRequest request = new BulkShowtimeRequest(List.of(
+            bulkItem(testShowtime.getStartTime().plusMinutes(30), testShowtime.getEndTime().plusMinutes(30))
+        ), false);
+
+        ResponseEntity<BulkShowtimeResponse> response = restTemplate.exchange(
+            baseUrl + "/bulk",
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            BulkShowtimeResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().created()).hasSize(1);
+        assertThat(response.getBody().conflicts()).isEmpty();
+    }
+
+    @Test
+    void createShowtimes_WithFirstShowtimesOfMovieAtCinema_ShouldNotifyWatchersOnce() {
+        Movie premiere = movieRepository.save(createTestMovie("Premiere", "Drama", "PG", 100));
+        WatchlistEntry entry = new WatchlistEntry();
+        entry.setUser(testUser);
+        entry.setMovie(premiere);
+        watchlistRepository.save(entry);
+        LocalDateTime base = LocalDateTime.now().plusDays(3).withHour(12).withMinute(0).withSecond(0).withNano(0);
+        BulkShowtimeRequest request = new BulkShowtimeRequest(List.of(
+            new CreateShowtimeRequest(premiere.getId(), testScreen.getId(), base.plusHours(3), base.plusHours(5),
+                new BigDecimal("15.00")),
+            new CreateShowtimeRequest(premiere.getId(), testScreen.getId(), base, base.plusHours(2),
+                new BigDecimal("15.00")),
+            bulkItem(base.plusDays(1), base.plusDays(1).plusHours(2))
+        ), false);
+
+        ResponseEntity<BulkShowtimeResponse> response = restTemplate.exchange(
+            baseUrl + "/bulk",
+            HttpMethod.POST,
+            new HttpEntity<>(request, createAuthHeaders(managerToken)),
+            BulkShowtimeResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        // the test movie already plays at the cinema, only the premiere is announced, with its earliest showtime
+        verify(emailService, timeout(5000)).sendShowtimeAnnouncementEmail(
+            List.of("user@example.com"), "Premiere", "Test Cinema", base);
+        verify(emailService, after(500).times(1)).sendShowtimeAnnouncementEmail(any(), any(), any(), any());
+    }
+
     @Test
     void updateShowtime_WithValidRequest_ShouldUpdateShowtime() {
         UpdateShowtimeRequest request = new UpdateShowtimeRequest(
@@ -478,17 +907,19 @@ class ShowtimeControllerIntegrationTest {
     }
 
     @Test
-    void deleteShowtime_WithValidId_ShouldDeleteShowtime() {
+    void deleteShowtime_WithValidId_ShouldDeleteShowtime() throws InterruptedException {
         HttpHeaders headers = createAuthHeaders(managerToken);
 
-        ResponseEntity<Void> response = restTemplate.exchange(
+        ResponseEntity<JobResponse> response = restTemplate.exchange(
             baseUrl + "/" + testShowtime.getId(),
             HttpMethod.DELETE,
             new HttpEntity<>(headers),
-            Void.class
+            JobResponse.class
         );
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(awaitJob(response.getBody().id()).status()).isEqualTo(JobStatus.COMPLETED);
 
         // verify showtime is deleted
         ResponseEntity<String> getResponse = restTemplate.getForEntity(
@@ -576,7 +1007,7 @@ class ShowtimeControllerIntegrationTest {
         for (char row = 'A'; row <= 'J'; row++) {
             for (int number = 1; number <= 15; number++) {
                 Seat seat = new Seat();
-                seat.setRowNumber(row);
+                seat.setRowNumber(String.valueOf(row));
                 seat.setColNumber(number);
                 seat.setSeatNumber(row + String.valueOf(number));
                 seat.setType(SeatType.STANDARD);
@@ -598,6 +1029,46 @@ class ShowtimeControllerIntegrationTest {
         return showtime;
     }
 
+    // each showtime gets its own movie so eager associations would cost a query per row
+    private void seedShowtimesAcrossMovies(int count) {
+        for (int i = 0; i < count; i++) {
+            Movie movie = movieRepository.save(createTestMovie("Movie " + i, "Drama", "PG", 90));
+            LocalDateTime start = LocalDateTime.now().plusDays(2 + i);
+            showtimeRepository.save(createTestShowtime(movie, testScreen, start, start.plusHours(2)));
+        }
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    // a day far enough ahead that the fixture showtime cannot fall into it
+    private ScheduleOptimizationRequest optimizationRequest(boolean apply) {
+        return new ScheduleOptimizationRequest(testCinema.getId(), LocalDate.now().plusDays(3), 1,
+            LocalTime.of(10, 0), LocalTime.of(22, 0), 20,
+            List.of(new MovieDemand(testMovie.getId(), 1.0)), new BigDecimal("15.00"), apply);
+    }
+
+    private CreateShowtimeRequest bulkItem(LocalDateTime startTime, LocalDateTime endTime) {
+        return new CreateShowtimeRequest(testMovie.getId(), testScreen.getId(), startTime, endTime, new BigDecimal("15.00"));
+    }
+
+    private JobResponse awaitJob(UUID jobId) throws InterruptedException {
+        String jobUrl = "http://localhost:" + port + "/api/jobs/" + jobId;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            ResponseEntity<JobResponse> response = restTemplate.exchange(
+                    jobUrl, HttpMethod.GET, new HttpEntity<>(createAuthHeaders(managerToken)), JobResponse.class);
+            JobResponse job = response.getBody();
+            if (job != null && (job.status() == JobStatus.COMPLETED || job.status() == JobStatus.FAILED)) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish in time");
+    }
+
     private HttpHeaders createAuthHeaders(String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
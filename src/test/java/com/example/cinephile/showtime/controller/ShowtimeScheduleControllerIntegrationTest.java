@@ -0,0 +1,310 @@
+package com.example.cinephile.showtime.controller;
+
+import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.auth.util.JwtUtil;
+import com.example.cinephile.booking.repository.BookingSeatRepository;
+import com.example.cinephile.cinema.entity.Cinema;
+import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.entity.Seat;
+import com.example.cinephile.cinema.entity.SeatType;
+import com.example.cinephile.cinema.repository.CinemaRepository;
+import com.example.cinephile.cinema.repository.ScreenRepository;
+import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.dto.CreateShowtimeScheduleRequest;
+import com.example.cinephile.showtime.dto.ShowtimeScheduleResponse;
+import com.example.cinephile.showtime.dto.UpdateShowtimeScheduleRequest;
+import com.example.cinephile.showtime.entity.Showtime;
+import com.example.cinephile.showtime.repository.ShowtimeRepository;
+import com.example.cinephile.showtime.repository.ShowtimeScheduleRepository;
+import com.example.cinephile.showtime.service.ShowtimeScheduleMaterializer;
+import com.example.cinephile.user.entity.Role;
+import com.example.cinephile.user.entity.User;
+import com.example.cinephile.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ShowtimeScheduleControllerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private CinemaRepository cinemaRepository;
+
+    @Autowired
+    private ScreenRepository screenRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private ShowtimeScheduleRepository scheduleRepository;
+
+    @Autowired
+    private BookingSeatRepository bookingSeatRepository;
+
+    @Autowired
+    private ShowtimeScheduleMaterializer materializer;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String baseUrl;
+    private Movie testMovie;
+    private Screen testScreen;
+    private Cinema testCinema;
+    private String managerToken;
+    private String otherManagerToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/showtimes/schedules";
+        cleanUp();
+
+        User testManager = createTestUser("manager@example.com", Role.MANAGER);
+        User otherManager = createTestUser("other.manager@example.com", Role.MANAGER);
+        User testUser = createTestUser("user@example.com", Role.USER);
+        userRepository.saveAll(List.of(testManager, otherManager, testUser));
+
+        testMovie = new Movie();
+        testMovie.setTitle("Test Movie");
+        testMovie.setImdbId("tt0000001");
+        testMovie.setRuntime(120);
+        movieRepository.save(testMovie);
+
+        testCinema = new Cinema();
+        testCinema.setName("Test Cinema");
+        testCinema.setAddress("123 Test St");
+        testCinema.setPhone("123-456-7890");
+        testCinema.setManager(testManager);
+        testCinema.setActive(true);
+        cinemaRepository.save(testCinema);
+
+        testScreen = new Screen();
+        testScreen.setName("Screen 1");
+        testScreen.setCinema(testCinema);
+        testScreen.setCapacity(10);
+        testScreen.setActive(true);
+        screenRepository.save(testScreen);
+
+        for (int number = 1; number <= 10; number++) {
+            Seat seat = new Seat();
+            seat.setRowNumber("A");
+            seat.setColNumber(number);
+            seat.setSeatNumber("A" + number);
+            seat.setType(SeatType.STANDARD);
+            seat.setScreen(testScreen);
+            seat.setActive(true);
+            seatRepository.save(seat);
+        }
+
+        managerToken = jwtUtil.generateAccessToken(new AuthUser(testManager));
+        otherManagerToken = jwtUtil.generateAccessToken(new AuthUser(otherManager));
+        userToken = jwtUtil.generateAccessToken(new AuthUser(testUser));
+    }
+
+    // schedules reference cinemas and movies, so leave nothing behind for other test classes
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void createSchedule_ShouldMaterializeInitialWindowOnly() {
+        ResponseEntity<ShowtimeScheduleResponse> response = createSchedule(
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), managerToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().showTimes()).containsExactly(LocalTime.of(10, 0), LocalTime.of(18, 0));
+        assertThat(response.getBody().materializedUntil()).isEqualTo(LocalDate.now().plusDays(1));
+        assertThat(response.getBody().active()).isTrue();
+
+        List<Showtime> showtimes = showtimeRepository.findAll();
+        assertThat(showtimes).hasSize(2);
+        assertThat(showtimes).allSatisfy(showtime -> {
+            assertThat(showtime.getStartTime().toLocalDate()).isEqualTo(LocalDate.now().plusDays(1));
+            assertThat(showtime.getEndTime()).isEqualTo(showtime.getStartTime().plusMinutes(120));
+        });
+        assertThat(bookingSeatRepository.count()).isEqualTo(20);
+    }
+
+    @Test
+    void materializer_ShouldExtendSchedulesUpToEndDate() {
+        createSchedule(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), managerToken);
+
+        materializer.materializeDueSchedules();
+
+        assertThat(showtimeRepository.count()).isEqualTo(20);
+        assertThat(scheduleRepository.findAll().getFirst().getMaterializedUntil())
+                .isEqualTo(LocalDate.now().plusDays(10));
+
+        // a second run finds nothing due and creates nothing
+        materializer.materializeDueSchedules();
+        assertThat(showtimeRepository.count()).isEqualTo(20);
+    }
+
+    @Test
+    void updateSchedule_ShouldRegenerateUnsoldShowtimes() {
+        ShowtimeScheduleResponse created = createSchedule(
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), managerToken).getBody();
+        assertThat(created).isNotNull();
+        materializer.materializeDueSchedules();
+
+        UpdateShowtimeScheduleRequest request = new UpdateShowtimeScheduleRequest(
+                LocalDate.now().plusDays(5), List.of(LocalTime.of(12, 0)), new BigDecimal("12.50"));
+        ResponseEntity<ShowtimeScheduleResponse> response = restTemplate.exchange(
+                baseUrl + "/" + created.id(),
+                HttpMethod.PUT,
+                new HttpEntity<>(request, createAuthHeaders(managerToken)),
+                ShowtimeScheduleResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().endDate()).isEqualTo(LocalDate.now().plusDays(5));
+        assertThat(response.getBody().showTimes()).containsExactly(LocalTime.of(12, 0));
+
+        List<Showtime> showtimes = showtimeRepository.findAll();
+        assertThat(showtimes).hasSize(1);
+        assertThat(showtimes.getFirst().getStartTime().toLocalTime()).isEqualTo(LocalTime.of(12, 0));
+        assertThat(bookingSeatRepository.findAll())
+                .allSatisfy(seat -> assertThat(seat.getPrice()).isEqualByComparingTo("12.50"));
+    }
+
+    @Test
+    void deleteSchedule_ShouldDeactivateAndRemoveUnsoldShowtimes() {
+        ShowtimeScheduleResponse created = createSchedule(
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), managerToken).getBody();
+        assertThat(created).isNotNull();
+
+        ResponseEntity<Void> response = restTemplate.exchange(
+                baseUrl + "/" + created.id(),
+                HttpMethod.DELETE,
+                new HttpEntity<>(createAuthHeaders(managerToken)),
+                Void.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(showtimeRepository.count()).isZero();
+        assertThat(scheduleRepository.findById(created.id())).get()
+                .satisfies(schedule -> assertThat(schedule.isActive()).isFalse());
+
+        materializer.materializeDueSchedules();
+        assertThat(showtimeRepository.count()).isZero();
+    }
+
+    @Test
+    void getManagedSchedulesByCinema_ShouldListCinemaSchedules() {
+        createSchedule(LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), managerToken);
+
+        ResponseEntity<List<ShowtimeScheduleResponse>> response = restTemplate.exchange(
+                baseUrl + "/cinema/" + testCinema.getId(),
+                HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(managerToken)),
+                new ParameterizedTypeReference<>() {});
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().getFirst().movieTitle()).isEqualTo("Test Movie");
+    }
+
+    @Test
+    void createSchedule_WithEndBeforeStart_ShouldReturnBadRequest() {
+        ResponseEntity<ShowtimeScheduleResponse> response = createSchedule(
+                LocalDate.now().plusDays(5), LocalDate.now().plusDays(1), managerToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(scheduleRepository.count()).isZero();
+    }
+
+    @Test
+    void createSchedule_ForAnotherManagersCinema_ShouldReturnNotFound() {
+        ResponseEntity<ShowtimeScheduleResponse> response = createSchedule(
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), otherManagerToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(showtimeRepository.count()).isZero();
+    }
+
+    @Test
+    void createSchedule_AsUser_ShouldReturnForbidden() {
+        ResponseEntity<ShowtimeScheduleResponse> response = createSchedule(
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(10), userToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    private ResponseEntity<ShowtimeScheduleResponse> createSchedule(LocalDate startDate, LocalDate endDate, String token) {
+        CreateShowtimeScheduleRequest request = new CreateShowtimeScheduleRequest(
+                testMovie.getId(), testScreen.getId(), startDate, endDate,
+                List.of(LocalTime.of(18, 0), LocalTime.of(10, 0)), new BigDecimal("15.00"));
+        return restTemplate.exchange(
+                baseUrl,
+                HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders(token)),
+                ShowtimeScheduleResponse.class);
+    }
+
+    private void cleanUp() {
+        bookingSeatRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        seatRepository.deleteAll();
+        screenRepository.deleteAll();
+        cinemaRepository.deleteAll();
+        movieRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private User createTestUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Test " + role);
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setRole(role);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private HttpHeaders createAuthHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
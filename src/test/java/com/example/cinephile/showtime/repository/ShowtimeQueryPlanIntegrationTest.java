@@ -0,0 +1,177 @@
+package com.example.cinephile.showtime.repository;
+
+import com.example.cinephile.booking.repository.BookingRepository;
+import com.example.cinephile.booking.repository.BookingSeatRepository;
+import com.example.cinephile.cinema.entity.Cinema;
+import com.example.cinephile.cinema.entity.Screen;
+import com.example.cinephile.cinema.repository.CinemaRepository;
+import com.example.cinephile.cinema.repository.ScreenRepository;
+import com.example.cinephile.cinema.repository.SeatRepository;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.showtime.entity.Showtime;
+import com.example.cinephile.user.entity.Role;
+import com.example.cinephile.user.entity.User;
+import com.example.cinephile.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ShowtimeQueryPlanIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private CinemaRepository cinemaRepository;
+
+    @Autowired
+    private ScreenRepository screenRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingSeatRepository bookingSeatRepository;
+
+    private Movie movie;
+    private Cinema cinema;
+    private Showtime showtime;
+
+    @BeforeEach
+    void setUp() {
+        bookingSeatRepository.deleteAll();
+        bookingRepository.deleteAll();
+        showtimeRepository.deleteAll();
+        seatRepository.deleteAll();
+        screenRepository.deleteAll();
+        cinemaRepository.deleteAll();
+        movieRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User manager = new User();
+        manager.setEmail("manager@example.com");
+        manager.setName("Test Manager");
+        manager.setPassword("password123");
+        manager.setRole(Role.MANAGER);
+        manager.setEnabled(true);
+        userRepository.save(manager);
+
+        movie = new Movie();
+        movie.setTitle("Plan Movie");
+        movie.setPlot("Plot");
+        movie.setImdbId("tt0000001");
+        movie.setPosterUrl("http://test.poster/plan");
+        movie.setRuntime(120);
+        movie.setYear(2023);
+        movie.setGenre("Drama");
+        movieRepository.save(movie);
+
+        cinema = new Cinema();
+        cinema.setName("Plan Cinema");
+        cinema.setAddress("1 Plan St");
+        cinema.setPhone("123");
+        cinema.setManager(manager);
+        cinemaRepository.save(cinema);
+
+        Screen screen = new Screen();
+        screen.setName("Screen 1");
+        screen.setCinema(cinema);
+        screen.setCapacity(0);
+        screenRepository.save(screen);
+
+        // spread showtimes over several days so the day predicate is selective
+        LocalDateTime base = LocalDate.now().plusDays(1).atTime(10, 0);
+        for (int day = 0; day < 10; day++) {
+            for (int slot = 0; slot < 4; slot++) {
+                Showtime st = new Showtime();
+                st.setMovie(movie);
+                st.setCinema(cinema);
+                st.setScreen(screen);
+                st.setStartTime(base.plusDays(day).plusHours(slot * 3L));
+                st.setEndTime(base.plusDays(day).plusHours(slot * 3L + 2));
+                showtimeRepository.save(st);
+                if (showtime == null) {
+                    showtime = st;
+                }
+            }
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE showtimes, booking_seats, bookings");
+    }
+
+    @Test
+    void viewingTimesByDay_ShouldUseMovieCinemaDateIndex() {
+        Map<String, Object> plan = explain("""
+                SELECT DISTINCT start_time FROM showtimes
+                WHERE movie_id = ? AND cinema_id = ? AND show_date = ? AND is_active = true AND start_time >= ?
+                ORDER BY start_time
+                """, movie.getId().toString(), cinema.getId().toString(),
+                showtime.getStartTime().toLocalDate(), LocalDateTime.now());
+
+        assertThat(plan.get("key")).isEqualTo("idx_showtimes_movie_cinema_date");
+    }
+
+    @Test
+    void showDate_ShouldBeGeneratedFromStartTime() {
+        LocalDate showDate = jdbcTemplate.queryForObject(
+                "SELECT show_date FROM showtimes WHERE id = ?", LocalDate.class, showtime.getId().toString());
+
+        assertThat(showDate).isEqualTo(showtime.getStartTime().toLocalDate());
+    }
+
+    @Test
+    void seatStatusByShowtime_ShouldHaveShowtimeStatusIndexAvailable() {
+        Map<String, Object> plan = explain(
+                "SELECT COUNT(*) FROM booking_seats WHERE showtime_id = ? AND status = 'AVAILABLE'",
+                showtime.getId().toString());
+
+        assertThat((String) plan.get("possible_keys")).contains("idx_booking_seats_showtime_status");
+    }
+
+    @Test
+    void expiredPendingBookings_ShouldHaveStatusExpiresIndexAvailable() {
+        Map<String, Object> plan = explain(
+                "SELECT id FROM bookings WHERE status = 'PENDING' AND expires_at < ?", LocalDateTime.now());
+
+        assertThat((String) plan.get("possible_keys")).contains("idx_bookings_status_expires");
+    }
+
+    @Test
+    void userBookingHistory_ShouldHaveUserCreatedIndexAvailable() {
+        Map<String, Object> plan = explain(
+                "SELECT id FROM bookings WHERE user_id = ? ORDER BY created_at DESC", "user-id");
+
+        assertThat((String) plan.get("possible_keys")).contains("idx_bookings_user_created");
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertThat(rows).isNotEmpty();
+        return rows.get(0);
+    }
+}
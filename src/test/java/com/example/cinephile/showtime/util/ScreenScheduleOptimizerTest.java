@@ -0,0 +1,114 @@
+package com.example.cinephile.showtime.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScreenScheduleOptimizerTest {
+    private static final int CLEANING = 20;
+
+    @Test
+    void optimize_ShouldSpreadDemandAcrossFilms() {
+        List<ScreenScheduleOptimizer.Film> films = List.of(
+                new ScreenScheduleOptimizer.Film(120, 10.0),
+                new ScreenScheduleOptimizer.Film(95, 6.0),
+                new ScreenScheduleOptimizer.Film(150, 4.0)
+        );
+        List<ScreenScheduleOptimizer.Window> windows = List.of(
+                new ScreenScheduleOptimizer.Window(0, 0, 10 * 60, 23 * 60),
+                new ScreenScheduleOptimizer.Window(1, 0, 10 * 60, 23 * 60)
+        );
+
+        ScreenScheduleOptimizer.Result result = new ScreenScheduleOptimizer(films, CLEANING, 5).optimize(windows, 1);
+
+        assertThat(result.placements()).extracting(ScreenScheduleOptimizer.Placement::film)
+                .contains(0, 1, 2);
+        assertValid(films, windows, result);
+    }
+
+    @Test
+    void optimize_ThirtyScreensForAWeek_ShouldFillEveryDayWithValidScreenings() {
+        List<ScreenScheduleOptimizer.Film> films = weekOfFilms();
+        List<ScreenScheduleOptimizer.Window> windows = thirtyScreensForAWeek();
+
+        ScreenScheduleOptimizer.Result result = new ScreenScheduleOptimizer(films, CLEANING, 5).optimize(windows, 7);
+
+        assertThat(result.placements()).hasSizeGreaterThan(30 * 7 * 5);
+        assertValid(films, windows, result);
+    }
+
+    // reports the time instead of asserting it, a shared CI runner is too noisy to gate a build on
+    @Test
+    @Tag("benchmark")
+    void optimize_ThirtyScreensForAWeek_Benchmark() {
+        ScreenScheduleOptimizer optimizer = new ScreenScheduleOptimizer(weekOfFilms(), CLEANING, 5);
+        List<ScreenScheduleOptimizer.Window> windows = thirtyScreensForAWeek();
+        for (int i = 0; i < 3; i++) {
+            optimizer.optimize(windows, 7); // warm-up
+        }
+
+        long[] millis = new long[10];
+        for (int i = 0; i < millis.length; i++) {
+            long started = System.nanoTime();
+            optimizer.optimize(windows, 7);
+            millis[i] = (System.nanoTime() - started) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        System.out.printf("ScreenScheduleOptimizer 30 screens x 7 days: median %d ms, max %d ms over %d runs%n",
+                millis[millis.length / 2], millis[millis.length - 1], millis.length);
+    }
+
+    private static List<ScreenScheduleOptimizer.Film> weekOfFilms() {
+        List<ScreenScheduleOptimizer.Film> films = new ArrayList<>();
+        for (int f = 0; f < 12; f++) {
+            films.add(new ScreenScheduleOptimizer.Film(85 + f * 7, 20.0 - f));
+        }
+        return films;
+    }
+
+    private static List<ScreenScheduleOptimizer.Window> thirtyScreensForAWeek() {
+        List<ScreenScheduleOptimizer.Window> windows = new ArrayList<>();
+        for (int screen = 0; screen < 30; screen++) {
+            for (int day = 0; day < 7; day++) {
+                // some screens have an existing showtime splitting the day in two
+                if (screen % 5 == 0) {
+                    windows.add(new ScreenScheduleOptimizer.Window(screen, day, 10 * 60, 14 * 60));
+                    windows.add(new ScreenScheduleOptimizer.Window(screen, day, 17 * 60, 24 * 60 + 30));
+                } else {
+                    windows.add(new ScreenScheduleOptimizer.Window(screen, day, 10 * 60, 24 * 60 + 30));
+                }
+            }
+        }
+        return windows;
+    }
+
+    // every screening sits inside its window and consecutive screenings keep the cleaning buffer
+    private void assertValid(List<ScreenScheduleOptimizer.Film> films, List<ScreenScheduleOptimizer.Window> windows,
+                             ScreenScheduleOptimizer.Result result) {
+        Map<Integer, List<ScreenScheduleOptimizer.Placement>> byWindow = result.placements().stream()
+                .collect(Collectors.groupingBy(ScreenScheduleOptimizer.Placement::window));
+        byWindow.forEach((w, placements) -> {
+            ScreenScheduleOptimizer.Window window = windows.get(w);
+            List<ScreenScheduleOptimizer.Placement> ordered = placements.stream()
+                    .sorted(Comparator.comparingInt(ScreenScheduleOptimizer.Placement::startMinute))
+                    .toList();
+            int previousEnd = Integer.MIN_VALUE;
+            for (ScreenScheduleOptimizer.Placement placement : ordered) {
+                int end = placement.startMinute() + films.get(placement.film()).runtimeMinutes();
+                assertThat(placement.startMinute()).isGreaterThanOrEqualTo(window.startMinute());
+                assertThat(placement.startMinute() % 5).isZero();
+                assertThat(end).isLessThanOrEqualTo(window.endMinute());
+                assertThat(placement.startMinute()).isGreaterThanOrEqualTo(previousEnd + CLEANING);
+                previousEnd = end;
+            }
+        });
+    }
+}
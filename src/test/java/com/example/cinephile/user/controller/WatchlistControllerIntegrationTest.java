@@ -0,0 +1,197 @@
+package com.example.cinephile.user.controller;
+
+import com.example.cinephile.auth.entity.AuthUser;
+import com.example.cinephile.auth.util.JwtUtil;
+import com.example.cinephile.movie.entity.Movie;
+import com.example.cinephile.movie.repository.MovieRepository;
+import com.example.cinephile.user.dto.Watcher;
+import com.example.cinephile.user.entity.Role;
+import com.example.cinephile.user.entity.User;
+import com.example.cinephile.user.entity.WatchlistEntry;
+import com.example.cinephile.user.repository.UserRepository;
+import com.example.cinephile.user.repository.WatchlistJdbcRepository;
+import com.example.cinephile.user.repository.WatchlistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class WatchlistControllerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private WatchlistRepository watchlistRepository;
+
+    @Autowired
+    private WatchlistJdbcRepository watchlistJdbcRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String baseUrl;
+    private User testUser;
+    private String userToken;
+    private Movie matrix;
+    private Movie inception;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/users/me/watchlist";
+
+        watchlistRepository.deleteAll();
+        movieRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.save(createTestUser("watcher@test.com", "Watcher", Role.USER));
+        userToken = jwtUtil.generateAccessToken(new AuthUser(testUser));
+        matrix = movieRepository.save(createTestMovie("The Matrix"));
+        inception = movieRepository.save(createTestMovie("Inception"));
+    }
+
+    @Test
+    void addToWatchlist_ShouldListMoviesNewestFirst() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+
+        ResponseEntity<Void> first = restTemplate.exchange(baseUrl + "/" + matrix.getId(),
+            HttpMethod.PUT, new HttpEntity<>(headers), Void.class);
+        restTemplate.exchange(baseUrl + "/" + inception.getId(), HttpMethod.PUT, new HttpEntity<>(headers), Void.class);
+        ResponseEntity<String> list = restTemplate.exchange(baseUrl, HttpMethod.GET,
+            new HttpEntity<>(headers), String.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(list.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(list.getBody()).contains("\"totalElements\":2");
+        assertThat(list.getBody().indexOf("Inception")).isLessThan(list.getBody().indexOf("The Matrix"));
+    }
+
+    @Test
+    void addToWatchlist_Twice_ShouldKeepOneEntry() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+
+        restTemplate.exchange(baseUrl + "/" + matrix.getId(), HttpMethod.PUT, new HttpEntity<>(headers), Void.class);
+        ResponseEntity<Void> again = restTemplate.exchange(baseUrl + "/" + matrix.getId(),
+            HttpMethod.PUT, new HttpEntity<>(headers), Void.class);
+
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(watchlistRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void addToWatchlist_WhenMovieNotExists_ShouldReturn404() {
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/" + UUID.randomUUID(),
+            HttpMethod.PUT, new HttpEntity<>(createAuthHeaders(userToken)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void removeFromWatchlist_ShouldDeleteEntry() {
+        HttpHeaders headers = createAuthHeaders(userToken);
+        restTemplate.exchange(baseUrl + "/" + matrix.getId(), HttpMethod.PUT, new HttpEntity<>(headers), Void.class);
+
+        ResponseEntity<Void> removed = restTemplate.exchange(baseUrl + "/" + matrix.getId(),
+            HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+        ResponseEntity<String> again = restTemplate.exchange(baseUrl + "/" + matrix.getId(),
+            HttpMethod.DELETE, new HttpEntity<>(headers), String.class);
+
+        assertThat(removed.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(watchlistRepository.count()).isZero();
+    }
+
+    @Test
+    void getWatchlist_WithoutToken_ShouldReturnUnauthorized() {
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl, String.class);
+
+        assertThat(response.getStatusCode()).isIn(HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void findWatchers_ShouldPageThroughEnabledWatchersOnly() {
+        List<User> watchers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            watchers.add(createTestUser("fan" + i + "@test.com", "Fan " + i, Role.USER));
+        }
+        User disabled = createTestUser("gone@test.com", "Gone", Role.USER);
+        disabled.setEnabled(false);
+        watchers.add(disabled);
+        userRepository.saveAll(watchers);
+        for (User watcher : watchers) {
+            WatchlistEntry entry = new WatchlistEntry();
+            entry.setUser(watcher);
+            entry.setMovie(matrix);
+            watchlistRepository.save(entry);
+        }
+
+        List<String> emails = new ArrayList<>();
+        UUID after = null;
+        List<Watcher> page;
+        do {
+            page = watchlistJdbcRepository.findWatchers(matrix.getId(), after, 2);
+            page.forEach(watcher -> emails.add(watcher.email()));
+            after = page.isEmpty() ? after : page.getLast().userId();
+        } while (page.size() == 2);
+
+        assertThat(emails).hasSize(5).doesNotHaveDuplicates().doesNotContain("gone@test.com");
+        assertThat(watchlistJdbcRepository.findWatchers(inception.getId(), null, 2)).isEmpty();
+    }
+
+    // helper methods
+    private User createTestUser(String email, String name, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(name);
+        user.setPassword(passwordEncoder.encode("Password123"));
+        user.setRole(role);
+        user.setEnabled(true);
+        return user;
+    }
+
+    private HttpHeaders createAuthHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private Movie createTestMovie(String title) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setPlot("Test plot for " + title);
+        movie.setImdbId("tt" + (int) (Math.random() * 1_000_000));
+        movie.setPosterUrl("http://test.poster/" + title.replaceAll(" ", "").toLowerCase());
+        movie.setRuntime(120);
+        movie.setYear(2023);
+        movie.setGenre("Drama");
+        movie.setRated("PG-13");
+        movie.setRating(8.0);
+        return movie;
+    }
+}